@@ -0,0 +1,71 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.device.AdbExecutor;
+import com.mobile.automation.device.AdbShellChannel;
+import com.mobile.automation.device.ProcessAdbExecutor;
+import com.mobile.automation.fakes.FakeAdb;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ⏱️ ADB Channel Benchmark - Fork-per-command vs one persistent adb shell
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Sends the reset commands (force-stop, clear, reset-permissions) many times
+ * - Once through ProcessAdbExecutor (new adb process per command)
+ * - Once through AdbShellChannel (one shell, one batch per reset)
+ * - Prints total and average time for both
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Without arguments it runs against fake-adb.sh (no device needed)
+ * - Against a real device: java ... AdbChannelBenchmark adb emulator-5554 20
+ *   (careful: this really clears the app data of com.raising.prodigy)
+ */
+public class AdbChannelBenchmark {
+
+    private static final List<String> RESET_COMMANDS = Arrays.asList(
+        "am force-stop com.raising.prodigy",
+        "pm clear com.raising.prodigy",
+        "pm reset-permissions com.raising.prodigy");
+
+    public static void main(String[] args) throws Exception {
+        String adbPath = args.length > 0 ? args[0] : FakeAdb.install();
+        String serial = args.length > 1 ? args[1] : "emulator-5554";
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        System.out.println("⏱️ ADB benchmark: " + iterations + " resets via " + adbPath + " (" + serial + ")");
+
+        long forkNanos = run(new ProcessAdbExecutor(adbPath, serial), iterations, false);
+        long channelNanos;
+        try (AdbShellChannel channel = new AdbShellChannel(adbPath, serial, Duration.ofSeconds(30))) {
+            // Warm-up: start the shell so we measure steady-state commands
+            channel.shell("true");
+            channelNanos = run(channel, iterations, true);
+        }
+
+        print("fork per command ", forkNanos, iterations);
+        print("persistent shell ", channelNanos, iterations);
+        System.out.printf("🚀 Speed-up: %.1fx%n", (double) forkNanos / Math.max(1, channelNanos));
+    }
+
+    private static long run(AdbExecutor adb, int iterations, boolean batch) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (batch) {
+                adb.shellBatch(RESET_COMMANDS);
+            } else {
+                for (String command : RESET_COMMANDS) {
+                    adb.shell(command);
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void print(String label, long nanos, int iterations) {
+        System.out.printf("📊 %s total %6d ms, %7.2f ms per reset%n",
+            label, nanos / 1_000_000, nanos / 1_000_000.0 / iterations);
+    }
+}
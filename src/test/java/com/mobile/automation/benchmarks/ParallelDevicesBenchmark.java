@@ -0,0 +1,105 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.Device;
+import com.mobile.automation.driver.DeviceRegistry;
+import com.mobile.automation.driver.PooledSession;
+import com.mobile.automation.driver.SessionPool;
+import com.mobile.automation.driver.SessionPoolSettings;
+import com.mobile.automation.fakes.FakeDeviceFarmServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⏱️ Parallel Devices Benchmark - How suite time scales with the number of devices
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts a fake device farm (no emulator needed) with 1, 2 and 4 devices
+ * - Runs the same amount of simulated tests each time, one worker thread per device
+ * - Each simulated test checks out a session and sends a number of commands
+ * - Prints total time, tests per second and speed-up over one device
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Arguments: tests, commands per test, command latency in ms
+ *   e.g. java ... ParallelDevicesBenchmark 24 20 10
+ * - With enough devices the speed-up should be close to the device count
+ */
+public class ParallelDevicesBenchmark {
+
+    private static final int[] DEVICE_COUNTS = {1, 2, 4};
+
+    public static void main(String[] args) throws Exception {
+        int tests = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        int commandsPerTest = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        Duration commandLatency = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 10);
+
+        System.out.println("⏱️ Parallel benchmark: " + tests + " tests x " + commandsPerTest
+            + " commands, " + commandLatency.toMillis() + "ms per command");
+
+        long baseline = 0;
+        for (int devices : DEVICE_COUNTS) {
+            long nanos = run(devices, tests, commandsPerTest, commandLatency);
+            if (baseline == 0) {
+                baseline = nanos;
+            }
+            System.out.printf("📊 %d device(s): total %6d ms, %6.1f tests/s, speed-up %.2fx%n",
+                devices, nanos / 1_000_000, tests / (nanos / 1e9), (double) baseline / nanos);
+        }
+    }
+
+    private static long run(int deviceCount, int tests, int commandsPerTest, Duration commandLatency) throws Exception {
+        try (FakeDeviceFarmServer server = new FakeDeviceFarmServer(
+                FakeDeviceFarmServer.emulatorSerials(deviceCount), Duration.ofMillis(200), commandLatency)) {
+            server.start();
+
+            List<Device> devices = new ArrayList<>();
+            Map<String, SessionPool> pools = new HashMap<>();
+            List<String> serials = FakeDeviceFarmServer.emulatorSerials(deviceCount);
+            for (int i = 0; i < serials.size(); i++) {
+                Device device = new Device(serials.get(i), server.url().toString(), 8200 + i);
+                devices.add(device);
+                pools.put(device.getSerial(), new SessionPool(AppiumSessionFactory.forDevice(device),
+                    new SessionPoolSettings(1, Duration.ofMinutes(5), Duration.ofMinutes(30), Duration.ofSeconds(60), false)));
+            }
+            DeviceRegistry registry = new DeviceRegistry(devices, Duration.ofSeconds(60));
+
+            ExecutorService workers = Executors.newFixedThreadPool(deviceCount);
+            try {
+                long start = System.nanoTime();
+                List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < tests; t++) {
+                    results.add(workers.submit(() -> {
+                        Device device = registry.acquireForCurrentThread();
+                        try {
+                            SessionPool pool = pools.get(device.getSerial());
+                            PooledSession session = pool.checkout();
+                            try {
+                                for (int c = 0; c < commandsPerTest; c++) {
+                                    session.getDriver().getWindowHandle();
+                                }
+                            } finally {
+                                pool.release(session);
+                            }
+                        } finally {
+                            registry.releaseCurrentThread();
+                        }
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+                return System.nanoTime() - start;
+            } finally {
+                workers.shutdownNow();
+                pools.values().forEach(SessionPool::close);
+            }
+        }
+    }
+}
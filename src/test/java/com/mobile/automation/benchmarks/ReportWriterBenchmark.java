@@ -0,0 +1,130 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.utils.ReportFormat;
+import com.mobile.automation.utils.ReportWriter;
+import com.mobile.automation.utils.ResultStore;
+import com.mobile.automation.utils.TestResult;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⏱️ Report Writer Benchmark - How fast test results reach the report file
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Writes the same synthetic results (100k by default) four ways:
+ *   - the old generateReport() style: one unbuffered FileWriter.write per cell
+ *     and a new Date().toString() per row
+ *   - ReportWriter CSV and JSON Lines from one thread
+ *   - ResultStore with 4 producer threads (what parallel tests do)
+ * - Prints time, results per second and file size for each
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Arguments: number of results, e.g. java ... ReportWriterBenchmark 100000
+ */
+public class ReportWriterBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<TestResult> results = synthetic(count);
+        Path dir = Files.createTempDirectory("report-benchmark");
+        System.out.println("⏱️ Report benchmark: " + count + " results in " + dir);
+
+        report("old FileWriter", count, dir.resolve("old.csv"), () -> writeOldStyle(dir.resolve("old.csv"), results));
+        report("ReportWriter CSV", count, dir.resolve("new.csv"),
+            () -> writeWith(dir.resolve("new.csv"), ReportFormat.CSV, results));
+        report("ReportWriter JSONL", count, dir.resolve("new.jsonl"),
+            () -> writeWith(dir.resolve("new.jsonl"), ReportFormat.JSONL, results));
+        report("ResultStore 4 threads", count, dir.resolve("store.csv"),
+            () -> writeParallel(dir.resolve("store.csv"), results, 4));
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        void run() throws Exception;
+    }
+
+    private static void report(String name, int count, Path file, Run run) throws Exception {
+        long start = System.nanoTime();
+        run.run();
+        long nanos = System.nanoTime() - start;
+        System.out.printf("📊 %-22s %6d ms, %9.0f results/s, %6d KB%n",
+            name, nanos / 1_000_000, count / (nanos / 1e9), Files.size(file) / 1024);
+    }
+
+    // 🐢 What generateReport() used to do for every row
+    private static void writeOldStyle(Path file, List<TestResult> results) throws IOException {
+        FileWriter writer = new FileWriter(file.toFile());
+        writer.write("Test Name,Status,Expected Result,Actual Result,Error Message,Timestamp\n");
+        for (TestResult result : results) {
+            writer.write("\"" + result.getTestName() + "\",");
+            writer.write("\"" + result.getStatus() + "\",");
+            writer.write("\"" + result.getExpected() + "\",");
+            writer.write("\"" + result.getActual() + "\",");
+            if (result.getErrorMessage() != null && !result.getErrorMessage().isEmpty()) {
+                writer.write("\"" + result.getErrorMessage() + "\",");
+            } else {
+                writer.write("\"\",");
+            }
+            writer.write("\"" + new Date().toString().replace(" ", "_").replace(":", "-") + "\"\n");
+        }
+        writer.close();
+    }
+
+    private static void writeWith(Path file, ReportFormat format, List<TestResult> results) throws IOException {
+        ReportWriter writer = new ReportWriter(file, format, 0, 1000, Duration.ofSeconds(1));
+        int passed = 0;
+        for (int i = 0; i < results.size(); i++) {
+            writer.append(results.get(i));
+            passed += results.get(i).isPassed() ? 1 : 0;
+            if (i % 512 == 511) {
+                writer.flush();
+            }
+        }
+        writer.finish(results.size(), passed);
+    }
+
+    private static void writeParallel(Path file, List<TestResult> results, int threads) throws Exception {
+        ResultStore store = new ResultStore(Collections.singletonList(
+            new ReportWriter(file, ReportFormat.CSV, 0, 1000, Duration.ofSeconds(1))), 10_000);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int first = t;
+            workers.add(pool.submit(() -> {
+                for (int i = first; i < results.size(); i += threads) {
+                    store.add(results.get(i));
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+        store.close();
+    }
+
+    private static List<TestResult> synthetic(int count) {
+        List<TestResult> results = new ArrayList<>(count);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            boolean failed = i % 7 == 0;
+            results.add(new TestResult("Synthetic test " + i, failed ? "FAILED" : "PASSED",
+                "User should reach home page with 'Activity Streak' text",
+                failed ? "Login failed" : "Home page displayed with Activity Streak",
+                failed ? "Waited 20000ms for By.xpath: //android.view.View[@content-desc=\"Continue\"]" : null,
+                now - 1_500, now, "worker-" + (i % 4)));
+        }
+        return results;
+    }
+}
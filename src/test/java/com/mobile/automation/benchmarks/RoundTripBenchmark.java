@@ -0,0 +1,68 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.LocatorEngine;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumDriver;
+
+import java.time.Duration;
+
+/**
+ * ⏱️ Round Trip Benchmark - Appium commands per LoginPage flow, before and after
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs LoginPage.loginFlow() against FakeUiAutomator2Server and counts
+ *   the commands the server received
+ * - "client checks": findElements + isDisplayed + isEnabled per poll, no element cache
+ * - "wait-then-act": readiness checked inside the lookup, elements reused per screen
+ * - Prints commands and time per flow for both
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Arguments: runs, command latency ms - e.g. java ... RoundTripBenchmark 20 30
+ * - With a real device every command costs 50-300ms, so fewer commands is
+ *   the biggest saving a flow can get
+ */
+public class RoundTripBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        Duration latency = Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 0);
+        System.out.println("⏱️ Round trip benchmark: " + runs + " login flows, " + latency.toMillis() + "ms per command");
+
+        run("client checks", false, runs, latency);
+        run("wait-then-act", true, runs, latency);
+    }
+
+    private static void run(String name, boolean optimized, int runs, Duration latency) throws Exception {
+        System.setProperty("elements.cache", String.valueOf(optimized));
+        FakeApp app = FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app, latency, Duration.ZERO).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            WaitEngine waits = new WaitEngine(WaitSettings.fromConfig());
+            FlowEngine flows = new FlowEngine(new ActionEngine(waits, LocatorEngine.shared(), optimized));
+
+            long nanos = 0;
+            int commands = 0;
+            for (int i = 0; i < runs; i++) {
+                AppiumDriver driver = factory.create();
+                int before = server.commands();
+                long start = System.nanoTime();
+                flows.run(LoginPage.loginFlow("Round trips", LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD,
+                    LoginPage.ACTIVITY_STREAK), driver);
+                nanos += System.nanoTime() - start;
+                commands += server.commands() - before;
+                factory.destroy(driver);
+            }
+            System.out.printf("📊 %-14s %5.1f commands/flow, %7.1f ms/flow%n",
+                name, (double) commands / runs, nanos / 1e6 / runs);
+        } finally {
+            System.clearProperty("elements.cache");
+        }
+    }
+}
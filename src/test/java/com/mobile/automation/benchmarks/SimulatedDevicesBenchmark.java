@@ -0,0 +1,81 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.flows.FlowRun;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⏱️ Simulated Devices Benchmark - The login flow on hundreds of fake devices at once
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts a FakeUiAutomator2Server playing FakeApp.prodigy() with the
+ *   given command and screen-appearance latencies
+ * - Runs LoginPage.loginFlow() once per simulated device, all devices in parallel
+ * - Prints flows per second, the slowest flow, commands sent per flow and
+ *   the WaitEngine summary (where the waiting went)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Arguments: devices, command latency ms, appearance latency ms -
+ *   e.g. java ... SimulatedDevicesBenchmark 200 20 300
+ * - Use it to see how the wait engine and the runner behave under load
+ *   before trying the same on a real device farm
+ */
+public class SimulatedDevicesBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int devices = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        Duration commandLatency = Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 20);
+        Duration appearanceLatency = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 300);
+        System.out.printf("⏱️ Simulated devices benchmark: %d devices, %dms per command, screens appear after %dms%n",
+            devices, commandLatency.toMillis(), appearanceLatency.toMillis());
+
+        FakeApp app = FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+        WaitEngine waits = new WaitEngine(WaitSettings.fromConfig());
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app, commandLatency, appearanceLatency).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            ExecutorService workers = Executors.newFixedThreadPool(devices);
+            try {
+                long start = System.nanoTime();
+                List<Future<FlowRun>> runs = new ArrayList<>();
+                for (int i = 0; i < devices; i++) {
+                    runs.add(workers.submit(() -> {
+                        AppiumDriver driver = factory.create();
+                        try {
+                            return new FlowEngine(waits).run(LoginPage.loginFlow("Simulated login",
+                                LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD, LoginPage.ACTIVITY_STREAK), driver);
+                        } finally {
+                            factory.destroy(driver);
+                        }
+                    }));
+                }
+
+                int passed = 0;
+                long slowestMillis = 0;
+                for (Future<FlowRun> run : runs) {
+                    FlowRun result = run.get();
+                    passed += result.isPassed() ? 1 : 0;
+                    slowestMillis = Math.max(slowestMillis, result.getTotalTime().toMillis());
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("📊 %d/%d flows passed in %.1fs: %.1f flows/s, slowest flow %dms, %.0f commands per flow%n",
+                    passed, devices, seconds, devices / seconds, slowestMillis, (double) server.commands() / devices);
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+        System.out.println(waits.summary());
+    }
+}
@@ -0,0 +1,92 @@
+package com.mobile.automation.benchmarks;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.TransportSettings;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⏱️ Transport Benchmark - Appium commands per second for each HTTP transport
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs a FakeWebDriverServer on loopback (answers instantly, so only the
+ *   transport is measured)
+ * - For each transport, opens one session per thread and sends the same
+ *   cheap command (getWindowHandle) over and over
+ * - Prints commands per second, average latency and TCP connections opened
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Arguments: commands per thread, threads - e.g. java ... TransportBenchmark 2000 4
+ * - A real Appium server adds its own time per command; this shows the part
+ *   the client is responsible for
+ */
+public class TransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int commands = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        System.out.println("⏱️ Transport benchmark: " + threads + " sessions x " + commands + " commands on loopback");
+
+        run("selenium default", HttpClient.Factory.createDefault(), commands, threads);
+        run("jdk http/1.1", tuned(false, false).clientFactory(), commands, threads);
+        run("jdk http/2", tuned(true, false).clientFactory(), commands, threads);
+        run("jdk http/1.1 + gzip", tuned(false, true).clientFactory(), commands, threads);
+    }
+
+    private static TransportSettings tuned(boolean http2, boolean compress) {
+        return new TransportSettings(TransportSettings.JDK, http2, Duration.ofSeconds(5), Duration.ofSeconds(60),
+            Duration.ofSeconds(300), compress, 1024);
+    }
+
+    private static void run(String name, HttpClient.Factory clients, int commands, int threads) throws Exception {
+        try (FakeWebDriverServer server = new FakeWebDriverServer().start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(),
+                AppiumSessionFactory.defaultCapabilities(), null, clients);
+            List<AppiumDriver> drivers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                drivers.add(factory.create());
+            }
+            // 🔥 WARM-UP: Let the JIT and the connection pools settle before timing
+            send(drivers, commands / 10);
+
+            int connectionsBefore = server.connections();
+            long start = System.nanoTime();
+            send(drivers, commands);
+            long nanos = System.nanoTime() - start;
+            int total = commands * threads;
+            System.out.printf("📊 %-20s %8.0f commands/s, %6.3f ms/command, %3d new connections%n",
+                name, total / (nanos / 1e9), nanos / 1e6 / commands, server.connections() - connectionsBefore);
+
+            for (AppiumDriver driver : drivers) {
+                factory.destroy(driver);
+            }
+        }
+    }
+
+    private static void send(List<AppiumDriver> drivers, int commands) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(drivers.size());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (AppiumDriver driver : drivers) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < commands; i++) {
+                        driver.getWindowHandle();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
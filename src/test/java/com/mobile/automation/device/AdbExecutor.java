@@ -0,0 +1,35 @@
+package com.mobile.automation.device;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📟 ADB Executor - Runs shell commands on one Android device
+ *
+ * 📚 WHAT THIS INTERFACE DOES:
+ * - Sends a command to "adb shell" and returns what it printed
+ * - Lets the reset engine run against a real device or a scripted fake
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - ProcessAdbExecutor is the real implementation
+ * - ScriptedAdbExecutor (fakes package) is used by self-tests
+ */
+public interface AdbExecutor extends AutoCloseable {
+
+    // 💻 Run one command in "adb shell", e.g. "am force-stop com.raising.prodigy"
+    ShellResult shell(String command);
+
+    // 📦 Run several commands in order; executors that can send them in one round trip override this
+    default List<ShellResult> shellBatch(List<String> commands) {
+        List<ShellResult> results = new ArrayList<>();
+        for (String command : commands) {
+            results.add(shell(command));
+        }
+        return results;
+    }
+
+    // 🧹 Free any resources (processes, connections) held by the executor
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,186 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📟 ADB Shell Channel - One long-lived "adb shell" per device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts "adb -s <serial> shell" once and keeps it open
+ * - Sends every command down the same shell, followed by an "end marker" line
+ *   that carries the exit code, so we know where each command's output ends
+ * - shellBatch() writes several commands at once and reads all answers back,
+ *   so force-stop + clear + reset-permissions cost a single round trip
+ * - Restarts the shell automatically if it died or stopped answering
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Starting a new adb process for every command costs process start-up plus
+ *   an adb server handshake each time; this class pays that cost once
+ * - Get a channel from AdbShellManager instead of creating one yourself
+ */
+public class AdbShellChannel implements AdbExecutor {
+
+    // 🏁 Put in the line queue when the shell process exits
+    private static final String EOF = "\u0000EOF";
+
+    private final String adbPath;
+    private final String serial;
+    private final Duration commandTimeout;
+
+    // 🔖 Unique per channel so command output can never look like a marker
+    private final String marker = "__ADB_DONE_" + UUID.randomUUID().toString().replace("-", "") + "__";
+
+    private Process process;
+    private OutputStream stdin;
+    private BlockingQueue<String> lines;
+    private long sequence;
+
+    public AdbShellChannel(String adbPath, String serial, Duration commandTimeout) {
+        this.adbPath = adbPath;
+        this.serial = serial;
+        this.commandTimeout = commandTimeout;
+    }
+
+    @Override
+    public ShellResult shell(String command) {
+        return shellBatch(Collections.singletonList(command)).get(0);
+    }
+
+    /**
+     * 📦 Shell Batch - Run several commands in one round trip
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Writes all commands to the shell in one go
+     * - Returns one ShellResult per command, in the same order
+     * - Commands run one after another, exactly like typing them in a shell
+     */
+    @Override
+    public synchronized List<ShellResult> shellBatch(List<String> commands) {
+        List<ShellResult> results = new ArrayList<>();
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.ADB, "shell", commands)) {
+            ensureStarted();
+
+            // ✍️ WRITE: Every command reads from /dev/null so it can't swallow the next command
+            StringBuilder script = new StringBuilder();
+            long first = sequence + 1;
+            for (String command : commands) {
+                sequence++;
+                script.append("{ ").append(command).append("\n} </dev/null 2>&1; echo \"")
+                      .append(marker).append(' ').append(sequence).append(" $?\"\n");
+            }
+            stdin.write(script.toString().getBytes(StandardCharsets.UTF_8));
+            stdin.flush();
+
+            // 📖 READ: Collect output until each command's end marker shows up
+            long deadline = System.nanoTime() + commandTimeout.toNanos() * commands.size();
+            for (long id = first; id <= sequence; id++) {
+                results.add(readUntilMarker(id, deadline));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 🔌 BROKEN CHANNEL: Drop the shell so the next call starts a fresh one
+            stop();
+            while (results.size() < commands.size()) {
+                results.add(new ShellResult(-1, "adb shell channel failed: " + e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public synchronized void close() {
+        stop();
+    }
+
+    // ✅ True while the underlying adb shell process is running
+    public synchronized boolean isAlive() {
+        return process != null && process.isAlive();
+    }
+
+    private ShellResult readUntilMarker(long id, long deadlineNanos) throws IOException {
+        StringBuilder output = new StringBuilder();
+        String expected = marker + " " + id + " ";
+        while (true) {
+            String line = nextLine(deadlineNanos);
+            int at = line.indexOf(expected);
+            if (at >= 0) {
+                // Output without a trailing newline ends up on the marker line itself
+                output.append(line, 0, at);
+                int exitCode = Integer.parseInt(line.substring(at + expected.length()).trim());
+                return new ShellResult(exitCode, output.toString());
+            }
+            output.append(line).append('\n');
+        }
+    }
+
+    private String nextLine(long deadlineNanos) throws IOException {
+        try {
+            long remaining = deadlineNanos - System.nanoTime();
+            String line = remaining > 0 ? lines.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (line == null) {
+                throw new IOException("no answer within " + commandTimeout.toMillis() + "ms");
+            }
+            if (EOF.equals(line)) {
+                throw new IOException("adb shell exited");
+            }
+            return line;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for adb shell", e);
+        }
+    }
+
+    private void ensureStarted() throws IOException {
+        if (process != null && process.isAlive()) {
+            return;
+        }
+        stop();
+        ProcessBuilder builder = new ProcessBuilder(adbPath, "-s", serial, "shell");
+        builder.redirectErrorStream(true);
+        process = builder.start();
+        stdin = process.getOutputStream();
+
+        // 📖 READER THREAD: Keeps draining the shell so it never blocks on a full pipe
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        Process started = process;
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(started.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    queue.add(line);
+                }
+            } catch (IOException e) {
+                // Process was killed - fall through to EOF
+            }
+            queue.add(EOF);
+        }, "adb-shell-" + serial);
+        reader.setDaemon(true);
+        reader.start();
+        lines = queue;
+    }
+
+    private void stop() {
+        if (process != null) {
+            process.destroyForcibly();
+        }
+        process = null;
+        stdin = null;
+        lines = null;
+    }
+}
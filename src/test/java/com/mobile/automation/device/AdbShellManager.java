@@ -0,0 +1,54 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.FrameworkConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🗂️ ADB Shell Manager - Hands out one shared AdbShellChannel per device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Keeps a single long-lived adb shell for every device serial
+ * - Closes all shells when the JVM exits
+ * - Falls back to one process per command when -Dadb.persistentShell=false
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Use AdbShellManager.forDevice(serial) whenever you need to run a device command
+ */
+public final class AdbShellManager {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<String, AdbShellChannel> CHANNELS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AdbShellManager::closeAll, "adb-shell-shutdown"));
+    }
+
+    private AdbShellManager() {
+        // Only static helpers - no instances needed
+    }
+
+    // 📟 Executor for the configured device (FrameworkConfig.deviceName())
+    public static AdbExecutor forConfiguredDevice() {
+        return forDevice(FrameworkConfig.deviceName());
+    }
+
+    // 📟 Executor for a specific device serial, e.g. "emulator-5556"
+    public static AdbExecutor forDevice(String serial) {
+        if (!FrameworkConfig.adbPersistentShell()) {
+            return new ProcessAdbExecutor(FrameworkConfig.adbPath(), serial);
+        }
+        return CHANNELS.computeIfAbsent(serial,
+            key -> new AdbShellChannel(FrameworkConfig.adbPath(), key, COMMAND_TIMEOUT));
+    }
+
+    // 🧹 Close every open shell
+    public static void closeAll() {
+        for (AdbShellChannel channel : CHANNELS.values()) {
+            channel.close();
+        }
+        CHANNELS.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package com.mobile.automation.device;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * 💥 App Crashed Exception - The app died, so waiting for elements is pointless
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Thrown by waits and BasePage.checkAppStability() when the health
+ *   heartbeat reports a crashed app or a lost session
+ * - getHealth() is the heartbeat result that proved it
+ * - When logcat saw the crash or ANR, the message ends with its log excerpt
+ */
+public class AppCrashedException extends WebDriverException {
+
+    private final transient AppHealth health;
+
+    public AppCrashedException(AppHealth health) {
+        super("App is not alive: " + health
+            + (health.getCrash() != null ? "\n" + health.getCrash().excerpt() : ""));
+        this.health = health;
+    }
+
+    public AppHealth getHealth() {
+        return health;
+    }
+}
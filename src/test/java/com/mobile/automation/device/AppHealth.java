@@ -0,0 +1,86 @@
+package com.mobile.automation.device;
+
+import java.time.Duration;
+
+/**
+ * 🩺 App Health - What one health probe found out about the app
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - HEALTHY: the app is running in the foreground
+ * - BACKGROUND: the app runs, but something else is on top (a system dialog, another app)
+ * - CRASHED: the app is not running any more (or logcat saw it crash)
+ * - NOT_RESPONDING: logcat saw an ANR of the app
+ * - SESSION_LOST: the Appium session no longer answers
+ * - UNKNOWN: the probe could not tell (e.g. a slow or failed command)
+ * - Remembers when it was checked, so a cached result can expire
+ * - Carries the logcat CrashReport when logcat was the one that noticed
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Only CRASHED, NOT_RESPONDING and SESSION_LOST are fatal: no element will ever show up
+ */
+public final class AppHealth {
+
+    public enum Status { HEALTHY, BACKGROUND, CRASHED, NOT_RESPONDING, SESSION_LOST, UNKNOWN }
+
+    private final Status status;
+    private final String detail;
+    private final long checkedAtNanos;
+    private final Duration probeTime;
+    private final CrashReport crash;
+
+    public AppHealth(Status status, String detail, long checkedAtNanos, Duration probeTime) {
+        this(status, detail, checkedAtNanos, probeTime, null);
+    }
+
+    public AppHealth(Status status, String detail, long checkedAtNanos, Duration probeTime, CrashReport crash) {
+        this.status = status;
+        this.detail = detail;
+        this.checkedAtNanos = checkedAtNanos;
+        this.probeTime = probeTime;
+        this.crash = crash;
+    }
+
+    // 💥 The health a logcat crash report proves (crashed, or not responding for an ANR)
+    public static AppHealth of(CrashReport crash) {
+        Status status = crash.getKind() == CrashReport.Kind.ANR ? Status.NOT_RESPONDING : Status.CRASHED;
+        return new AppHealth(status, "logcat: " + crash.getLines().get(0).trim(), crash.getDetectedAtNanos(),
+            Duration.ZERO, crash);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    // ⏱️ How long the probe took (the cost of one heartbeat)
+    public Duration getProbeTime() {
+        return probeTime;
+    }
+
+    // 📜 The logcat excerpt behind this result (null when a probe found it)
+    public CrashReport getCrash() {
+        return crash;
+    }
+
+    public boolean isHealthy() {
+        return status == Status.HEALTHY;
+    }
+
+    // 💥 No element is coming: the app crashed or the session is gone
+    public boolean isFatal() {
+        return status == Status.CRASHED || status == Status.NOT_RESPONDING || status == Status.SESSION_LOST;
+    }
+
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - checkedAtNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("🩺 %s (%s, probe %dms, %dms ago)",
+            status, detail, probeTime.toMillis(), age().toMillis());
+    }
+}
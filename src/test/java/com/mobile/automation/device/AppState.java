@@ -0,0 +1,28 @@
+package com.mobile.automation.device;
+
+/**
+ * 🧭 App State - What the app on a device is known to look like
+ *
+ * 📚 WHAT THIS ENUM DOES:
+ * - ONBOARDING: freshly cleared data, the first "Tap to Start" screen
+ * - LOGGED_OUT: no account is logged in (fresh data counts as logged out too)
+ * - LOGGED_IN_HOME: logged in and on the home page
+ * - UNKNOWN: a test has used the app since the state was last known
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Tests ask for the state they need with BaseTest.setupTestIn(AppState...)
+ */
+public enum AppState {
+    ONBOARDING,
+    LOGGED_OUT,
+    LOGGED_IN_HOME,
+    UNKNOWN;
+
+    // ✅ True if an app in this state can be used by a test that needs "required"
+    public boolean satisfies(AppState required) {
+        if (this == UNKNOWN || required == UNKNOWN) {
+            return false;
+        }
+        return this == required || (this == ONBOARDING && required == LOGGED_OUT);
+    }
+}
@@ -0,0 +1,35 @@
+package com.mobile.automation.device;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📍 App State Tracker - Remembers the last known app state of every device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Keeps one AppState per device serial (UNKNOWN until something sets it)
+ * - Resets, checkpoint restores and finished flows set it
+ * - A test that starts using the app sets it to UNKNOWN, because only the
+ *   test knows what it did
+ */
+public final class AppStateTracker {
+
+    private static final Map<String, AppState> STATES = new ConcurrentHashMap<>();
+
+    private AppStateTracker() {
+        // Only static helpers - no instances needed
+    }
+
+    public static AppState get(String serial) {
+        return STATES.getOrDefault(serial, AppState.UNKNOWN);
+    }
+
+    public static void set(String serial, AppState state) {
+        STATES.put(serial, state);
+    }
+
+    // 🧹 Forget everything (e.g. between self-tests)
+    public static void clear() {
+        STATES.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.mobile.automation.device;
+
+import java.time.Duration;
+
+/**
+ * 💾 Checkpoint Result - How one checkpoint capture or restore went
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Says what was done (capture/restore), for which checkpoint, whether it
+ *   worked, how long it took and what the device said when it did not
+ */
+public class CheckpointResult {
+
+    private final String action;
+    private final String key;
+    private final boolean success;
+    private final Duration duration;
+    private final String detail;
+
+    public CheckpointResult(String action, String key, boolean success, Duration duration, String detail) {
+        this.action = action;
+        this.key = key;
+        this.success = success;
+        this.duration = duration;
+        this.detail = detail == null ? "" : detail;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("💾 CHECKPOINT %s %s: %s in %dms%s", action, key, success ? "done" : "FAILED",
+            duration.toMillis(), detail.isEmpty() ? "" : " (" + detail + ")");
+    }
+}
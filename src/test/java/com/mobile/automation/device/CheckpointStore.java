@@ -0,0 +1,146 @@
+package com.mobile.automation.device;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 💾 Checkpoint Store - Saves the app's data after a login and puts it back later
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - capture(key): stops the app and archives its data folder (run-as tar)
+ *   into a checkpoint file on the device
+ * - restore(key): stops the app, clears its data and unpacks the checkpoint,
+ *   so the app starts already logged in
+ * - keyFor(account): names checkpoints by account and installed app version,
+ *   so a new build never gets data saved by an older one
+ * - Checkpoints live in /data/local/tmp on the device (see -Dcheckpoint.dir),
+ *   so they survive between runs and never travel over the adb connection
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Restoring takes about a second; replaying the login flow takes ~30
+ * - Only works for debuggable builds (run-as); otherwise every call reports
+ *   a failure and the caller simply logs in the slow way
+ */
+public class CheckpointStore {
+
+    public static final String CAPTURE = "capture";
+    public static final String RESTORE = "restore";
+
+    // Cache folders are rebuilt by the app and lib is a link to the installed APK
+    private static final String EXCLUDES = "--exclude=./cache --exclude=./code_cache --exclude=./lib";
+
+    private final AdbExecutor adb;
+    private final String appPackage;
+    private final String directory;
+
+    public CheckpointStore(AdbExecutor adb, String appPackage, String directory) {
+        this.adb = adb;
+        this.appPackage = appPackage;
+        this.directory = directory;
+    }
+
+    /**
+     * 🏷️ App Version - "versionName-versionCode" of the installed app ("unknown" if not found)
+     */
+    public String appVersion() {
+        String dump = adb.shell("dumpsys package " + appPackage).getOutput();
+        String name = field(dump, "versionName=");
+        String code = field(dump, "versionCode=");
+        if (name == null && code == null) {
+            return "unknown";
+        }
+        return (name == null ? "?" : name) + "-" + (code == null ? "?" : code);
+    }
+
+    // 🔑 Checkpoint name for an account on the installed app version
+    public String keyFor(String account) {
+        return sanitize("login_" + account + "_" + appVersion());
+    }
+
+    // ✅ True if a checkpoint with this name is on the device
+    public boolean exists(String key) {
+        ShellResult result = adb.shell("ls " + path(key));
+        return result.isSuccess() && !result.getOutput().contains("No such file");
+    }
+
+    /**
+     * 📥 Capture - Save the app's current data as a checkpoint
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Force-stops the app so its databases are written out
+     * - Archives the data folder into a temporary file, then renames it,
+     *   so a failed capture never leaves a half-written checkpoint behind
+     * - The app is left stopped: relaunch it afterwards
+     */
+    public CheckpointResult capture(String key) {
+        long start = System.nanoTime();
+        String target = path(key);
+        List<ShellResult> results = adb.shellBatch(Arrays.asList(
+            "am force-stop " + appPackage,
+            "mkdir -p " + directory,
+            "run-as " + appPackage + " tar -cf - " + EXCLUDES + " . > " + target + ".tmp && mv " + target + ".tmp " + target));
+        ShellResult archive = results.get(2);
+        if (!isClean(archive)) {
+            adb.shell("rm -f " + target + ".tmp");
+            return new CheckpointResult(CAPTURE, key, false, elapsed(start), archive.getOutput().trim());
+        }
+        return new CheckpointResult(CAPTURE, key, true, elapsed(start), null);
+    }
+
+    /**
+     * 📤 Restore - Replace the app's data with a checkpoint
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Force-stops the app and clears its data (like a fresh install)
+     * - Unpacks the checkpoint into the app's data folder
+     * - The app is left stopped: launch it afterwards
+     */
+    public CheckpointResult restore(String key) {
+        long start = System.nanoTime();
+        if (!exists(key)) {
+            return new CheckpointResult(RESTORE, key, false, elapsed(start), "no such checkpoint");
+        }
+        List<ShellResult> results = adb.shellBatch(Arrays.asList(
+            "am force-stop " + appPackage,
+            "pm clear " + appPackage,
+            "run-as " + appPackage + " tar -xf - < " + path(key)));
+        ShellResult unpack = results.get(2);
+        if (!isClean(unpack)) {
+            return new CheckpointResult(RESTORE, key, false, elapsed(start), unpack.getOutput().trim());
+        }
+        return new CheckpointResult(RESTORE, key, true, elapsed(start), null);
+    }
+
+    // 🗑️ Forget a checkpoint (e.g. one that no longer logs the app in)
+    public void delete(String key) {
+        adb.shell("rm -f " + path(key));
+    }
+
+    private String path(String key) {
+        return directory + "/" + key + ".tar";
+    }
+
+    // ✅ run-as and tar print their errors and may still exit with 0
+    private boolean isClean(ShellResult result) {
+        String output = result.getOutput().trim();
+        return result.isSuccess() && !output.startsWith("run-as:") && !output.contains("tar:");
+    }
+
+    private static String field(String dump, String prefix) {
+        for (String part : dump.split("\\s+")) {
+            if (part.startsWith(prefix) && part.length() > prefix.length()) {
+                return part.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    private static String sanitize(String key) {
+        return key.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static Duration elapsed(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,56 @@
+package com.mobile.automation.device;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 💥 Crash Report - A crash or ANR of the app, as logcat told it
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - CRASH: an "AndroidRuntime: FATAL EXCEPTION" block for the app's process
+ * - ANR: an "ActivityManager: ANR in <package>" block
+ * - Holds the log lines of that block (exception, reason, first stack frames)
+ *   and when it was seen
+ */
+public final class CrashReport {
+
+    public enum Kind { CRASH, ANR }
+
+    private final Kind kind;
+    private final String appPackage;
+    private final List<String> lines;
+    private final long detectedAtNanos;
+
+    public CrashReport(Kind kind, String appPackage, List<String> lines, long detectedAtNanos) {
+        this.kind = kind;
+        this.appPackage = appPackage;
+        this.lines = Collections.unmodifiableList(lines);
+        this.detectedAtNanos = detectedAtNanos;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getAppPackage() {
+        return appPackage;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public long getDetectedAtNanos() {
+        return detectedAtNanos;
+    }
+
+    // 📋 The log lines as one block of text (what goes into the report)
+    public String excerpt() {
+        return String.join("\n", lines);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " of " + appPackage + " (" + lines.size() + " log lines)";
+    }
+}
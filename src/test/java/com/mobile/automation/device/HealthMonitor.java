@@ -0,0 +1,242 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestReport;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 💓 Health Monitor - A background heartbeat that knows whether the app is still alive
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs a cheap HealthProbe every interval on a shared scheduler, one
+ *   heartbeat per session, off the test thread
+ * - current(): the last result while it is younger than the TTL, otherwise
+ *   one probe right now
+ * - lastKnown(): the last result without any round trip (may be old or null)
+ * - watch(logcat): also trusts the device's LogcatWatcher, which sees a
+ *   crash or ANR the moment it is logged, before any heartbeat
+ * - failIfCrashed(driver): throws AppCrashedException when a fresh heartbeat
+ *   or logcat says the app crashed, hangs or the session is gone; waits call
+ *   it on every poll, so a crash ends the wait instead of the full element timeout
+ * - A crash excerpt from logcat is attached to the test's report row
+ * - pause()/forget(): the app is stopped on purpose (reset, checkpoint
+ *   capture); a probe that started before forget() is dropped, so a stopped
+ *   app is never reported as a crash after it was relaunched
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - BasePage.setupDriver() starts the heartbeat, cleanup() stops it
+ * - Tune it with -Dhealth.intervalMillis / -Dhealth.ttlMillis, turn it off
+ *   with -Dhealth.heartbeat=false
+ */
+public class HealthMonitor implements AutoCloseable {
+
+    // 💓 One small scheduler for every session's heartbeat; daemon threads never block JVM exit
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "health-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 🗂️ One monitor per driver; drivers that are gone drop out automatically
+    private static final Map<WebDriver, HealthMonitor> MONITORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final HealthProbe probe;
+    private final Duration interval;
+    private final Duration ttl;
+    private final AtomicInteger probes = new AtomicInteger();
+    private volatile AppHealth last;
+    private volatile LogcatWatcher logcat;
+    private volatile long watchingSinceNanos = System.nanoTime();
+    private volatile long forgottenAtNanos = System.nanoTime();
+    private volatile boolean paused;
+    private ScheduledFuture<?> heartbeat;
+
+    public HealthMonitor(HealthProbe probe, Duration interval, Duration ttl) {
+        this.probe = probe;
+        this.interval = interval;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 🚀 Start - Begin the heartbeat for a driver (does nothing if one runs already)
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Probes the configured app package every -Dhealth.intervalMillis
+     * - Returns the driver's monitor, or null when -Dhealth.heartbeat=false
+     */
+    public static HealthMonitor start(WebDriver driver) {
+        if (driver == null || !FrameworkConfig.healthHeartbeatEnabled()) {
+            return null;
+        }
+        return start(driver, HealthProbe.of(driver, FrameworkConfig.appPackage()));
+    }
+
+    // 🧪 Start the heartbeat for a driver with a given probe (e.g. a scripted one)
+    public static HealthMonitor start(WebDriver driver, HealthProbe probe) {
+        synchronized (MONITORS) {
+            HealthMonitor monitor = MONITORS.get(driver);
+            if (monitor == null) {
+                monitor = new HealthMonitor(probe, FrameworkConfig.healthInterval(), FrameworkConfig.healthTtl()).start();
+                MONITORS.put(driver, monitor);
+            }
+            return monitor;
+        }
+    }
+
+    // 🔎 The running monitor of a driver (null when it has none)
+    public static HealthMonitor of(WebDriver driver) {
+        return driver == null ? null : MONITORS.get(driver);
+    }
+
+    // 🧹 Stop a driver's heartbeat (e.g. when the test gives its session back)
+    public static void stop(WebDriver driver) {
+        HealthMonitor monitor = driver == null ? null : MONITORS.remove(driver);
+        if (monitor != null) {
+            monitor.close();
+        }
+    }
+
+    /**
+     * 💥 Fail If Crashed - Throw if the heartbeat already knows the app is dead
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Looks only at the last heartbeat (no round trip), so it is free to
+     *   call on every poll of a wait
+     * - Does nothing for contexts without a monitor, or for an expired result
+     */
+    public static void failIfCrashed(SearchContext context) {
+        HealthMonitor monitor = context instanceof WebDriver ? MONITORS.get(context) : null;
+        if (monitor == null || monitor.paused) {
+            return;
+        }
+        AppHealth health = monitor.logcatHealth();
+        if (health == null) {
+            health = monitor.lastKnown();
+        }
+        if (health != null && health.isFatal() && (health.getCrash() != null || health.age().compareTo(monitor.ttl) < 0)) {
+            throw crashed(health);
+        }
+    }
+
+    // 💥 The exception for a fatal result; a logcat excerpt also goes into the test's report row
+    public static AppCrashedException crashed(AppHealth health) {
+        if (health.getCrash() != null) {
+            TestReport.attachCrash(health.getCrash().excerpt());
+        }
+        return new AppCrashedException(health);
+    }
+
+    // 📜 Also watch the device's logcat (crashes and ANRs from now on count)
+    public HealthMonitor watch(LogcatWatcher watcher) {
+        this.logcat = watcher;
+        this.watchingSinceNanos = System.nanoTime();
+        return this;
+    }
+
+    public synchronized HealthMonitor start() {
+        if (heartbeat == null) {
+            long millis = Math.max(1, interval.toMillis());
+            heartbeat = SCHEDULER.scheduleWithFixedDelay(this::beat, 0, millis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    // 🩺 The last result if it is still fresh, otherwise one probe right now
+    public AppHealth current() {
+        AppHealth crash = logcatHealth();
+        if (crash != null) {
+            return crash;
+        }
+        AppHealth health = last;
+        if (health != null && health.age().compareTo(ttl) < 0) {
+            return health;
+        }
+        return checkNow();
+    }
+
+    public AppHealth lastKnown() {
+        return last;
+    }
+
+    public AppHealth checkNow() {
+        long startedAt = System.nanoTime();
+        AppHealth health = probe.check();
+        probes.incrementAndGet();
+        synchronized (this) {
+            // 🕰️ Started before forget(): it may have seen the app stopped on purpose - drop it
+            if (startedAt - forgottenAtNanos < 0) {
+                return health;
+            }
+            AppHealth previous = last;
+            last = health;
+            if (health.isFatal() && (previous == null || previous.getStatus() != health.getStatus())) {
+                TestLogger.logWarning("💥 " + health);
+            }
+        }
+        return health;
+    }
+
+    // ⏸️ The app is about to be stopped on purpose: no heartbeat and no crash until forget()
+    public synchronized void pause() {
+        paused = true;
+        last = null;
+    }
+
+    // 🧹 Forget the last result, probes still running and earlier logcat crashes,
+    // and resume a paused heartbeat (e.g. after the app was relaunched)
+    public synchronized void forget() {
+        long now = System.nanoTime();
+        last = null;
+        forgottenAtNanos = now;
+        watchingSinceNanos = now;
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    // 📊 How many probes were sent so far
+    public int probes() {
+        return probes.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+        }
+    }
+
+    // 📜 What logcat saw since watching started or the last forget() (null if nothing)
+    private AppHealth logcatHealth() {
+        LogcatWatcher watcher = logcat;
+        CrashReport crash = watcher == null ? null : watcher.crashSince(watchingSinceNanos);
+        return crash == null ? null : AppHealth.of(crash);
+    }
+
+    private void beat() {
+        if (paused) {
+            return;
+        }
+        try {
+            checkNow();
+        } catch (RuntimeException e) {
+            // A heartbeat must never die - the next one tries again
+            TestLogger.logDebug("💓 Heartbeat failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mobile.automation.device;
+
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.appmanagement.ApplicationState;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+
+/**
+ * 🩺 Health Probe - One cheap check of whether the app is still alive
+ *
+ * 📚 WHAT THIS INTERFACE DOES:
+ * - check(): asks the device once and returns an AppHealth
+ * - of(driver, package): the Appium probe - one "app_state" command, which
+ *   Appium answers from the package's process state without dumping the
+ *   UI hierarchy; drivers without it fall back to the session check
+ *   (getWindowHandle)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - HealthMonitor runs a probe in the background; tests pass scripted probes
+ */
+public interface HealthProbe {
+
+    AppHealth check();
+
+    static HealthProbe of(WebDriver driver, String appPackage) {
+        return () -> {
+            long start = System.nanoTime();
+            AppHealth.Status status;
+            String detail;
+            try {
+                if (driver instanceof InteractsWithApps) {
+                    ApplicationState state = ((InteractsWithApps) driver).queryAppState(appPackage);
+                    status = statusOf(state);
+                    detail = appPackage + " " + state;
+                } else {
+                    driver.getWindowHandle();
+                    status = AppHealth.Status.HEALTHY;
+                    detail = "session answers";
+                }
+            } catch (NoSuchSessionException e) {
+                status = AppHealth.Status.SESSION_LOST;
+                detail = e.getClass().getSimpleName();
+            } catch (WebDriverException e) {
+                // A failed command is not proof of a crash - the next heartbeat decides
+                status = AppHealth.Status.UNKNOWN;
+                detail = e.getClass().getSimpleName();
+            }
+            long end = System.nanoTime();
+            return new AppHealth(status, detail, end, Duration.ofNanos(end - start));
+        };
+    }
+
+    private static AppHealth.Status statusOf(ApplicationState state) {
+        if (state == null) {
+            return AppHealth.Status.UNKNOWN;
+        }
+        switch (state) {
+            case RUNNING_IN_FOREGROUND:
+                return AppHealth.Status.HEALTHY;
+            case RUNNING_IN_BACKGROUND:
+            case RUNNING_IN_BACKGROUND_SUSPENDED:
+                return AppHealth.Status.BACKGROUND;
+            default:
+                return AppHealth.Status.CRASHED;
+        }
+    }
+}
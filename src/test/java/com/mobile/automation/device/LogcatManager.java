@@ -0,0 +1,64 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🗂️ Logcat Manager - Hands out one running LogcatWatcher per device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts "adb -s <serial> logcat" once per device and keeps it streaming
+ * - Asks logcat for crash and ANR lines only (AndroidRuntime:E,
+ *   ActivityManager:E), so the stream stays tiny
+ * - Starts from now (-T 1): crashes from before the run are not reported
+ * - Restarts the stream if adb went away; stops every stream when the JVM exits
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - BasePage.setupDriver() connects it to the session's HealthMonitor
+ * - Turn it off with -Dlogcat.watch=false
+ */
+public final class LogcatManager {
+
+    private static final Map<String, LogcatWatcher> WATCHERS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(LogcatManager::closeAll, "logcat-shutdown"));
+    }
+
+    private LogcatManager() {
+        // Only static helpers - no instances needed
+    }
+
+    // 📜 The watcher of a device serial (null when watching is off or adb can't be started)
+    public static LogcatWatcher forDevice(String serial) {
+        if (serial == null || !FrameworkConfig.logcatWatchEnabled()) {
+            return null;
+        }
+        return WATCHERS.compute(serial, (key, watcher) -> watcher != null && watcher.isRunning() ? watcher : start(key));
+    }
+
+    // 🧹 Stop every logcat stream
+    public static void closeAll() {
+        for (LogcatWatcher watcher : WATCHERS.values()) {
+            watcher.close();
+        }
+        WATCHERS.clear();
+    }
+
+    private static LogcatWatcher start(String serial) {
+        ProcessBuilder builder = new ProcessBuilder(FrameworkConfig.adbPath(), "-s", serial, "logcat",
+            "-v", "threadtime", "-T", "1", "AndroidRuntime:E", "ActivityManager:E", "*:S");
+        builder.redirectErrorStream(true);
+        try {
+            return new LogcatWatcher(FrameworkConfig.appPackage(), FrameworkConfig.logcatBufferLines())
+                .start(builder.start(), serial);
+        } catch (IOException e) {
+            TestLogger.logWarning("📜 Could not start logcat for " + serial + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.TestLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 📜 Logcat Watcher - Reads a device's logcat as it is written and spots crashes and ANRs
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - A background thread reads the stream line by line; nobody else ever
+ *   blocks on it
+ * - Keeps the last bufferLines lines in a ring buffer (older ones are dropped)
+ * - Recognises "FATAL EXCEPTION" blocks (AndroidRuntime) and "ANR in"
+ *   blocks (ActivityManager) of the app package and turns them into a
+ *   CrashReport the moment the package is known; later lines of the same
+ *   block are added to the excerpt
+ * - crashSince(time): the latest crash or ANR seen after that time, without
+ *   any adb round trip
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - LogcatManager starts one per device; HealthMonitor asks it on every
+ *   wait poll, so a crash ends the wait at once
+ * - Tests feed it a fake logcat stream instead of adb
+ */
+public class LogcatWatcher implements AutoCloseable {
+
+    // ✂️ A crash block is cut after this many lines (the top of the stack trace is what matters)
+    private static final int MAX_EXCERPT_LINES = 40;
+
+    // 🧾 "-v threadtime": date time pid tid level tag: message
+    private static final Pattern THREADTIME =
+        Pattern.compile("^\\S+\\s+\\S+\\s+\\d+\\s+\\d+\\s+[VDIWEF]\\s+(.*?)\\s*: (.*)$");
+
+    private final String appPackage;
+    private final int bufferLines;
+    private final Deque<String> recent = new ArrayDeque<>();
+    private final AtomicInteger linesRead = new AtomicInteger();
+    private final AtomicInteger crashes = new AtomicInteger();
+
+    private volatile CrashReport latest;
+    private InputStream stream;
+    private Process process;
+    private Thread reader;
+
+    // 🧩 The crash/ANR block being read right now (only touched by the reader thread)
+    private CrashReport.Kind blockKind;
+    private String blockTag;
+    private String blockPackage;
+    private List<String> blockLines;
+    private long blockStartNanos;
+
+    public LogcatWatcher(String appPackage, int bufferLines) {
+        this.appPackage = appPackage;
+        this.bufferLines = Math.max(1, bufferLines);
+    }
+
+    /**
+     * ▶️ Start - Read a logcat stream on a daemon thread
+     *
+     * @param logcat: Output of "adb logcat -v threadtime" (or a fake one)
+     * @param name: Shown in the thread name, e.g. the device serial
+     */
+    public synchronized LogcatWatcher start(InputStream logcat, String name) {
+        if (reader != null) {
+            throw new IllegalStateException("Logcat watcher for " + name + " is already running");
+        }
+        stream = logcat;
+        reader = new Thread(() -> read(logcat), "logcat-" + name);
+        reader.setDaemon(true);
+        reader.start();
+        return this;
+    }
+
+    // 📟 Start reading the output of an "adb logcat" process (closed together with the watcher)
+    synchronized LogcatWatcher start(Process logcatProcess, String name) {
+        process = logcatProcess;
+        return start(logcatProcess.getInputStream(), name);
+    }
+
+    // 💥 The latest crash or ANR of the app (null if there was none)
+    public CrashReport latestCrash() {
+        return latest;
+    }
+
+    // 💥 The latest crash or ANR first seen at or after "sinceNanos" (System.nanoTime())
+    public CrashReport crashSince(long sinceNanos) {
+        CrashReport crash = latest;
+        return crash != null && crash.getDetectedAtNanos() - sinceNanos >= 0 ? crash : null;
+    }
+
+    // 📋 The most recent lines, oldest first
+    public List<String> recentLines() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    public int linesRead() {
+        return linesRead.get();
+    }
+
+    public int crashes() {
+        return crashes.get();
+    }
+
+    public synchronized boolean isRunning() {
+        return reader != null && reader.isAlive();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (process != null) {
+            process.destroy();
+        }
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // Already closed - the reader thread ends either way
+            }
+        }
+    }
+
+    private void read(InputStream logcat) {
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(logcat, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                accept(line);
+            }
+        } catch (IOException e) {
+            // Stream closed (watcher closed or adb went away) - stop reading
+            TestLogger.logDebug("📜 Logcat stream ended: " + e.getMessage());
+        }
+    }
+
+    private void accept(String line) {
+        linesRead.incrementAndGet();
+        synchronized (recent) {
+            if (recent.size() == bufferLines) {
+                recent.pollFirst();
+            }
+            recent.addLast(line);
+        }
+
+        Matcher matcher = THREADTIME.matcher(line);
+        String tag = matcher.matches() ? matcher.group(1) : null;
+        String message = matcher.matches() ? matcher.group(2) : line;
+
+        // 🧩 SAME BLOCK: Lines with the block's tag belong to it (exception, "Process:", stack frames)
+        if (blockKind != null && tag != null && tag.equals(blockTag) && !startsBlock(message)) {
+            if (blockLines.size() < MAX_EXCERPT_LINES) {
+                blockLines.add(line);
+                if (blockPackage == null && message.startsWith("Process: ")) {
+                    blockPackage = message.substring("Process: ".length()).split(",")[0].trim();
+                }
+                publish();
+            }
+            return;
+        }
+        blockKind = null;
+
+        if (message.startsWith("FATAL EXCEPTION")) {
+            startBlock(CrashReport.Kind.CRASH, tag, null, line);
+        } else if (message.startsWith("ANR in ")) {
+            startBlock(CrashReport.Kind.ANR, tag, message.substring("ANR in ".length()).split("\\s")[0], line);
+        }
+    }
+
+    private static boolean startsBlock(String message) {
+        return message.startsWith("FATAL EXCEPTION") || message.startsWith("ANR in ");
+    }
+
+    private void startBlock(CrashReport.Kind kind, String tag, String pkg, String line) {
+        blockKind = kind;
+        blockTag = tag;
+        blockPackage = pkg;
+        blockLines = new ArrayList<>();
+        blockLines.add(line);
+        blockStartNanos = System.nanoTime();
+        publish();
+    }
+
+    // 📣 Make the block visible as soon as it is known to be ours; later lines only extend it
+    private void publish() {
+        if (!appPackage.equals(blockPackage)) {
+            return;
+        }
+        CrashReport previous = latest;
+        boolean sameBlock = previous != null && previous.getDetectedAtNanos() == blockStartNanos;
+        latest = new CrashReport(blockKind, blockPackage, new ArrayList<>(blockLines), blockStartNanos);
+        if (!sameBlock) {
+            crashes.incrementAndGet();
+            TestLogger.logWarning("💥 " + blockKind + " of " + blockPackage + ": " + blockLines.get(0));
+        }
+    }
+}
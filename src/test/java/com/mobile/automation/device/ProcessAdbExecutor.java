@@ -0,0 +1,77 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 📟 Process ADB Executor - Starts one "adb shell" process per command
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs "adb -s <serial> shell <command>" with ProcessBuilder
+ * - Reads everything the command prints so the process never blocks on a full pipe
+ * - Kills the process if it runs longer than the timeout
+ */
+public class ProcessAdbExecutor implements AdbExecutor {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final String adbPath;
+    private final String serial;
+
+    public ProcessAdbExecutor(String adbPath, String serial) {
+        this.adbPath = adbPath;
+        this.serial = serial;
+    }
+
+    // 🔧 Uses -Dadb.path (default "adb") and the configured device serial
+    public static ProcessAdbExecutor fromConfig() {
+        return new ProcessAdbExecutor(FrameworkConfig.adbPath(), FrameworkConfig.deviceName());
+    }
+
+    @Override
+    public ShellResult shell(String command) {
+        ProcessBuilder builder = new ProcessBuilder(adbPath, "-s", serial, "shell", command);
+        builder.redirectErrorStream(true);
+        Process process = null;
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.ADB, "shell", command)) {
+            process = builder.start();
+
+            // 📖 DRAIN OUTPUT: Read on another thread so a chatty command can't fill the pipe and hang
+            CompletableFuture<String> output = CompletableFuture.supplyAsync(readAll(process.getInputStream()));
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return new ShellResult(-1, "Timed out after " + TIMEOUT_SECONDS + "s: " + command);
+            }
+            return new ShellResult(process.exitValue(), output.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            return new ShellResult(-1, "Could not run adb: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            return new ShellResult(-1, "Interrupted while running: " + command);
+        }
+    }
+
+    private static Supplier<String> readAll(InputStream in) {
+        return () -> {
+            try (InputStream stream = in) {
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                return "";
+            }
+        };
+    }
+}
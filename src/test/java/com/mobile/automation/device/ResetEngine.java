@@ -0,0 +1,226 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 🔄 Reset Engine - Resets the app and waits only as long as the device needs
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs the same three ADB steps as before: force-stop, pm clear, pm reset-permissions
+ *   (sent as one batch, so a persistent adb shell needs a single round trip)
+ * - After each step, checks the real device state instead of sleeping a fixed time:
+ *   - force-stop: the app process is gone (pidof prints nothing)
+ *   - clear-data: the app's data folders are empty
+ *   - reset-permissions: no runtime permission is still granted
+ * - Checks quickly at first (50ms) and backs off (up to 1s) until a per-step deadline
+ * - Records how long each step took in a ResetReport, and on the running
+ *   test's timeline (see StepTimer)
+ *
+ * - grantRuntimePermissions(): grants every runtime permission the app asks
+ *   for, like a new session's autoGrantPermissions does (a reused pooled
+ *   session never gets that, see BasePage.setupDriver())
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - A reset used to sleep ~12 seconds no matter what; now it usually takes well under 2
+ * - If a step never reaches its state, the report says so and the test continues anyway
+ */
+public class ResetEngine {
+
+    public static final String FORCE_STOP = "force-stop";
+    public static final String CLEAR_DATA = "clear-data";
+    public static final String RESET_PERMISSIONS = "reset-permissions";
+
+    private static final Duration FIRST_POLL = Duration.ofMillis(50);
+    private static final Duration MAX_POLL = Duration.ofSeconds(1);
+
+    // Folders an app (Flutter included) writes its state into
+    private static final String DATA_FOLDERS = "shared_prefs databases files app_flutter no_backup";
+
+    private final AdbExecutor adb;
+    private final String appPackage;
+    private final Duration phaseTimeout;
+
+    public ResetEngine(AdbExecutor adb, String appPackage, Duration phaseTimeout) {
+        this.adb = adb;
+        this.appPackage = appPackage;
+        this.phaseTimeout = phaseTimeout;
+    }
+
+    /**
+     * 🔄 Reset - Force-stop, clear data and reset permissions of the app
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Sends the three steps in one batch
+     * - Then waits until the device confirms each step, in order
+     * - Returns a report with the timing of every step
+     */
+    public ResetReport reset() {
+        // 📦 ONE ROUND TRIP: Send all three commands together, then confirm each one
+        long start = System.nanoTime();
+        List<ShellResult> results = adb.shellBatch(Arrays.asList(
+            "am force-stop " + appPackage,
+            "pm clear " + appPackage,
+            "pm reset-permissions " + appPackage));
+
+        ResetReport report = new ResetReport();
+        report.addPhase(confirmPhase(FORCE_STOP, results.get(0), start, this::isProcessGone));
+        report.addPhase(confirmPhase(CLEAR_DATA, results.get(1), System.nanoTime(), this::isDataCleared));
+        report.addPhase(confirmPhase(RESET_PERMISSIONS, results.get(2), System.nanoTime(), this::arePermissionsReset));
+        return report;
+    }
+
+    /**
+     * 🔓 Grant Runtime Permissions - Grant what pm reset-permissions took away
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Reads the app's runtime permissions from dumpsys and grants every one
+     *   that is not granted (one batch of pm grant commands)
+     * - Returns the permissions that were granted (empty when nothing was missing)
+     */
+    public List<String> grantRuntimePermissions() {
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.OTHER, "grant permissions", appPackage)) {
+            List<String> missing = new ArrayList<>();
+            for (String line : runtimePermissionLines()) {
+                if (line.contains("granted=false") && !isFixedPermission(line)) {
+                    missing.add(line.substring(0, line.indexOf(':')));
+                }
+            }
+            if (missing.isEmpty()) {
+                return missing;
+            }
+            List<String> commands = new ArrayList<>();
+            for (String permission : missing) {
+                commands.add("pm grant " + appPackage + " " + permission);
+            }
+            List<ShellResult> results = adb.shellBatch(commands);
+            List<String> granted = new ArrayList<>();
+            for (int i = 0; i < missing.size(); i++) {
+                // Some permissions can't be granted from the shell - leave those to the app's dialog
+                if (isAccepted(results.get(i)) && !results.get(i).getOutput().contains("Exception")) {
+                    granted.add(missing.get(i));
+                }
+            }
+            return granted;
+        }
+    }
+
+    private ResetPhase confirmPhase(String name, ShellResult result, long start, BooleanSupplier deviceReady) {
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.OTHER, "reset", name)) {
+            return confirm(name, result, start, deviceReady);
+        }
+    }
+
+    private ResetPhase confirm(String name, ShellResult result, long start, BooleanSupplier deviceReady) {
+        long deadline = start + phaseTimeout.toNanos();
+
+        // ❌ COMMAND FAILED: No point polling for a state that will never come
+        if (!isAccepted(result)) {
+            return new ResetPhase(name, result, false, 0, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        // 🔁 POLL: Check the device state, backing off between checks
+        int polls = 0;
+        long delayMillis = FIRST_POLL.toMillis();
+        while (true) {
+            polls++;
+            if (deviceReady.getAsBoolean()) {
+                return new ResetPhase(name, result, true, polls, Duration.ofNanos(System.nanoTime() - start));
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return new ResetPhase(name, result, false, polls, Duration.ofNanos(System.nanoTime() - start));
+            }
+            // Round up so we never wake just before the deadline and give up early
+            long remainingMillis = (remainingNanos + 999_999) / 1_000_000;
+            if (!sleep(Math.min(delayMillis, remainingMillis))) {
+                return new ResetPhase(name, result, false, polls, Duration.ofNanos(System.nanoTime() - start));
+            }
+            delayMillis = Math.min(delayMillis * 2, MAX_POLL.toMillis());
+        }
+    }
+
+    // ✅ "pm" prints Failed/Error (sometimes with exit code 0) when it could not do the job
+    private boolean isAccepted(ShellResult result) {
+        String output = result.getOutput().trim();
+        return result.isSuccess() && !output.startsWith("Failed") && !output.startsWith("Error");
+    }
+
+    // 🛑 force-stop is done when the app has no running process
+    boolean isProcessGone() {
+        return adb.shell("pidof " + appPackage).getOutput().trim().isEmpty();
+    }
+
+    // 🧹 clear-data is done when the app's data folders are empty
+    boolean isDataCleared() {
+        ShellResult listing = adb.shell("run-as " + appPackage + " ls -A " + DATA_FOLDERS);
+        String output = listing.getOutput().trim();
+        if (output.startsWith("run-as:")) {
+            // Release builds can't be inspected with run-as; "pm clear" is synchronous
+            // and already printed Success, so trust it
+            return true;
+        }
+        for (String line : output.split("\n")) {
+            String entry = line.trim();
+            // Skip "folder:" headers and "ls: x: No such file or directory" for folders the app never made
+            if (!entry.isEmpty() && !entry.endsWith(":") && !entry.startsWith("ls:")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 🔐 reset-permissions is done when no runtime permission is granted (except system-fixed ones)
+    boolean arePermissionsReset() {
+        for (String line : runtimePermissionLines()) {
+            if (line.contains("granted=true") && !isFixedPermission(line)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 📋 The "name: granted=..., flags=[...]" lines of the app's runtime permissions section
+    private List<String> runtimePermissionLines() {
+        String dump = adb.shell("dumpsys package " + appPackage).getOutput();
+        List<String> lines = new ArrayList<>();
+        boolean inRuntimeSection = false;
+        for (String line : dump.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.equals("runtime permissions:")) {
+                inRuntimeSection = true;
+                continue;
+            }
+            if (!inRuntimeSection) {
+                continue;
+            }
+            if (!trimmed.contains("granted=")) {
+                inRuntimeSection = false;
+                continue;
+            }
+            lines.add(trimmed);
+        }
+        return lines;
+    }
+
+    private boolean isFixedPermission(String line) {
+        return line.contains("SYSTEM_FIXED") || line.contains("POLICY_FIXED") || line.contains("GRANTED_BY_DEFAULT");
+    }
+
+    private boolean sleep(long millis) {
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.WAIT, "reset poll")) {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mobile.automation.device;
+
+import com.mobile.automation.utils.TestLogger;
+
+import java.time.Duration;
+
+/**
+ * 📊 Reset Metrics - How many resets and logins the reset policy saved
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Counts resets done and resets avoided (state already matched, or a
+ *   tear-down that no longer resets)
+ * - Times resets, full logins and checkpoint restores
+ * - Estimates the time saved from those measured averages:
+ *   every avoided reset saves an average reset, every restore saves an
+ *   average login minus the restore itself
+ * - Prints a summary when the JVM exits
+ */
+public class ResetMetrics {
+
+    private static ResetMetrics shared;
+
+    private int resets;
+    private int resetsAvoided;
+    private int logins;
+    private int restores;
+    private long resetNanos;
+    private long loginNanos;
+    private long restoreNanos;
+
+    /**
+     * 🌍 Shared - The metrics of this test run
+     */
+    public static synchronized ResetMetrics shared() {
+        if (shared == null) {
+            shared = new ResetMetrics();
+            ResetMetrics metrics = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> TestLogger.logInfo(metrics.summary()), "reset-metrics-summary"));
+        }
+        return shared;
+    }
+
+    public synchronized void recordReset(Duration duration) {
+        resets++;
+        resetNanos += duration.toNanos();
+    }
+
+    public synchronized void recordResetAvoided() {
+        resetsAvoided++;
+    }
+
+    // 🔐 A reset followed by the full login flow
+    public synchronized void recordLogin(Duration duration) {
+        logins++;
+        loginNanos += duration.toNanos();
+    }
+
+    public synchronized void recordRestore(Duration duration) {
+        restores++;
+        restoreNanos += duration.toNanos();
+    }
+
+    public synchronized int getResets() {
+        return resets;
+    }
+
+    public synchronized int getResetsAvoided() {
+        return resetsAvoided;
+    }
+
+    public synchronized int getRestores() {
+        return restores;
+    }
+
+    /**
+     * ⏱️ Time Saved - Estimated from the averages measured in this run
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Zero for a kind of saving that has no measurement to compare with yet
+     *   (e.g. restores in a run that never had to log in the slow way)
+     */
+    public synchronized Duration getTimeSaved() {
+        long saved = 0;
+        if (resets > 0) {
+            saved += resetsAvoided * (resetNanos / resets);
+        }
+        if (logins > 0 && restores > 0) {
+            saved += restores * Math.max(0, loginNanos / logins - restoreNanos / restores);
+        }
+        return Duration.ofNanos(saved);
+    }
+
+    public synchronized String summary() {
+        return String.format("🔄 Reset policy: %d resets (avg %dms), %d avoided, %d logins, %d checkpoint restores, ~%.1fs saved",
+            resets, resets == 0 ? 0 : resetNanos / resets / 1_000_000, resetsAvoided, logins, restores,
+            getTimeSaved().toMillis() / 1000.0);
+    }
+}
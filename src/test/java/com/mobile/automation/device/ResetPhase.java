@@ -0,0 +1,54 @@
+package com.mobile.automation.device;
+
+import java.time.Duration;
+
+/**
+ * ⏱️ Reset Phase - Timing and outcome of one step of an app reset
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - name: which step ran (force-stop, clear-data, reset-permissions)
+ * - ready: true when the device reached the expected state before the deadline
+ * - polls: how many times we checked the device state
+ * - duration: time from sending the command until the device was ready (or we gave up)
+ */
+public class ResetPhase {
+
+    private final String name;
+    private final ShellResult commandResult;
+    private final boolean ready;
+    private final int polls;
+    private final Duration duration;
+
+    public ResetPhase(String name, ShellResult commandResult, boolean ready, int polls, Duration duration) {
+        this.name = name;
+        this.commandResult = commandResult;
+        this.ready = ready;
+        this.polls = polls;
+        this.duration = duration;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ShellResult getCommandResult() {
+        return commandResult;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getPolls() {
+        return polls;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + duration.toMillis() + "ms (" + polls + " polls" + (ready ? "" : ", NOT READY") + ")";
+    }
+}
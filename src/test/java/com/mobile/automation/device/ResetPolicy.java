@@ -0,0 +1,37 @@
+package com.mobile.automation.device;
+
+/**
+ * 🧮 Reset Policy - The cheapest way from the app's known state to the one a test needs
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - NONE: the app is already in a state the test can use - no reset at all
+ * - RESET: clear the app's data (onboarding / logged out)
+ * - RESTORE_CHECKPOINT: put a saved logged-in state back (about a second)
+ * - RESET_AND_LOGIN: clear the app and replay the login flow (the slow way)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't call this directly: BaseTest.setupTestIn(state) does
+ */
+public final class ResetPolicy {
+
+    public enum Transition { NONE, RESET, RESTORE_CHECKPOINT, RESET_AND_LOGIN }
+
+    private ResetPolicy() {
+        // Only static helpers - no instances needed
+    }
+
+    /**
+     * 🧮 Plan - Pick the transition from "known" to "required"
+     *
+     * @param checkpointsEnabled: Whether a saved login may be restored instead of replayed
+     */
+    public static Transition plan(AppState known, AppState required, boolean checkpointsEnabled) {
+        if (known.satisfies(required)) {
+            return Transition.NONE;
+        }
+        if (required == AppState.LOGGED_IN_HOME) {
+            return checkpointsEnabled ? Transition.RESTORE_CHECKPOINT : Transition.RESET_AND_LOGIN;
+        }
+        return Transition.RESET;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mobile.automation.device;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📋 Reset Report - What happened during one app reset
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Keeps the ResetPhase of every step in the order they ran
+ * - isComplete() tells you whether every step reached its expected state
+ * - toString() gives a one-line summary that is handy in logs
+ */
+public class ResetReport {
+
+    private final List<ResetPhase> phases = new ArrayList<>();
+
+    void addPhase(ResetPhase phase) {
+        phases.add(phase);
+    }
+
+    public List<ResetPhase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    public ResetPhase getPhase(String name) {
+        for (ResetPhase phase : phases) {
+            if (phase.getName().equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+
+    public boolean isComplete() {
+        for (ResetPhase phase : phases) {
+            if (!phase.isReady()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Duration getTotalDuration() {
+        Duration total = Duration.ZERO;
+        for (ResetPhase phase : phases) {
+            total = total.plus(phase.getDuration());
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "App reset " + (isComplete() ? "completed" : "INCOMPLETE") + " in "
+            + getTotalDuration().toMillis() + "ms: " + phases;
+    }
+}
@@ -0,0 +1,36 @@
+package com.mobile.automation.device;
+
+/**
+ * 📄 Shell Result - What a device shell command printed and returned
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Holds the exit code and the combined stdout/stderr of one command
+ * - isSuccess() is true when the command exited with code 0
+ */
+public class ShellResult {
+
+    private final int exitCode;
+    private final String output;
+
+    public ShellResult(int exitCode, String output) {
+        this.exitCode = exitCode;
+        this.output = output == null ? "" : output;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public boolean isSuccess() {
+        return exitCode == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "exit=" + exitCode + " output=" + output.trim();
+    }
+}
@@ -0,0 +1,161 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.replay.RecordingProxy;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Paths;
+
+/**
+ * 🏭 Appium Session Factory - Creates real UiAutomator2 sessions
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Builds the capabilities BasePage always used (device, app, UiAutomator2)
+ * - Creates AndroidDriver sessions against the Appium server
+ * - Measures every command of those sessions (see InstrumentedCommandExecutor)
+ * - Sends the commands over the configured HTTP transport (see TransportSettings)
+ * - Checks sessions with a cheap command and quits them when asked
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Settings come from FrameworkConfig (you can override them with -D)
+ * - You don't need to use this class directly, BasePage does it for you
+ */
+public class AppiumSessionFactory implements SessionFactory {
+
+    // 🚄 One client factory for the whole run, so sessions share its connection pool
+    private static HttpClient.Factory configuredClients;
+
+    private final URL serverUrl;
+    private final DesiredCapabilities capabilities;
+    private final CommandMetrics metrics;
+    private final HttpClient.Factory clients;
+
+    public AppiumSessionFactory(URL serverUrl, DesiredCapabilities capabilities) {
+        this(serverUrl, capabilities, FrameworkConfig.commandMetricsEnabled() ? CommandMetrics.shared() : null);
+    }
+
+    // 📡 Record the sessions' commands into these metrics (null = don't measure)
+    public AppiumSessionFactory(URL serverUrl, DesiredCapabilities capabilities, CommandMetrics metrics) {
+        this(serverUrl, capabilities, metrics, configuredClients());
+    }
+
+    // 🚄 ... and send them through these HTTP clients
+    public AppiumSessionFactory(URL serverUrl, DesiredCapabilities capabilities, CommandMetrics metrics,
+                                HttpClient.Factory clients) {
+        this.serverUrl = serverUrl;
+        this.capabilities = capabilities;
+        this.metrics = metrics;
+        this.clients = clients;
+    }
+
+    private static synchronized HttpClient.Factory configuredClients() {
+        if (configuredClients == null) {
+            configuredClients = TransportSettings.fromConfig().clientFactory();
+        }
+        return configuredClients;
+    }
+
+    /**
+     * 📱 For Device - Build a factory for one device from the DeviceRegistry
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Uses the device's Appium URL, or a RecordingProxy in front of it
+     *   when -Dappium.recordTo is set
+     */
+    public static AppiumSessionFactory forDevice(Device device) throws MalformedURLException {
+        URL serverUrl = new URL(device.getAppiumUrl());
+        String recordTo = FrameworkConfig.appiumRecordTo();
+        if (!recordTo.isEmpty()) {
+            // 🎙️ RECORD: Talk to Appium through a proxy that records every exchange
+            try {
+                serverUrl = RecordingProxy.forTarget(serverUrl, Paths.get(recordTo));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't record Appium traffic to " + recordTo, e);
+            }
+        }
+        return new AppiumSessionFactory(serverUrl, capabilitiesFor(device));
+    }
+
+    /**
+     * 📋 Capabilities For - Default capabilities pinned to one device
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - udid makes Appium use exactly this device when several are connected
+     * - systemPort must be different for every device on the same Appium server
+     */
+    public static DesiredCapabilities capabilitiesFor(Device device) {
+        DesiredCapabilities capabilities = defaultCapabilities();
+        capabilities.setCapability("deviceName", device.getSerial());
+        capabilities.setCapability("udid", device.getSerial());
+        capabilities.setCapability("systemPort", device.getSystemPort());
+        return capabilities;
+    }
+
+    /**
+     * 📋 Default Capabilities - The capabilities every test session uses
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Tells Appium which device, Android version and app to automate
+     * - Keeps the session alive on the server while it sits in the pool
+     */
+    public static DesiredCapabilities defaultCapabilities() {
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+
+        // 📱 DEVICE INFORMATION: Tell Appium about the device
+        capabilities.setCapability("platformName", "Android");
+        capabilities.setCapability("deviceName", FrameworkConfig.deviceName());
+        capabilities.setCapability("platformVersion", FrameworkConfig.platformVersion());
+
+        // 📱 APP INFORMATION: Tell Appium which app to test
+        capabilities.setCapability("appPackage", FrameworkConfig.appPackage());
+        capabilities.setCapability("appActivity", FrameworkConfig.appActivity());
+
+        // ⚙️ APPIUM SETTINGS: Configure how Appium should behave
+        capabilities.setCapability("automationName", "UiAutomator2");
+        capabilities.setCapability("noReset", false);
+        capabilities.setCapability("autoGrantPermissions", true);
+
+        // ♻️ POOLED SESSIONS: Appium kills sessions that receive no command for
+        // newCommandTimeout seconds (60 by default), so give idle pooled sessions
+        // at least as long as the pool is willing to keep them
+        long idleSeconds = FrameworkConfig.sessionPoolIdleTimeout().getSeconds();
+        capabilities.setCapability("newCommandTimeout", idleSeconds + 60);
+
+        return capabilities;
+    }
+
+    @Override
+    public AppiumDriver create() {
+        if (metrics == null) {
+            return new AndroidDriver(serverUrl, clients, capabilities);
+        }
+        return new AndroidDriver(new InstrumentedCommandExecutor(serverUrl, metrics, clients), capabilities);
+    }
+
+    @Override
+    public boolean isAlive(AppiumDriver driver) {
+        try {
+            // Cheapest W3C command that needs a live session
+            return driver.getSessionId() != null && driver.getWindowHandle() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy(AppiumDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Session already gone on the server - nothing else to clean up
+        }
+    }
+}
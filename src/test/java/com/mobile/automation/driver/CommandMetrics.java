@@ -0,0 +1,192 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📡 Command Metrics - Latency and size of every Appium command, per command type
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Keeps one LatencyHistogram per command name (findElements, click, getPageSource, ...)
+ * - Adds up request bytes, response bytes and failed calls per command
+ * - summary(): p50/p95/p99 per command, slowest total first (logged at the end of the run)
+ * - writePrometheus(file): the same numbers in Prometheus text format, for a
+ *   node_exporter textfile collector or a Pushgateway
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Filled in by InstrumentedCommandExecutor, which every session uses
+ *   unless -Dmetrics.commands=false
+ * - Set -Dmetrics.prometheusFile=target/appium-commands.prom to export at the end of the run
+ */
+public class CommandMetrics {
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    private static CommandMetrics shared;
+
+    private final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+
+    /**
+     * 🌍 Shared - The metrics every session records into
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Created on first use
+     * - Logs the summary (and writes the Prometheus file, if configured) when the run ends
+     */
+    public static synchronized CommandMetrics shared() {
+        if (shared == null) {
+            shared = new CommandMetrics();
+            CommandMetrics metrics = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(metrics::finishRun, "command-metrics-summary"));
+        }
+        return shared;
+    }
+
+    // ➕ Record one command round trip
+    public void record(String command, long nanos, long requestBytes, long responseBytes, boolean failed) {
+        CommandStats stats = commands.computeIfAbsent(command, CommandStats::new);
+        stats.latency.record(nanos);
+        stats.requestBytes.add(requestBytes);
+        stats.responseBytes.add(responseBytes);
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    // 📊 Latencies of one command (null if it was never sent)
+    public LatencyHistogram histogram(String command) {
+        CommandStats stats = commands.get(command);
+        return stats == null ? null : stats.latency;
+    }
+
+    public long requestBytes(String command) {
+        CommandStats stats = commands.get(command);
+        return stats == null ? 0 : stats.requestBytes.sum();
+    }
+
+    public long responseBytes(String command) {
+        CommandStats stats = commands.get(command);
+        return stats == null ? 0 : stats.responseBytes.sum();
+    }
+
+    public long errors(String command) {
+        CommandStats stats = commands.get(command);
+        return stats == null ? 0 : stats.errors.sum();
+    }
+
+    /**
+     * 📋 Summary - One line per command, slowest total first
+     */
+    public String summary() {
+        List<CommandStats> all = new ArrayList<>(commands.values());
+        all.sort((a, b) -> b.latency.getTotal().compareTo(a.latency.getTotal()));
+        StringBuilder text = new StringBuilder("📡 Appium command summary (" + all.size() + " commands)");
+        for (CommandStats stats : all) {
+            LatencyHistogram latency = stats.latency;
+            text.append(String.format("%n  %s: %d calls, p50 %dms, p95 %dms, p99 %dms, max %dms, total %dms, sent %dKB, received %dKB, %d errors",
+                stats.command, latency.getCount(), latency.percentile(50).toMillis(), latency.percentile(95).toMillis(),
+                latency.percentile(99).toMillis(), latency.getMax().toMillis(), latency.getTotal().toMillis(),
+                stats.requestBytes.sum() / 1024, stats.responseBytes.sum() / 1024, stats.errors.sum()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * 📤 Write Prometheus - Export every command's numbers as a Prometheus text file
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Latency as a summary (quantiles 0.5/0.95/0.99, _sum, _count) in seconds
+     * - Request/response bytes and errors as counters
+     * - Writes to a temporary file and moves it into place, so a collector
+     *   never reads half a file
+     */
+    public void writePrometheus(Path file) throws IOException {
+        Map<String, CommandStats> sorted = new TreeMap<>(commands);
+        StringBuilder text = new StringBuilder()
+            .append("# HELP appium_command_duration_seconds Round-trip time of Appium commands\n")
+            .append("# TYPE appium_command_duration_seconds summary\n");
+        for (CommandStats stats : sorted.values()) {
+            String label = "command=\"" + escape(stats.command) + "\"";
+            for (double percentile : PERCENTILES) {
+                text.append("appium_command_duration_seconds{").append(label).append(",quantile=\"")
+                    .append(percentile / 100).append("\"} ").append(seconds(stats.latency.percentile(percentile).toNanos())).append('\n');
+            }
+            text.append("appium_command_duration_seconds_sum{").append(label).append("} ")
+                .append(seconds(stats.latency.getTotal().toNanos())).append('\n')
+                .append("appium_command_duration_seconds_count{").append(label).append("} ")
+                .append(stats.latency.getCount()).append('\n');
+        }
+        counter(text, sorted, "appium_command_request_bytes_total", "Bytes sent to Appium", stats -> stats.requestBytes.sum());
+        counter(text, sorted, "appium_command_response_bytes_total", "Bytes received from Appium", stats -> stats.responseBytes.sum());
+        counter(text, sorted, "appium_command_errors_total", "Appium commands that failed", stats -> stats.errors.sum());
+
+        Path target = file.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, text.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void finishRun() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        TestLogger.logInfo(summary());
+        String file = FrameworkConfig.metricsPrometheusFile();
+        if (!file.isEmpty()) {
+            try {
+                writePrometheus(Paths.get(file));
+                TestLogger.logInfo("📤 Appium command metrics written to " + file);
+            } catch (IOException e) {
+                TestLogger.logWarning("Could not write " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private interface Counter {
+        long value(CommandStats stats);
+    }
+
+    private static void counter(StringBuilder text, Map<String, CommandStats> sorted, String name, String help, Counter counter) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(name).append(" counter\n");
+        for (CommandStats stats : sorted.values()) {
+            text.append(name).append("{command=\"").append(escape(stats.command)).append("\"} ")
+                .append(counter.value(stats)).append('\n');
+        }
+    }
+
+    private static String seconds(long nanos) {
+        return String.valueOf(nanos / 1e9);
+    }
+
+    // 🔤 Prometheus label values escape backslash, quote and newline
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class CommandStats {
+        private final String command;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private CommandStats(String command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.mobile.automation.driver;
+
+/**
+ * 📱 Device - One Android device (or emulator) tests can run on
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - serial: the adb serial, e.g. "emulator-5554"
+ * - appiumUrl: the Appium server that drives this device
+ * - systemPort: the UiAutomator2 port for this device (must differ per device
+ *   when several devices share one Appium server)
+ */
+public class Device {
+
+    private final String serial;
+    private final String appiumUrl;
+    private final int systemPort;
+
+    public Device(String serial, String appiumUrl, int systemPort) {
+        this.serial = serial;
+        this.appiumUrl = appiumUrl;
+        this.systemPort = systemPort;
+    }
+
+    public String getSerial() {
+        return serial;
+    }
+
+    public String getAppiumUrl() {
+        return appiumUrl;
+    }
+
+    public int getSystemPort() {
+        return systemPort;
+    }
+
+    @Override
+    public String toString() {
+        return serial + " (" + appiumUrl + ", systemPort " + systemPort + ")";
+    }
+}
@@ -0,0 +1,170 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🗂️ Device Registry - Knows every device and which test thread is using it
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Builds the device list from -Ddevices (or "adb devices" when -Ddevices=auto)
+ * - Gives each test thread its own device, so parallel tests never share one
+ * - Makes a thread wait when every device is busy
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - One device (the old emulator-5554 setup) needs no configuration at all
+ * - Two emulators on one Appium server: -Ddevices=emulator-5554,emulator-5556
+ * - Each device on its own Appium server:
+ *   -Ddevices=emulator-5554@http://127.0.0.1:4723/wd/hub,emulator-5556@http://127.0.0.1:4725/wd/hub
+ */
+public class DeviceRegistry {
+
+    private static final int FIRST_SYSTEM_PORT = 8200;
+
+    private static DeviceRegistry shared;
+
+    private final List<Device> devices;
+    private final LinkedBlockingQueue<Device> free;
+    private final ThreadLocal<Device> threadDevice = new ThreadLocal<>();
+    private final Duration acquireTimeout;
+
+    public DeviceRegistry(List<Device> devices, Duration acquireTimeout) {
+        if (devices.isEmpty()) {
+            throw new IllegalArgumentException("At least one device is required");
+        }
+        this.devices = Collections.unmodifiableList(new ArrayList<>(devices));
+        this.free = new LinkedBlockingQueue<>(devices);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 🌍 Shared - The registry every BasePage uses (built from config once)
+     */
+    public static synchronized DeviceRegistry shared() {
+        if (shared == null) {
+            shared = fromConfig();
+            TestLogger.logInfo("Devices available for tests: " + shared.getDevices());
+        }
+        return shared;
+    }
+
+    /**
+     * 🔧 From Config - Read devices from -Ddevices
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Not set: a single device, FrameworkConfig.deviceName()
+     * - "auto": every device "adb devices" reports as online
+     * - A comma-separated list of serial or serial@appiumUrl
+     */
+    public static DeviceRegistry fromConfig() {
+        String setting = FrameworkConfig.getString("devices", FrameworkConfig.deviceName());
+        List<String> entries = new ArrayList<>();
+        if ("auto".equalsIgnoreCase(setting)) {
+            entries.addAll(discoverSerials(FrameworkConfig.adbPath()));
+        } else {
+            for (String entry : setting.split(",")) {
+                if (!entry.trim().isEmpty()) {
+                    entries.add(entry.trim());
+                }
+            }
+        }
+
+        List<Device> devices = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String entry = entries.get(i);
+            int at = entry.indexOf('@');
+            String serial = at < 0 ? entry : entry.substring(0, at);
+            String url = at < 0 ? FrameworkConfig.appiumUrl() : entry.substring(at + 1);
+            devices.add(new Device(serial, url, FIRST_SYSTEM_PORT + i));
+        }
+        return new DeviceRegistry(devices, FrameworkConfig.sessionPoolCheckoutTimeout());
+    }
+
+    /**
+     * 🔍 Discover Serials - Ask "adb devices" which devices are online
+     */
+    public static List<String> discoverSerials(String adbPath) {
+        try {
+            Process process = new ProcessBuilder(adbPath, "devices").redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+            return parseAdbDevices(output);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not run '" + adbPath + " devices': " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running adb devices", e);
+        }
+    }
+
+    // 📋 Keep only "serial<TAB>device" lines (skips offline/unauthorized devices)
+    static List<String> parseAdbDevices(String output) {
+        List<String> serials = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length >= 2 && "device".equals(columns[1])) {
+                serials.add(columns[0]);
+            }
+        }
+        return serials;
+    }
+
+    public List<Device> getDevices() {
+        return devices;
+    }
+
+    /**
+     * 📲 Acquire For Current Thread - Get this thread's device
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the device this thread already holds, if any
+     * - Otherwise waits for a free device and binds it to this thread
+     */
+    public Device acquireForCurrentThread() {
+        Device device = threadDevice.get();
+        if (device != null) {
+            return device;
+        }
+        try {
+            device = free.poll(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free device", e);
+        }
+        if (device == null) {
+            throw new IllegalStateException("No device became free within " + acquireTimeout.getSeconds()
+                + "s - use fewer test threads than devices (" + devices.size() + ")");
+        }
+        threadDevice.set(device);
+        return device;
+    }
+
+    // 📱 The device this thread holds right now (null if none)
+    public Device currentDevice() {
+        return threadDevice.get();
+    }
+
+    /**
+     * 🔓 Release Current Thread - Give this thread's device back
+     */
+    public void releaseCurrentThread() {
+        Device device = threadDevice.get();
+        if (device != null) {
+            threadDevice.remove();
+            free.offer(device);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mobile.automation.driver;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * 🔗 Driver Binding - The driver a test (or task) is currently working with
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Holds the AppiumDriver plus the device it drives
+ * - Remembers the pooled session behind it (null when pooling is off)
+ * - Is what DriverContext binds to a thread or to a runWith() scope
+ */
+public class DriverBinding {
+
+    private final AppiumDriver driver;
+    private final Device device;
+    private final PooledSession pooledSession;
+
+    public DriverBinding(AppiumDriver driver, Device device, PooledSession pooledSession) {
+        this.driver = driver;
+        this.device = device;
+        this.pooledSession = pooledSession;
+    }
+
+    // 🔗 A binding for a driver created outside DriverContext (no device, no pool)
+    public static DriverBinding of(AppiumDriver driver) {
+        return new DriverBinding(driver, null, null);
+    }
+
+    public AppiumDriver getDriver() {
+        return driver;
+    }
+
+    public Device getDevice() {
+        return device;
+    }
+
+    public PooledSession getPooledSession() {
+        return pooledSession;
+    }
+
+    public boolean isPooled() {
+        return pooledSession != null;
+    }
+}
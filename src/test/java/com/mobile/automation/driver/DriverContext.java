@@ -0,0 +1,251 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+import io.appium.java_client.AppiumDriver;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 🧭 Driver Context - Where page objects find "their" driver
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - open(): gives the current thread a device and a driver (from the device's session pool)
+ * - close(): gives the driver back to its pool and frees the device
+ * - currentDriver(): the driver bound to the current thread or runWith() scope
+ * - runWith(binding, task): runs a task with a given driver and restores the
+ *   previous one afterwards, so it is safe on shared executor threads and
+ *   virtual threads (nothing is left behind on the carrier thread)
+ * - Calls DriverLifecycleListener hooks on create, checkout and release
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - BasePage.setupDriver()/cleanup() call open()/close() for you
+ * - Page objects just call getDriver(); no driver has to be passed around
+ * - Parallel tests each see their own driver, never someone else's
+ */
+public final class DriverContext {
+
+    // 🧵 CURRENT BINDING: Per thread; runWith() swaps it for the length of one task
+    private static final ThreadLocal<DriverBinding> CURRENT = new ThreadLocal<>();
+
+    // ♻️ SESSION POOLS: One pool per device, shared by every test in this JVM
+    private static final Map<String, SessionPool> SESSION_POOLS = new ConcurrentHashMap<>();
+
+    private static final List<DriverLifecycleListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private DriverContext() {
+        // Only static helpers - no instances needed
+    }
+
+    public static void addListener(DriverLifecycleListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void removeListener(DriverLifecycleListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * 🚀 Open - Bind a device and a driver to the current thread
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Picks a free device from the registry (reuses the one this thread holds)
+     * - Takes a warm session from that device's pool, or creates one if pooling is off
+     * - Fires onCheckout and returns the new binding
+     */
+    public static DriverBinding open() throws MalformedURLException {
+        return open(DeviceRegistry.shared());
+    }
+
+    public static DriverBinding open(DeviceRegistry registry) throws MalformedURLException {
+        Device device = registry.acquireForCurrentThread();
+        DriverBinding binding;
+        if (FrameworkConfig.sessionPoolEnabled()) {
+            // ♻️ POOLED SESSION: Reuse a warm session instead of creating a new one
+            PooledSession pooledSession = sessionPool(device).checkout();
+            binding = new DriverBinding(pooledSession.getDriver(), device, pooledSession);
+        } else {
+            binding = new DriverBinding(notifyingFactory(device).create(), device, null);
+        }
+        CURRENT.set(binding);
+        fire(listener -> listener.onCheckout(binding));
+        return binding;
+    }
+
+    /**
+     * 🧹 Close - Give the current thread's driver back
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Fires onRelease
+     * - Returns a pooled session to its pool (non-pooled sessions stay open for debugging)
+     * - Unbinds the driver and frees the device for other threads
+     */
+    public static void close() {
+        close(DeviceRegistry.shared());
+    }
+
+    public static void close(DeviceRegistry registry) {
+        DriverBinding binding = CURRENT.get();
+        CURRENT.remove();
+        if (binding != null) {
+            fire(listener -> listener.onRelease(binding));
+            if (binding.isPooled() && binding.getDevice() != null) {
+                SessionPool pool = SESSION_POOLS.get(poolKey(binding.getDevice()));
+                if (pool != null) {
+                    pool.release(binding.getPooledSession());
+                }
+            }
+        }
+        registry.releaseCurrentThread();
+    }
+
+    // 🔗 The binding of the current thread or runWith() scope (null if none)
+    public static DriverBinding current() {
+        return CURRENT.get();
+    }
+
+    // 📱 The driver of the current thread or runWith() scope (null if none)
+    public static AppiumDriver currentDriver() {
+        DriverBinding binding = CURRENT.get();
+        return binding == null ? null : binding.getDriver();
+    }
+
+    // 📱 Like currentDriver(), but fails with a clear message when nothing is bound
+    public static AppiumDriver requireDriver() {
+        AppiumDriver driver = currentDriver();
+        if (driver == null) {
+            throw new IllegalStateException("No driver bound to " + Thread.currentThread().getName()
+                + " - call BasePage.setupDriver() or DriverContext.runWith(...) first");
+        }
+        return driver;
+    }
+
+    // 🔗 Bind a binding to the current thread (until close() or unbind())
+    public static void bind(DriverBinding binding) {
+        CURRENT.set(binding);
+    }
+
+    // 🔓 Remove the current thread's binding without releasing anything
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 🎯 Run With - Run a task with a given driver, then restore the previous one
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Binds the driver only for the duration of the task
+     * - Always restores what was bound before, even if the task throws
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - Use this when you hand work to another thread or executor:
+     *   executor.submit(() -> DriverContext.runWith(binding, () -> page.doSomething()))
+     */
+    public static <T> T runWith(DriverBinding binding, Callable<T> task) throws Exception {
+        DriverBinding previous = CURRENT.get();
+        CURRENT.set(binding);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runWith(DriverBinding binding, Runnable task) {
+        try {
+            runWith(binding, () -> {
+                task.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ♻️ Session Pool - Shared pool of warm Appium sessions for one device
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Creates the device's pool the first time it is needed and warms it up
+     * - Closes every pooled session when the JVM shuts down
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - Pool size and timeouts come from -Dsession.pool.* (see FrameworkConfig)
+     * - Turn pooling off with -Dsession.pool.enabled=false
+     */
+    public static SessionPool sessionPool(Device device) throws MalformedURLException {
+        String key = poolKey(device);
+        SessionPool pool = SESSION_POOLS.get(key);
+        if (pool != null) {
+            return pool;
+        }
+        synchronized (SESSION_POOLS) {
+            pool = SESSION_POOLS.get(key);
+            if (pool == null) {
+                pool = new SessionPool(notifyingFactory(device), SessionPoolSettings.fromConfig());
+                Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "session-pool-shutdown"));
+                pool.warmUp();
+                SESSION_POOLS.put(key, pool);
+            }
+            return pool;
+        }
+    }
+
+    // 🧹 Close and forget one device's pool (its sessions are quit)
+    public static void closeSessionPool(Device device) {
+        SessionPool pool = SESSION_POOLS.remove(poolKey(device));
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static String poolKey(Device device) {
+        return device.getSerial() + "@" + device.getAppiumUrl();
+    }
+
+    // 🪝 Wrap the device's factory so every new session fires onCreate
+    private static SessionFactory notifyingFactory(Device device) throws MalformedURLException {
+        AppiumSessionFactory factory = AppiumSessionFactory.forDevice(device);
+        return new SessionFactory() {
+            @Override
+            public AppiumDriver create() {
+                AppiumDriver driver = factory.create();
+                fire(listener -> listener.onCreate(driver, device));
+                return driver;
+            }
+
+            @Override
+            public boolean isAlive(AppiumDriver driver) {
+                return factory.isAlive(driver);
+            }
+
+            @Override
+            public void destroy(AppiumDriver driver) {
+                factory.destroy(driver);
+            }
+        };
+    }
+
+    private static void fire(Consumer<DriverLifecycleListener> hook) {
+        for (DriverLifecycleListener listener : LISTENERS) {
+            try {
+                hook.accept(listener);
+            } catch (RuntimeException e) {
+                // ⚠️ A broken listener must never break the test
+                TestLogger.logWarning("Driver lifecycle listener failed: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.mobile.automation.driver;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * 🪝 Driver Lifecycle Listener - Get told when drivers are created, handed out and given back
+ *
+ * 📚 WHAT THIS INTERFACE DOES:
+ * - onCreate: a brand-new Appium session was started for a device
+ * - onCheckout: a test got a driver (new or reused) from DriverContext.open()
+ * - onRelease: a test gave its driver back in DriverContext.close()
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Register with DriverContext.addListener(...) and override only what you need
+ * - Useful for logging, timing or extra per-session setup
+ * - An exception thrown here is logged and never fails the test
+ */
+public interface DriverLifecycleListener {
+
+    default void onCreate(AppiumDriver driver, Device device) {
+    }
+
+    default void onCheckout(DriverBinding binding) {
+    }
+
+    default void onRelease(DriverBinding binding) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMessage;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.net.URL;
+
+/**
+ * 📡 Instrumented Command Executor - Measures every command a session sends to Appium
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - The normal Appium command executor, with a stopwatch around execute()
+ * - Records command name, request size, response size, latency and failures
+ *   into CommandMetrics
+ * - Sizes are the body bytes on the wire: what the transport reports after
+ *   gzip (see TunedHttpClientFactory), otherwise what the HTTP client
+ *   underneath sends and receives (Content-Length when the server sends it)
+ * - Also records each command as an Appium step of the running test (StepTimer)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - AppiumSessionFactory installs it on every session it creates;
+ *   turn it off with -Dmetrics.commands=false
+ */
+public class InstrumentedCommandExecutor extends AppiumCommandExecutor {
+
+    // 📏 Bytes of the HTTP exchange(s) of the command running on this thread: {request, response}
+    private static final ThreadLocal<long[]> EXCHANGE = ThreadLocal.withInitial(() -> new long[2]);
+
+    // 🗜️ Body bytes the transport really sent and received for the exchange running on this thread
+    private static final ThreadLocal<long[]> WIRE = new ThreadLocal<>();
+
+    private final CommandMetrics metrics;
+
+    public InstrumentedCommandExecutor(URL serverUrl, CommandMetrics metrics) {
+        this(serverUrl, metrics, HttpClient.Factory.createDefault());
+    }
+
+    public InstrumentedCommandExecutor(URL serverUrl, CommandMetrics metrics, HttpClient.Factory clients) {
+        super(MobileCommand.commandRepository, serverUrl, new MeasuringClientFactory(clients));
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response execute(Command command) {
+        long[] bytes = EXCHANGE.get();
+        bytes[0] = 0;
+        bytes[1] = 0;
+        boolean failed = true;
+        long start = System.nanoTime();
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, command.getName())) {
+            Response response = super.execute(command);
+            failed = response == null || (response.getStatus() != null && response.getStatus() != 0);
+            return response;
+        } finally {
+            metrics.record(command.getName(), System.nanoTime() - start, bytes[0], bytes[1], failed);
+        }
+    }
+
+    /**
+     * 📏 Report Wire Bytes - For transports that change bodies on the way (e.g. gzip)
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Tells the measuring client what the current exchange really cost, so
+     *   compressed traffic is not counted at its uncompressed size
+     * - Call it from the transport's execute(), on the thread that sends the request
+     */
+    static void reportWireBytes(long requestBytes, long responseBytes) {
+        WIRE.set(new long[] {requestBytes, responseBytes});
+    }
+
+    // 🏭 Hands out HTTP clients that count the bytes of every exchange
+    private static final class MeasuringClientFactory implements HttpClient.Factory {
+
+        private final HttpClient.Factory delegate;
+
+        private MeasuringClientFactory(HttpClient.Factory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpClient createClient(ClientConfig config) {
+            return new MeasuringClient(delegate.createClient(config));
+        }
+
+        @Override
+        public void cleanupIdleClients() {
+            delegate.cleanupIdleClients();
+        }
+    }
+
+    private static final class MeasuringClient implements HttpClient {
+
+        private final HttpClient delegate;
+
+        private MeasuringClient(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            long[] bytes = EXCHANGE.get();
+            WIRE.remove();
+            HttpResponse response = null;
+            try {
+                response = delegate.execute(request);
+                return response;
+            } finally {
+                long[] wire = WIRE.get();
+                WIRE.remove();
+                bytes[0] += wire != null ? wire[0] : sizeOf(request);
+                bytes[1] += wire != null ? wire[1] : response == null ? 0 : sizeOf(response);
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        private static long sizeOf(HttpMessage<?> message) {
+            String length = message.getHeader("Content-Length");
+            if (length != null) {
+                try {
+                    return Long.parseLong(length.trim());
+                } catch (NumberFormatException e) {
+                    // Fall through and count the bytes
+                }
+            }
+            return message.getContent() == null ? 0 : Contents.bytes(message.getContent()).length;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.mobile.automation.driver;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📊 Latency Histogram - Counts latencies in buckets, HdrHistogram style
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Records latencies with microsecond resolution from 1µs up to ~38 hours
+ * - Buckets grow with the value (64 buckets per power of two), so every
+ *   percentile is accurate to about 1.5% while memory stays fixed (~17KB)
+ * - percentile(99) answers "99% of calls were at least this fast"
+ * - Safe to record from many threads at once, without locks
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Averages hide the slow calls that make tests flaky; look at p95/p99
+ */
+public class LatencyHistogram {
+
+    // 🧮 64 sub-buckets per power of two; values below 128µs get a bucket each
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final int BUCKETS = (MAX_EXPONENT + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value / 1_000));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    public Duration getMean() {
+        long calls = count.sum();
+        return calls == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / calls);
+    }
+
+    /**
+     * 📈 Percentile - The latency this share of calls stayed at or below
+     *
+     * @param percent: 0-100, e.g. 99 for p99
+     * @return the upper edge of the bucket holding that call (never above the max), or 0 with no calls
+     */
+    public Duration percentile(double percent) {
+        long calls = count.sum();
+        if (calls == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(calls * percent / 100.0));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                long upperNanos = upperBoundMicros(bucket) * 1_000 + 999;
+                return Duration.ofNanos(Math.min(upperNanos, maxNanos.get()));
+            }
+        }
+        return getMax();
+    }
+
+    // 🗂️ Bucket index of a value in microseconds
+    static int bucketOf(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        if (shift > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        return shift * SUB_BUCKETS + (int) (micros >> shift);
+    }
+
+    // 🗂️ Largest value (microseconds) that still falls into a bucket
+    static long upperBoundMicros(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mobile.automation.driver;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * ♻️ Pooled Session - One Appium session plus its bookkeeping
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Wraps the AppiumDriver handed out by SessionPool
+ * - Remembers when the session was created and last returned to the pool
+ * - Counts how many tests have used it (isReused() tells you if it is warm)
+ */
+public class PooledSession {
+
+    private final AppiumDriver driver;
+    private final long createdAtNanos;
+    private volatile long idleSinceNanos;
+    private volatile int useCount;
+
+    PooledSession(AppiumDriver driver, long createdAtNanos) {
+        this.driver = driver;
+        this.createdAtNanos = createdAtNanos;
+        this.idleSinceNanos = createdAtNanos;
+    }
+
+    public AppiumDriver getDriver() {
+        return driver;
+    }
+
+    // ♻️ True when an earlier test already used this session
+    public boolean isReused() {
+        return useCount > 1;
+    }
+
+    public int getUseCount() {
+        return useCount;
+    }
+
+    long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    long getIdleSinceNanos() {
+        return idleSinceNanos;
+    }
+
+    void markCheckedOut() {
+        useCount++;
+    }
+
+    void markIdle(long nowNanos) {
+        idleSinceNanos = nowNanos;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mobile.automation.driver;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * 🏭 Session Factory - Knows how to create, check and close Appium sessions
+ *
+ * 📚 WHAT THIS INTERFACE DOES:
+ * - Creates a brand-new Appium session (the slow part we want to do rarely)
+ * - Checks whether an existing session is still usable
+ * - Closes a session when it is no longer needed
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - The SessionPool uses this to manage sessions for you
+ * - AppiumSessionFactory is the real implementation used by BasePage
+ */
+public interface SessionFactory {
+
+    // 🚀 Create a brand-new session (starts the app on the device)
+    AppiumDriver create();
+
+    // 🩺 Return true if the session still answers commands
+    boolean isAlive(AppiumDriver driver);
+
+    // 🧹 Close the session and free it on the Appium server
+    void destroy(AppiumDriver driver);
+}
@@ -0,0 +1,283 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.TestLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ♻️ Session Pool - Keeps warm Appium sessions ready for the next test
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Pre-creates Appium sessions (warmUp) so tests don't wait for session start-up
+ * - Hands out one session per test (checkout) and takes it back afterwards (release)
+ * - Checks a session still works before handing it out
+ * - Replaces sessions that are too old and closes sessions idle for too long
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Creating a session takes ~10 seconds, reusing one takes milliseconds
+ * - BasePage uses this automatically when -Dsession.pool.enabled=true (default)
+ * - Always release() what you checkout(), otherwise the pool runs dry
+ */
+public class SessionPool implements AutoCloseable {
+
+    private final SessionFactory factory;
+    private final SessionPoolSettings settings;
+
+    // 🔐 One permit per session a caller may hold at the same time
+    private final Semaphore permits;
+
+    // 🛌 Idle sessions, most recently used first (keeps hot sessions hot)
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledSession> inUse = ConcurrentHashMap.newKeySet();
+
+    // 🔢 Sessions that exist right now (idle + in use + being created)
+    private final AtomicInteger open = new AtomicInteger();
+
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    // 📊 COUNTERS: How well the pool is doing
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger evicted = new AtomicInteger();
+
+    public SessionPool(SessionFactory factory, SessionPoolSettings settings) {
+        this.factory = factory;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.getMaxSessions(), true);
+
+        // 🧹 EVICTOR: Background thread that closes sessions idle for too long
+        long intervalMillis = Math.max(100, Math.min(settings.getIdleTimeout().toMillis() / 2, 30_000));
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor.scheduleWithFixedDelay(this::evictIdle, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 🔥 Warm Up - Create sessions up front so the first tests don't wait
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Creates sessions until the pool holds maxSessions sessions
+     * - Call it once before the suite starts (e.g. while the emulator is idle)
+     */
+    public void warmUp() {
+        while (!closed && reserveSlot()) {
+            idle.offerLast(createSession());
+        }
+    }
+
+    /**
+     * 📤 Checkout - Get a working session for a test
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Waits (up to checkoutTimeout) until a session slot is free
+     * - Reuses an idle session when one is healthy and not too old
+     * - Otherwise creates a brand-new session
+     */
+    public PooledSession checkout() {
+        if (closed) {
+            throw new IllegalStateException("Session pool is closed");
+        }
+        long deadline = System.nanoTime() + settings.getCheckoutTimeout().toNanos();
+        acquirePermit();
+        try {
+            while (true) {
+                PooledSession session = idle.pollFirst();
+                if (session != null) {
+                    if (isExpired(session, System.nanoTime())
+                            || (settings.isValidateOnCheckout() && !factory.isAlive(session.getDriver()))) {
+                        destroy(session);
+                        continue;
+                    }
+                    reused.incrementAndGet();
+                    return lend(session);
+                }
+                if (reserveSlot()) {
+                    return lend(createSession());
+                }
+                // ⏳ Every slot is taken by a session warmUp() is still creating - wait for it
+                session = pollIdleUntil(deadline);
+                if (session != null) {
+                    idle.offerFirst(session);
+                }
+            }
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 📥 Release - Give a session back to the pool after a test
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Puts the session back so the next test can reuse it
+     * - Closes it instead if it is too old or the pool is shutting down
+     */
+    public void release(PooledSession session) {
+        if (!inUse.remove(session)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (closed || isExpired(session, now)) {
+            destroy(session);
+        } else {
+            session.markIdle(now);
+            idle.offerFirst(session);
+        }
+        permits.release();
+    }
+
+    /**
+     * 🗑️ Invalidate - Throw away a broken session instead of returning it
+     */
+    public void invalidate(PooledSession session) {
+        if (inUse.remove(session)) {
+            destroy(session);
+            permits.release();
+        }
+    }
+
+    /**
+     * 🧹 Evict Idle - Close sessions that sat idle too long or got too old
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Runs automatically on a background thread
+     * - Can also be called directly (useful in tests)
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        List<PooledSession> stale = new ArrayList<>();
+        idle.removeIf(session -> {
+            boolean idleTooLong = now - session.getIdleSinceNanos() >= settings.getIdleTimeout().toNanos();
+            if (idleTooLong || isExpired(session, now)) {
+                stale.add(session);
+                return true;
+            }
+            return false;
+        });
+        for (PooledSession session : stale) {
+            evicted.incrementAndGet();
+            destroy(session);
+        }
+    }
+
+    /**
+     * 🛑 Close - Quit every idle session and stop the evictor
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Closes idle sessions right away
+     * - Sessions still checked out are closed when they are released
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            destroy(session);
+        }
+        TestLogger.logInfo("Session pool closed: " + created.get() + " created, "
+            + reused.get() + " reused, " + evicted.get() + " evicted");
+    }
+
+    // 📊 STATS: Numbers you can log or assert on
+    public int size() {
+        return open.get();
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public int createdCount() {
+        return created.get();
+    }
+
+    public int reusedCount() {
+        return reused.get();
+    }
+
+    public int evictedCount() {
+        return evicted.get();
+    }
+
+    private void acquirePermit() {
+        try {
+            long waitMillis = settings.getCheckoutTimeout().toMillis();
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No Appium session became available within "
+                    + waitMillis + "ms (pool size " + settings.getMaxSessions() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an Appium session", e);
+        }
+    }
+
+    private PooledSession lend(PooledSession session) {
+        session.markCheckedOut();
+        inUse.add(session);
+        return session;
+    }
+
+    private PooledSession pollIdleUntil(long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IllegalStateException("No Appium session became available within "
+                + settings.getCheckoutTimeout().toMillis() + "ms");
+        }
+        try {
+            return idle.pollFirst(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an Appium session", e);
+        }
+    }
+
+    // 🔢 Claim a slot for a new session without going over maxSessions
+    private boolean reserveSlot() {
+        while (true) {
+            int current = open.get();
+            if (current >= settings.getMaxSessions()) {
+                return false;
+            }
+            if (open.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 🚀 Create a session for a slot that reserveSlot() already claimed
+    private PooledSession createSession() {
+        try {
+            PooledSession session = new PooledSession(factory.create(), System.nanoTime());
+            created.incrementAndGet();
+            return session;
+        } catch (RuntimeException e) {
+            open.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isExpired(PooledSession session, long nowNanos) {
+        return nowNanos - session.getCreatedAtNanos() >= settings.getMaxAge().toNanos();
+    }
+
+    private void destroy(PooledSession session) {
+        open.decrementAndGet();
+        factory.destroy(session.getDriver());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Session Pool Settings - How big the pool is and how long sessions live
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - maxSessions: how many sessions may exist at the same time
+ * - idleTimeout: idle sessions older than this are closed by the evictor
+ * - maxAge: sessions older than this are replaced, even if they still work
+ * - checkoutTimeout: how long checkout() waits when every session is busy
+ * - validateOnCheckout: send a cheap command before handing out a session
+ */
+public class SessionPoolSettings {
+
+    private final int maxSessions;
+    private final Duration idleTimeout;
+    private final Duration maxAge;
+    private final Duration checkoutTimeout;
+    private final boolean validateOnCheckout;
+
+    public SessionPoolSettings(int maxSessions, Duration idleTimeout, Duration maxAge,
+                               Duration checkoutTimeout, boolean validateOnCheckout) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be at least 1, was " + maxSessions);
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeout = idleTimeout;
+        this.maxAge = maxAge;
+        this.checkoutTimeout = checkoutTimeout;
+        this.validateOnCheckout = validateOnCheckout;
+    }
+
+    /**
+     * 🔧 From Config - Read pool settings from FrameworkConfig (-Dsession.pool.*)
+     */
+    public static SessionPoolSettings fromConfig() {
+        return new SessionPoolSettings(
+            FrameworkConfig.sessionPoolSize(),
+            FrameworkConfig.sessionPoolIdleTimeout(),
+            FrameworkConfig.sessionPoolMaxAge(),
+            FrameworkConfig.sessionPoolCheckoutTimeout(),
+            true);
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public Duration getCheckoutTimeout() {
+        return checkoutTimeout;
+    }
+
+    public boolean isValidateOnCheckout() {
+        return validateOnCheckout;
+    }
+}
@@ -0,0 +1,101 @@
+package com.mobile.automation.driver;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Transport Settings - How the driver talks HTTP to the Appium server
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - client: "selenium" (Selenium's default HTTP client) or "jdk" (TunedHttpClientFactory)
+ * - http2: ask for HTTP/2 (falls back to HTTP/1.1 when the server doesn't speak it)
+ * - connectTimeout / readTimeout: how long to wait for a connection / an answer
+ * - keepAlive: how long an idle pooled connection is kept for the next command
+ * - compressRequests: gzip request bodies of at least compressMinBytes
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Set with -Dtransport.* (see FrameworkConfig), e.g. -Dtransport.client=jdk
+ * - TransportBenchmark shows what each setting does to commands per second
+ */
+public class TransportSettings {
+
+    public static final String SELENIUM = "selenium";
+    public static final String JDK = "jdk";
+
+    private final String client;
+    private final boolean http2;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration keepAlive;
+    private final boolean compressRequests;
+    private final int compressMinBytes;
+
+    public TransportSettings(String client, boolean http2, Duration connectTimeout, Duration readTimeout,
+                             Duration keepAlive, boolean compressRequests, int compressMinBytes) {
+        if (!SELENIUM.equals(client) && !JDK.equals(client)) {
+            throw new IllegalArgumentException("transport.client must be \"" + SELENIUM + "\" or \"" + JDK + "\", was " + client);
+        }
+        this.client = client;
+        this.http2 = http2;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.keepAlive = keepAlive;
+        this.compressRequests = compressRequests;
+        this.compressMinBytes = compressMinBytes;
+    }
+
+    /**
+     * 🔧 From Config - Read transport settings from FrameworkConfig (-Dtransport.*)
+     */
+    public static TransportSettings fromConfig() {
+        return new TransportSettings(
+            FrameworkConfig.transportClient(),
+            FrameworkConfig.transportHttp2(),
+            FrameworkConfig.transportConnectTimeout(),
+            FrameworkConfig.transportReadTimeout(),
+            FrameworkConfig.transportKeepAlive(),
+            FrameworkConfig.transportCompressRequests(),
+            FrameworkConfig.transportCompressMinBytes());
+    }
+
+    // 🏭 The HTTP client factory sessions should be created with
+    public HttpClient.Factory clientFactory() {
+        return JDK.equals(client) ? new TunedHttpClientFactory(this) : HttpClient.Factory.createDefault();
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public int getCompressMinBytes() {
+        return compressMinBytes;
+    }
+
+    @Override
+    public String toString() {
+        return client + (JDK.equals(client) ? (http2 ? " http/2" : " http/1.1") + ", keep-alive " + keepAlive.getSeconds()
+            + "s" + (compressRequests ? ", gzip >= " + compressMinBytes + "B" : "") : "");
+    }
+}
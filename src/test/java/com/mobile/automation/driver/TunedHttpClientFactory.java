@@ -0,0 +1,192 @@
+package com.mobile.automation.driver;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 🚄 Tuned HTTP Client Factory - Appium traffic over one tuned JDK HttpClient
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - All sessions created with this factory share one java.net.http.HttpClient,
+ *   so they share its pool of keep-alive connections (no TCP handshake per command)
+ * - Optionally asks for HTTP/2 (one connection, many commands in flight)
+ * - Applies the configured connect and read timeouts
+ * - Optionally gzips large request bodies and accepts gzipped answers
+ * - Reports the body bytes really sent and received (after gzip) to the
+ *   InstrumentedCommandExecutor
+ * - WebSockets (not used for Appium commands) go through Selenium's default client
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Turned on with -Dtransport.client=jdk (see TransportSettings)
+ */
+public class TunedHttpClientFactory implements HttpClient.Factory {
+
+    // 🚫 Headers the JDK client sets itself and refuses to take from us
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+        "connection", "content-length", "expect", "host", "upgrade"));
+
+    private final TransportSettings settings;
+    private final java.net.http.HttpClient client;
+
+    public TunedHttpClientFactory(TransportSettings settings) {
+        this.settings = settings;
+        // ⏳ KEEP-ALIVE: The JDK reads this once, when its connection pool is first used
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(settings.getKeepAlive().getSeconds()));
+        }
+        this.client = java.net.http.HttpClient.newBuilder()
+            .version(settings.isHttp2() ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1)
+            .connectTimeout(settings.getConnectTimeout())
+            .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        return new TunedHttpClient(config);
+    }
+
+    private final class TunedHttpClient implements HttpClient {
+
+        private final ClientConfig config;
+        private final String baseUri;
+        private HttpClient sockets;
+
+        private TunedHttpClient(ClientConfig config) {
+            this.config = config;
+            String base = config.baseUri().toString();
+            this.baseUri = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            try {
+                java.net.http.HttpRequest sent = toJdk(request);
+                java.net.http.HttpResponse<byte[]> answer = client.send(sent,
+                    java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+                // 📏 WIRE SIZE: What travelled, before the answer is unzipped
+                InstrumentedCommandExecutor.reportWireBytes(
+                    sent.bodyPublisher().map(java.net.http.HttpRequest.BodyPublisher::contentLength).orElse(0L),
+                    answer.body().length);
+                return fromJdk(answer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new IOException("Interrupted while talking to " + baseUri, e));
+            }
+        }
+
+        // 🔌 The JDK client only does plain requests here; Selenium's default client opens sockets
+        @Override
+        public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            if (sockets == null) {
+                sockets = HttpClient.Factory.createDefault().createClient(config);
+            }
+            return sockets.openSocket(request, listener);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (sockets != null) {
+                sockets.close();
+            }
+        }
+
+        private java.net.http.HttpRequest toJdk(HttpRequest request) throws IOException {
+            byte[] body = request.getContent() == null ? new byte[0] : Contents.bytes(request.getContent());
+            java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uriOf(request))
+                .timeout(settings.getReadTimeout());
+            for (String name : request.getHeaderNames()) {
+                if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                for (String value : request.getHeaders(name)) {
+                    builder.header(name, value);
+                }
+            }
+            if (settings.isCompressRequests()) {
+                builder.header("Accept-Encoding", "gzip");
+                if (body.length >= settings.getCompressMinBytes()) {
+                    // 🗜️ COMPRESS: Page actions and capabilities shrink a lot; tiny bodies aren't worth it
+                    body = gzip(body);
+                    builder.header("Content-Encoding", "gzip");
+                }
+            }
+            String method = request.getMethod().name();
+            if (body.length == 0 && !"POST".equals(method) && !"PUT".equals(method)) {
+                return builder.method(method, java.net.http.HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.method(method, java.net.http.HttpRequest.BodyPublishers.ofByteArray(body)).build();
+        }
+
+        private URI uriOf(HttpRequest request) {
+            String uri = request.getUri();
+            StringBuilder full = new StringBuilder(uri.startsWith("http") ? uri : baseUri + uri);
+            char separator = uri.contains("?") ? '&' : '?';
+            for (String name : request.getQueryParameterNames()) {
+                for (String value : request.getQueryParameters(name)) {
+                    full.append(separator).append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                    separator = '&';
+                }
+            }
+            return URI.create(full.toString());
+        }
+
+        private HttpResponse fromJdk(java.net.http.HttpResponse<byte[]> answer) throws IOException {
+            HttpResponse response = new HttpResponse().setStatus(answer.statusCode());
+            HttpHeaders headers = answer.headers();
+            boolean gzipped = headers.firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+            for (Map.Entry<String, List<String>> header : headers.map().entrySet()) {
+                if (gzipped && header.getKey().equalsIgnoreCase("Content-Encoding")) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    response.addHeader(header.getKey(), value);
+                }
+            }
+            byte[] body = gzipped ? gunzip(answer.body()) : answer.body();
+            if (gzipped) {
+                response.setHeader("Content-Length", String.valueOf(body.length));
+            }
+            return response.setContent(Contents.bytes(body));
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            zip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mobile.automation.fakes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 🧪 Fake ADB - Puts the fake-adb.sh test script somewhere we can execute it
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Copies fake-adb.sh from the test resources into a temp file
+ * - Marks it executable (Maven does not keep file permissions when copying resources)
+ * - Returns the path to use instead of the real "adb" binary
+ */
+public final class FakeAdb {
+
+    private FakeAdb() {
+        // Only static helpers - no instances needed
+    }
+
+    public static String install() throws IOException {
+        Path script = Files.createTempFile("fake-adb", ".sh");
+        try (InputStream in = FakeAdb.class.getResourceAsStream("/fake-adb.sh")) {
+            if (in == null) {
+                throw new IOException("fake-adb.sh not found on the test classpath");
+            }
+            Files.copy(in, script, StandardCopyOption.REPLACE_EXISTING);
+        }
+        script.toFile().setExecutable(true);
+        script.toFile().deleteOnExit();
+        return script.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package com.mobile.automation.fakes;
+
+import com.mobile.automation.ui.PageSnapshot;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 🗺️ Fake App - The screens of an app and how taps move between them
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Names every screen and the page-source fixture it shows (see ScreenFixtures)
+ * - Holds the transitions: "tapping this element on that screen opens this screen"
+ * - A transition can look at what was typed so far, e.g. to send a wrong
+ *   password to the error screen
+ * - Screens can take longer to appear than the default (slow network, animations)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - prodigy() is the real onboarding/login journey; FakeUiAutomator2Server plays it
+ * - Taps that match no transition leave the app on the same screen, like
+ *   tapping a label or selecting an option
+ */
+public class FakeApp {
+
+    private final String startScreen;
+    private final Map<String, String> fixtures = new LinkedHashMap<>();
+    private final Map<String, Duration> appearanceLatencies = new LinkedHashMap<>();
+    private final List<Transition> transitions = new ArrayList<>();
+
+    public FakeApp(String startScreen) {
+        this.startScreen = startScreen;
+    }
+
+    /**
+     * 📱 Prodigy - Onboarding and login, the screens LoginPage.loginFlow() walks through
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - onboarding → intro → ad-survey → login-email → login-method → login-password
+     * - "Sign in" on the password screen opens home for the valid email and
+     *   password, and login-error for anything else
+     */
+    public static FakeApp prodigy(String validEmail, String validPassword) {
+        FakeApp app = new FakeApp("onboarding")
+            .screen("onboarding").screen("intro").screen("ad-survey").screen("login-email")
+            .screen("login-method").screen("login-password").screen("login-error").screen("home");
+
+        app.onTap("onboarding", By.xpath("//android.widget.ImageView[contains(@content-desc, 'Tap to Start')]"), "intro");
+        app.onTap("intro", By.xpath("//android.widget.Button[@content-desc=\"Next\"]"), "ad-survey");
+        app.onTap("ad-survey", By.xpath("//*[@content-desc=\"Continue\"]"), "login-email");
+        app.onTap("login-email", By.xpath("//*[@content-desc=\"Sign in\"]"), "login-method");
+        app.onTap("login-method", By.xpath("//*[@content-desc=\"Login with Password\"]"), "login-password");
+
+        Function<Session, String> signIn = session ->
+            validEmail.equals(session.typed("login-email")) && validPassword.equals(session.typed(session.getScreen()))
+                ? "home" : "login-error";
+        app.onTap("login-password", By.xpath("//*[@content-desc=\"Sign in\"]"), signIn);
+        app.onTap("login-error", By.xpath("//*[@content-desc=\"Sign in\"]"), signIn);
+        return app;
+    }
+
+    // 📱 Add a screen shown from screens/<name>.xml
+    public FakeApp screen(String name) {
+        return screen(name, name);
+    }
+
+    public FakeApp screen(String name, String fixture) {
+        fixtures.put(name, ScreenFixtures.load(fixture));
+        return this;
+    }
+
+    // 🐢 This screen takes "latency" to appear instead of the server's default
+    public FakeApp appearsAfter(String screen, Duration latency) {
+        requireScreen(screen);
+        appearanceLatencies.put(screen, latency);
+        return this;
+    }
+
+    // 👆 Tapping "target" on "screen" opens "next"
+    public FakeApp onTap(String screen, By target, String next) {
+        return onTap(screen, target, session -> next);
+    }
+
+    // 👆 Tapping "target" on "screen" opens the screen "next" picks (e.g. from typed text)
+    public FakeApp onTap(String screen, By target, Function<Session, String> next) {
+        requireScreen(screen);
+        transitions.add(new Transition(screen, target, next));
+        return this;
+    }
+
+    public String getStartScreen() {
+        return startScreen;
+    }
+
+    public List<String> getScreens() {
+        return new ArrayList<>(fixtures.keySet());
+    }
+
+    // 🧾 Page source of a screen
+    public String source(String screen) {
+        return requireScreen(screen);
+    }
+
+    // 🐢 Appearance latency of a screen, or null to use the server's default
+    public Duration appearanceLatency(String screen) {
+        return appearanceLatencies.get(screen);
+    }
+
+    /**
+     * 🔀 Next Screen - Where a tap on this element leads (null: stay on this screen)
+     *
+     * @param session: The device the tap happened on (current screen and typed text)
+     * @param tapped: The element that was tapped, from the current screen
+     * @param screen: The current screen, parsed
+     */
+    String nextScreen(Session session, PageSnapshot.SnapshotElement tapped, PageSnapshot screen) {
+        for (Transition transition : transitions) {
+            if (!transition.screen.equals(session.getScreen())) {
+                continue;
+            }
+            for (PageSnapshot.SnapshotElement target : screen.findAll(transition.target)) {
+                if (target.getTagName().equals(tapped.getTagName()) && target.getAttributes().equals(tapped.getAttributes())) {
+                    String next = transition.next.apply(session);
+                    requireScreen(next);
+                    return next;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String requireScreen(String screen) {
+        String source = fixtures.get(screen);
+        if (source == null) {
+            throw new IllegalArgumentException("Fake app has no screen '" + screen + "' (known: " + fixtures.keySet() + ")");
+        }
+        return source;
+    }
+
+    private static class Transition {
+
+        private final String screen;
+        private final By target;
+        private final Function<Session, String> next;
+
+        Transition(String screen, By target, Function<Session, String> next) {
+            this.screen = screen;
+            this.target = target;
+            this.next = next;
+        }
+    }
+
+    /**
+     * 📱 Session - One simulated device running the app
+     *
+     * 📚 WHAT THIS CLASS DOES:
+     * - Knows the current screen and what was typed into each screen's text field
+     * - Each FakeUiAutomator2Server session has its own, so hundreds of
+     *   devices can walk through the app independently
+     */
+    public static class Session {
+
+        private volatile String screen;
+        private final Map<String, String> typed = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        Session(String screen) {
+            this.screen = screen;
+        }
+
+        public String getScreen() {
+            return screen;
+        }
+
+        void setScreen(String screen) {
+            this.screen = screen;
+        }
+
+        // ⌨️ Text typed on a screen ("" if nothing was typed there)
+        public String typed(String screen) {
+            return typed.getOrDefault(screen, "");
+        }
+
+        void type(String screen, String text) {
+            typed.merge(screen, text, String::concat);
+        }
+
+        void clear(String screen) {
+            typed.remove(screen);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mobile.automation.fakes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧪 Fake Device Farm Server - A fake Appium server with N simulated devices
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Accepts sessions only for the device serials it was given (capability "appium:udid")
+ * - Refuses a second session on a device that is already busy, like a real device
+ * - Waits a configurable time to create a session and to answer each command
+ * - Remembers the highest number of devices that were busy at the same time
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Used to prove parallel runs really give every worker its own device
+ *   and that throughput grows with the number of devices
+ */
+public class FakeDeviceFarmServer extends FakeWebDriverServer {
+
+    private final Set<String> serials;
+    private final Duration sessionStartLatency;
+    private final Duration commandLatency;
+
+    private final Map<String, String> busyDevices = new ConcurrentHashMap<>();   // serial -> session
+    private final Map<String, String> sessionDevices = new ConcurrentHashMap<>(); // session -> serial
+    private final AtomicInteger peakBusyDevices = new AtomicInteger();
+    private final AtomicInteger rejectedSessions = new AtomicInteger();
+
+    public FakeDeviceFarmServer(List<String> serials, Duration sessionStartLatency, Duration commandLatency)
+            throws IOException {
+        this.serials = ConcurrentHashMap.newKeySet();
+        this.serials.addAll(serials);
+        this.sessionStartLatency = sessionStartLatency;
+        this.commandLatency = commandLatency;
+    }
+
+    // 🧪 Serials like emulator-5554, emulator-5556, ... for count devices
+    public static List<String> emulatorSerials(int count) {
+        List<String> serials = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            serials.add("emulator-" + (5554 + 2 * i));
+        }
+        return serials;
+    }
+
+    public int peakBusyDevices() {
+        return peakBusyDevices.get();
+    }
+
+    public int rejectedSessions() {
+        return rejectedSessions.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> createSession(String sessionId, Map<String, Object> requestBody) {
+        Map<String, Object> capabilities = (Map<String, Object>) requestBody.get("capabilities");
+        Map<String, Object> alwaysMatch = capabilities == null ? null : (Map<String, Object>) capabilities.get("alwaysMatch");
+        Object udid = alwaysMatch == null ? null : alwaysMatch.get("appium:udid");
+
+        if (udid == null || !serials.contains(udid.toString())) {
+            rejectedSessions.incrementAndGet();
+            throw new FakeWebDriverError(500, "session not created", "Unknown device " + udid);
+        }
+        String serial = udid.toString();
+        if (busyDevices.putIfAbsent(serial, sessionId) != null) {
+            rejectedSessions.incrementAndGet();
+            throw new FakeWebDriverError(500, "session not created", "Device " + serial + " is busy");
+        }
+        sessionDevices.put(sessionId, serial);
+        peakBusyDevices.accumulateAndGet(busyDevices.size(), Math::max);
+
+        pause(sessionStartLatency);
+        Map<String, Object> result = super.createSession(sessionId, requestBody);
+        result.put("udid", serial);
+        return result;
+    }
+
+    @Override
+    protected void deleteSession(String sessionId) {
+        String serial = sessionDevices.remove(sessionId);
+        if (serial != null) {
+            busyDevices.remove(serial);
+        }
+    }
+
+    @Override
+    protected Object handleCommand(String sessionId, String method, String command, Map<String, Object> body) {
+        pause(commandLatency);
+        return super.handleCommand(sessionId, method, command, body);
+    }
+
+    private void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
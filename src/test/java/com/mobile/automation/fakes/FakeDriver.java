@@ -0,0 +1,129 @@
+package com.mobile.automation.fakes;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🧪 Fake Driver - In-process WebDriver, WebElement and SearchContext stand-ins
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - driver() / element() / context(): a builder for a stand-in whose calls
+ *   are answered by the test, e.g. .on("findElements", (method, args) -> ...)
+ * - Every stand-in is equal only to itself, so it works as a map key
+ *   (ElementCache, SnapshotCache and HealthMonitor keep state per driver)
+ * - Calls without an answer return null, or throw UnsupportedOperationException
+ *   after strict() - so a test notices a round trip it did not expect
+ * - emptyScreen(): a driver on a screen that never has any element
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Use it for unit tests that count or script single calls; use
+ *   FakeUiAutomator2Server when the real page objects and HTTP client should run
+ */
+public final class FakeDriver {
+
+    /**
+     * 💬 Answer - What a stand-in returns (or throws) for one call
+     */
+    public interface Answer {
+        Object answer(String method, Object[] args) throws Throwable;
+    }
+
+    private FakeDriver() {
+    }
+
+    public static Builder<WebDriver> driver() {
+        return new Builder<>(WebDriver.class);
+    }
+
+    public static Builder<WebElement> element() {
+        return new Builder<>(WebElement.class);
+    }
+
+    public static Builder<SearchContext> context() {
+        return new Builder<>(SearchContext.class);
+    }
+
+    // 📱 A driver whose screen never has any element (everything else answers null)
+    public static WebDriver emptyScreen() {
+        return driver()
+            .returning("findElements", Collections.emptyList())
+            .returning("getPageSource", "<hierarchy/>")
+            .build();
+    }
+
+    /**
+     * 🔧 Builder - Collects the answers of one stand-in
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, Answer> answers = new HashMap<>();
+        private Answer otherwise = (method, args) -> null;
+        private String name;
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        // 💬 Answer calls of one method
+        public Builder<T> on(String method, Answer answer) {
+            answers.put(method, answer);
+            return this;
+        }
+
+        // 📌 Always return the same value for one method
+        public Builder<T> returning(String method, Object value) {
+            return on(method, (called, args) -> value);
+        }
+
+        // 💬 Answer every call no on() handles
+        public Builder<T> otherwise(Answer answer) {
+            this.otherwise = answer;
+            return this;
+        }
+
+        // 🚫 Calls no on() handles throw UnsupportedOperationException
+        public Builder<T> strict() {
+            return otherwise((method, args) -> {
+                throw new UnsupportedOperationException(method);
+            });
+        }
+
+        // 🏷️ What toString() returns (default: the type and identity)
+        public Builder<T> named(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public T build() {
+            Map<String, Answer> script = new HashMap<>(answers);
+            Answer fallback = otherwise;
+            String label = name;
+            Object stub = Proxy.newProxyInstance(FakeDriver.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            if (!script.containsKey("toString")) {
+                                return label != null ? label
+                                    : "Fake" + type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    return script.getOrDefault(method.getName(), fallback).answer(method.getName(), args);
+                });
+            return type.cast(stub);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.mobile.automation.fakes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 🧪 Fake Logcat - A live logcat stream written by the test instead of a device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - stream() is what "adb logcat -v threadtime" would print; lines show up
+ *   on it as soon as the test writes them
+ * - log(): one line with any level and tag
+ * - crash(): the AndroidRuntime "FATAL EXCEPTION" block Android prints
+ *   when an app dies of an uncaught exception
+ * - anr(): the ActivityManager "ANR in" block of an app that stopped responding
+ */
+public class FakeLogcat implements AutoCloseable {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("MM-dd HH:mm:ss.SSS");
+
+    private final PipedInputStream stream;
+    private final OutputStream out;
+
+    public FakeLogcat() {
+        try {
+            this.stream = new PipedInputStream(64 * 1024);
+            this.out = new PipedOutputStream(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream stream() {
+        return stream;
+    }
+
+    // 📝 One threadtime line, e.g. log(1234, 'E', "AndroidRuntime", "FATAL EXCEPTION: main")
+    public synchronized FakeLogcat log(int pid, char level, String tag, String message) {
+        String line = String.format("%s %5d %5d %c %s: %s%n", LocalDateTime.now().format(TIME), pid, pid, level, tag, message);
+        try {
+            out.write(line.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    // 💥 The block Android logs when the app's main thread throws
+    public FakeLogcat crash(String appPackage, int pid, String exception) {
+        return log(pid, 'E', "AndroidRuntime", "FATAL EXCEPTION: main")
+            .log(pid, 'E', "AndroidRuntime", "Process: " + appPackage + ", PID: " + pid)
+            .log(pid, 'E', "AndroidRuntime", exception)
+            .log(pid, 'E', "AndroidRuntime", "\tat " + appPackage + ".MainActivity.onCreate(MainActivity.kt:42)")
+            .log(pid, 'E', "AndroidRuntime", "\tat android.app.Activity.performCreate(Activity.java:8305)");
+    }
+
+    // 🐢 The block the system logs when the app stops responding
+    public FakeLogcat anr(String appPackage, int pid, String reason) {
+        return log(600, 'E', "ActivityManager", "ANR in " + appPackage + " (" + appPackage + "/.MainActivity)")
+            .log(600, 'E', "ActivityManager", "PID: " + pid)
+            .log(600, 'E', "ActivityManager", "Reason: " + reason);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
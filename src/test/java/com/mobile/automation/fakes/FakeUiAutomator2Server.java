@@ -0,0 +1,440 @@
+package com.mobile.automation.fakes;
+
+import com.mobile.automation.ui.PageSnapshot;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🧪 Fake UiAutomator2 Server - A fake Appium server that plays a whole app from XML fixtures
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Every session is one simulated device running a FakeApp, starting on its first screen
+ * - findElement(s) is answered from the current screen's page-source fixture,
+ *   for xpath, id, accessibility id, class name and UiSelector locators
+ * - click moves to the next screen when it hits one of the app's transitions,
+ *   sendKeys remembers the typed text, getPageSource returns the fixture
+ * - Waits commandLatency before every command, and shows a loading screen
+ *   for appearanceLatency after every transition: the new screen's elements
+ *   can't be found until it has "appeared"
+ * - Elements found on an old screen are stale once the screen has changed
+ * - crash(session) kills the app: the launcher is shown, app_state reports
+ *   "not running" until activate_app starts the app again
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Lets the real page objects, the WaitEngine and the parallel runner run
+ *   without an emulator, e.g. LoginPage.loginFlow() against FakeApp.prodigy()
+ * - One server handles hundreds of sessions; see SimulatedDevicesBenchmark
+ */
+public class FakeUiAutomator2Server extends FakeWebDriverServer {
+
+    // 🏷️ W3C key for element references
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    // 🔧 .method("value") and .method(true) calls inside a UiSelector, e.g. .descriptionContains("Tap")
+    private static final Pattern SELECTOR_CALL =
+        Pattern.compile("\\.(\\w+)\\((?:\"((?:[^\"\\\\]|\\\\.)*)\"|(true|false))\\)");
+
+    private final FakeApp app;
+    private final Duration commandLatency;
+    private final Duration appearanceLatency;
+    private final String loadingSource = ScreenFixtures.load("loading");
+    private final String launcherSource = ScreenFixtures.load("launcher");
+
+    private final Map<String, SimulatedDevice> devices = new ConcurrentHashMap<>();
+    private final AtomicInteger commands = new AtomicInteger();
+    private final AtomicInteger transitions = new AtomicInteger();
+    private final AtomicInteger staleElements = new AtomicInteger();
+
+    public FakeUiAutomator2Server(FakeApp app) throws IOException {
+        this(app, Duration.ZERO, Duration.ZERO);
+    }
+
+    public FakeUiAutomator2Server(FakeApp app, Duration commandLatency, Duration appearanceLatency) throws IOException {
+        this.app = app;
+        this.commandLatency = commandLatency;
+        this.appearanceLatency = appearanceLatency;
+    }
+
+    @Override
+    public FakeUiAutomator2Server start() {
+        super.start();
+        return this;
+    }
+
+    public int commands() {
+        return commands.get();
+    }
+
+    public int transitions() {
+        return transitions.get();
+    }
+
+    // 📊 How many commands used an element from a screen that was already gone
+    public int staleElements() {
+        return staleElements.get();
+    }
+
+    // 📱 The screen a session is on (null for an unknown session)
+    public String screenOf(String sessionId) {
+        SimulatedDevice device = devices.get(sessionId);
+        return device == null ? null : device.session.getScreen();
+    }
+
+    // ⌨️ The app state of a session (current screen, typed text)
+    public FakeApp.Session appSession(String sessionId) {
+        SimulatedDevice device = devices.get(sessionId);
+        return device == null ? null : device.session;
+    }
+
+    // 💥 Crash the app of a session (the device shows the launcher until activate_app)
+    public void crash(String sessionId) {
+        SimulatedDevice device = devices.get(sessionId);
+        if (device != null) {
+            device.crash();
+        }
+    }
+
+    @Override
+    protected Map<String, Object> createSession(String sessionId, Map<String, Object> requestBody) {
+        devices.put(sessionId, new SimulatedDevice(app.getStartScreen()));
+        return super.createSession(sessionId, requestBody);
+    }
+
+    @Override
+    protected void deleteSession(String sessionId) {
+        devices.remove(sessionId);
+    }
+
+    @Override
+    protected Object handleCommand(String sessionId, String method, String command, Map<String, Object> body) {
+        commands.incrementAndGet();
+        pause(commandLatency);
+        SimulatedDevice device = devices.get(sessionId);
+
+        if ("GET".equals(method) && "source".equals(command)) {
+            return device.source();
+        }
+        if ("POST".equals(method) && "element".equals(command)) {
+            List<Map<String, Object>> found = find(device, body);
+            if (found.isEmpty()) {
+                throw new FakeWebDriverError(404, "no such element",
+                    "No element matches " + body.get("using") + " " + body.get("value") + " on " + device.session.getScreen());
+            }
+            return found.get(0);
+        }
+        if ("POST".equals(method) && "elements".equals(command)) {
+            return find(device, body);
+        }
+        if ("POST".equals(method) && "appium/device/activate_app".equals(command)) {
+            device.relaunchIfCrashed();
+            return null;
+        }
+        if ("POST".equals(method) && "appium/device/terminate_app".equals(command)) {
+            device.show(app.getStartScreen());
+            return true;
+        }
+        if ("POST".equals(method) && "appium/device/app_state".equals(command)) {
+            // 📱 4 = running in the foreground, 1 = not running
+            return device.isCrashed() ? 1 : 4;
+        }
+        if (command.startsWith("element/")) {
+            return handleElementCommand(device, method, command.substring("element/".length()), body);
+        }
+        return super.handleCommand(sessionId, method, command, body);
+    }
+
+    // 🧱 element/{id}/click, /value, /clear, /attribute/{name}, /text, /displayed, ...
+    private Object handleElementCommand(SimulatedDevice device, String method, String path, Map<String, Object> body) {
+        int slash = path.indexOf('/');
+        String elementId = slash < 0 ? path : path.substring(0, slash);
+        String action = slash < 0 ? "" : path.substring(slash + 1);
+
+        synchronized (device) {
+            PageSnapshot.SnapshotElement element = device.elements.get(elementId);
+            if (element == null) {
+                staleElements.incrementAndGet();
+                throw new FakeWebDriverError(404, "stale element reference",
+                    "Element " + elementId + " is no longer on screen (now on " + device.session.getScreen() + ")");
+            }
+            switch (method + " " + action) {
+                case "POST click":
+                    device.tap(element);
+                    return null;
+                case "POST value":
+                    device.session.type(device.session.getScreen(), typedText(body));
+                    return null;
+                case "POST clear":
+                    device.session.clear(device.session.getScreen());
+                    return null;
+                case "GET text":
+                    return element.getText();
+                case "GET name":
+                    return element.getAttribute("class");
+                case "GET displayed":
+                    return element.isDisplayed();
+                case "GET enabled":
+                    return !"false".equals(element.getAttribute("enabled"));
+                case "GET selected":
+                    return "true".equals(element.getAttribute("selected"));
+                case "GET rect":
+                    return rect(element.getAttribute("bounds"));
+                default:
+                    if ("GET".equals(method) && action.startsWith("attribute/")) {
+                        return element.getAttribute(action.substring("attribute/".length()));
+                    }
+                    throw new FakeWebDriverError(404, "unknown command",
+                        "Fake UiAutomator2 server does not support " + method + " element/" + action);
+            }
+        }
+    }
+
+    private List<Map<String, Object>> find(SimulatedDevice device, Map<String, Object> body) {
+        By locator = toBy(String.valueOf(body.get("using")), String.valueOf(body.get("value")));
+        synchronized (device) {
+            List<PageSnapshot.SnapshotElement> matches;
+            try {
+                matches = device.visibleScreen().findAll(locator);
+            } catch (IllegalArgumentException e) {
+                throw new FakeWebDriverError(400, "invalid selector", e.getMessage());
+            }
+            List<Map<String, Object>> references = new ArrayList<>();
+            for (PageSnapshot.SnapshotElement match : matches) {
+                Map<String, Object> reference = new LinkedHashMap<>();
+                String id = device.idOf(match);
+                reference.put(ELEMENT_KEY, id);
+                reference.put("ELEMENT", id);
+                references.add(reference);
+            }
+            return references;
+        }
+    }
+
+    /**
+     * 🔁 To By - Turn a W3C locator strategy back into a locator PageSnapshot can evaluate
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - xpath, id, accessibility id and class name map one to one
+     * - "-android uiautomator" selectors (what LocatorCompiler sends) become
+     *   the equivalent XPath; only className, description(Contains),
+     *   text(Contains), resourceId and enabled are understood
+     */
+    static By toBy(String using, String value) {
+        switch (using) {
+            case "xpath":
+                return By.xpath(value);
+            case "id":
+                return AppiumBy.id(value);
+            case "accessibility id":
+                return AppiumBy.accessibilityId(value);
+            case "class name":
+                return AppiumBy.className(value);
+            case "-android uiautomator":
+                return By.xpath(uiSelectorToXPath(value));
+            default:
+                throw new FakeWebDriverError(400, "invalid argument", "Unsupported locator strategy " + using);
+        }
+    }
+
+    private static String uiSelectorToXPath(String selector) {
+        List<String> conditions = new ArrayList<>();
+        Matcher call = SELECTOR_CALL.matcher(selector);
+        while (call.find()) {
+            String value = PageSnapshot.literal(call.group(2) != null ? call.group(2).replaceAll("\\\\(.)", "$1") : call.group(3));
+            switch (call.group(1)) {
+                case "className":
+                    conditions.add("@class=" + value);
+                    break;
+                case "description":
+                    conditions.add("@content-desc=" + value);
+                    break;
+                case "descriptionContains":
+                    conditions.add("contains(@content-desc, " + value + ")");
+                    break;
+                case "text":
+                    conditions.add("@text=" + value);
+                    break;
+                case "textContains":
+                    conditions.add("contains(@text, " + value + ")");
+                    break;
+                case "resourceId":
+                    conditions.add("@resource-id=" + value);
+                    break;
+                case "enabled":
+                    conditions.add("@enabled=" + value);
+                    break;
+                default:
+                    throw new FakeWebDriverError(400, "invalid selector", "Fake server does not support UiSelector." + call.group(1));
+            }
+        }
+        if (conditions.isEmpty()) {
+            throw new FakeWebDriverError(400, "invalid selector", "Can't read UiSelector " + selector);
+        }
+        return "//*[" + String.join(" and ", conditions) + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String typedText(Map<String, Object> body) {
+        Object text = body.get("text");
+        if (text != null) {
+            return text.toString();
+        }
+        StringBuilder keys = new StringBuilder();
+        Object value = body.get("value");
+        if (value instanceof List) {
+            for (Object key : (List<Object>) value) {
+                keys.append(key);
+            }
+        }
+        return keys.toString();
+    }
+
+    // 📐 "[x1,y1][x2,y2]" -> {x, y, width, height}
+    private static Map<String, Object> rect(String bounds) {
+        Map<String, Object> rect = new LinkedHashMap<>();
+        String[] numbers = bounds == null ? new String[0] : bounds.replaceAll("[\\[\\]]", " ").trim().split("[ ,]+");
+        if (numbers.length == 4) {
+            int left = Integer.parseInt(numbers[0]);
+            int top = Integer.parseInt(numbers[1]);
+            rect.put("x", left);
+            rect.put("y", top);
+            rect.put("width", Integer.parseInt(numbers[2]) - left);
+            rect.put("height", Integer.parseInt(numbers[3]) - top);
+        }
+        return rect;
+    }
+
+    private void pause(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 📱 Simulated Device - The app state and element ids of one session
+     *
+     * 📚 WHAT THIS CLASS DOES:
+     * - Keeps its own parsed copy of the current screen (XML documents are
+     *   not safe to search from several threads)
+     * - Hands out one id per element of the current screen and forgets them
+     *   all when the screen changes, which makes old elements stale
+     */
+    private class SimulatedDevice {
+
+        private final FakeApp.Session session;
+        private final Map<String, PageSnapshot.SnapshotElement> elements = new HashMap<>();
+        private final Map<Map<String, String>, String> ids = new HashMap<>();
+        private PageSnapshot screen;
+        private PageSnapshot loading;
+        private PageSnapshot launcher;
+        private boolean crashed;
+        private long readyAtNanos;
+        private int version;
+
+        SimulatedDevice(String startScreen) {
+            this.session = new FakeApp.Session(startScreen);
+            show(startScreen);
+        }
+
+        // 🔀 Switch to a screen; it is visible after its appearance latency
+        synchronized void show(String name) {
+            crashed = false;
+            session.setScreen(name);
+            Duration latency = app.appearanceLatency(name);
+            readyAtNanos = System.nanoTime() + (latency != null ? latency : appearanceLatency).toNanos();
+            screen = null;
+            forgetElements();
+        }
+
+        synchronized void tap(PageSnapshot.SnapshotElement element) {
+            if (crashed) {
+                return;
+            }
+            String next = app.nextScreen(session, element, visibleScreen());
+            if (next != null) {
+                transitions.incrementAndGet();
+                show(next);
+            }
+        }
+
+        synchronized void crash() {
+            crashed = true;
+            forgetElements();
+        }
+
+        synchronized boolean isCrashed() {
+            return crashed;
+        }
+
+        synchronized void relaunchIfCrashed() {
+            if (crashed) {
+                show(app.getStartScreen());
+            }
+        }
+
+        synchronized String source() {
+            if (crashed) {
+                return launcherSource;
+            }
+            return isReady() ? app.source(session.getScreen()) : loadingSource;
+        }
+
+        // 📸 The screen as the device shows it right now (the loading screen while it appears)
+        synchronized PageSnapshot visibleScreen() {
+            if (crashed) {
+                if (launcher == null) {
+                    launcher = PageSnapshot.parse(launcherSource);
+                }
+                return launcher;
+            }
+            if (!isReady()) {
+                if (loading == null) {
+                    loading = PageSnapshot.parse(loadingSource);
+                }
+                return loading;
+            }
+            if (screen == null) {
+                // 🧹 NEW SCREEN: Elements seen while it was loading are stale now
+                forgetElements();
+                screen = PageSnapshot.parse(app.source(session.getScreen()));
+            }
+            return screen;
+        }
+
+        synchronized String idOf(PageSnapshot.SnapshotElement element) {
+            String id = ids.get(element.getAttributes());
+            if (id == null) {
+                id = version + "-" + ids.size();
+                ids.put(element.getAttributes(), id);
+                elements.put(id, element);
+            }
+            return id;
+        }
+
+        private boolean isReady() {
+            return System.nanoTime() >= readyAtNanos;
+        }
+
+        private void forgetElements() {
+            version++;
+            elements.clear();
+            ids.clear();
+        }
+    }
+}
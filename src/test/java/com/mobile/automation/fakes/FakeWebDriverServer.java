@@ -0,0 +1,252 @@
+package com.mobile.automation.fakes;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 🧪 Fake WebDriver Server - A tiny local stand-in for the Appium server
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Listens on 127.0.0.1 and speaks just enough of the W3C WebDriver protocol
+ *   for AndroidDriver to create, use and quit sessions
+ * - Counts how many sessions were created and deleted
+ * - Can "kill" a session to simulate an Appium server that dropped it
+ * - Accepts gzipped request bodies (like Appium) and counts the TCP
+ *   connections clients opened, so keep-alive can be checked
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Used by framework self-tests so they run without an emulator
+ * - Subclasses override handleCommand() to fake more commands
+ */
+public class FakeWebDriverServer implements AutoCloseable {
+
+    protected static final Json JSON = new Json();
+
+    private final String basePath;
+    private final HttpServer server;
+    private final Map<String, Map<String, Object>> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionsCreated = new AtomicInteger();
+    private final AtomicInteger sessionsDeleted = new AtomicInteger();
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger gzippedRequests = new AtomicInteger();
+
+    public FakeWebDriverServer() throws IOException {
+        this("/wd/hub");
+    }
+
+    public FakeWebDriverServer(String basePath) throws IOException {
+        this.basePath = basePath;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::dispatch);
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-webdriver-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public FakeWebDriverServer start() {
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // 🌐 URL to pass to AndroidDriver, e.g. http://127.0.0.1:54321/wd/hub
+    public URL url() {
+        try {
+            return new URL("http://127.0.0.1:" + server.getAddress().getPort() + basePath);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int sessionsCreated() {
+        return sessionsCreated.get();
+    }
+
+    public int sessionsDeleted() {
+        return sessionsDeleted.get();
+    }
+
+    // 🔌 How many different client connections sent requests
+    public int connections() {
+        return connections.size();
+    }
+
+    public int gzippedRequests() {
+        return gzippedRequests.get();
+    }
+
+    public Set<String> activeSessions() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    // 💥 Forget a session as if the Appium server had dropped it
+    public void killSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 🆕 Create Session - Called for POST /session
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the capabilities the fake session reports back
+     * - Subclasses can add delays or reject sessions (e.g. device busy)
+     */
+    protected Map<String, Object> createSession(String sessionId, Map<String, Object> requestBody) {
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        capabilities.put("platformName", "Android");
+        capabilities.put("automationName", "UiAutomator2");
+        return capabilities;
+    }
+
+    // 🧹 Called for DELETE /session/{id}
+    protected void deleteSession(String sessionId) {
+    }
+
+    /**
+     * 🎮 Handle Command - Answer one command for an existing session
+     *
+     * @param sessionId: The session the command belongs to
+     * @param method: HTTP method (GET, POST, DELETE)
+     * @param command: Path after /session/{id}/, e.g. "window" or "element"
+     * @param body: Parsed JSON body (empty for GET)
+     * @return The "value" to send back to the client
+     */
+    protected Object handleCommand(String sessionId, String method, String command, Map<String, Object> body) {
+        if ("GET".equals(method) && "window".equals(command)) {
+            return "NATIVE_APP";
+        }
+        if ("POST".equals(method) && "timeouts".equals(command)) {
+            return null;
+        }
+        throw new FakeWebDriverError(404, "unknown command", "Fake server does not support " + method + " " + command);
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        connections.add(String.valueOf(exchange.getRemoteAddress()));
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith(basePath)) {
+                path = path.substring(basePath.length());
+            }
+            String method = exchange.getRequestMethod();
+            Map<String, Object> body = readBody(exchange);
+            respond(exchange, 200, route(method, path, body));
+        } catch (FakeWebDriverError e) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("error", e.getError());
+            error.put("message", e.getMessage());
+            error.put("stacktrace", "");
+            respond(exchange, e.getStatus(), error);
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("error", "unknown error");
+            error.put("message", String.valueOf(e.getMessage()));
+            error.put("stacktrace", "");
+            respond(exchange, 500, error);
+        }
+    }
+
+    private Object route(String method, String path, Map<String, Object> body) {
+        if ("/status".equals(path)) {
+            return Collections.singletonMap("ready", true);
+        }
+        if ("POST".equals(method) && "/session".equals(path)) {
+            String sessionId = UUID.randomUUID().toString();
+            Map<String, Object> capabilities = createSession(sessionId, body);
+            sessions.put(sessionId, capabilities);
+            sessionsCreated.incrementAndGet();
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("sessionId", sessionId);
+            value.put("capabilities", capabilities);
+            return value;
+        }
+        if (!path.startsWith("/session/")) {
+            throw new FakeWebDriverError(404, "unknown command", "Unknown path " + path);
+        }
+
+        String rest = path.substring("/session/".length());
+        int slash = rest.indexOf('/');
+        String sessionId = slash < 0 ? rest : rest.substring(0, slash);
+        String command = slash < 0 ? "" : rest.substring(slash + 1);
+        if (!sessions.containsKey(sessionId)) {
+            throw new FakeWebDriverError(404, "invalid session id", "No active session " + sessionId);
+        }
+        if ("DELETE".equals(method) && command.isEmpty()) {
+            sessions.remove(sessionId);
+            sessionsDeleted.incrementAndGet();
+            deleteSession(sessionId);
+            return null;
+        }
+        return handleCommand(sessionId, method, command, body);
+    }
+
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        boolean gzipped = "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        if (gzipped) {
+            gzippedRequests.incrementAndGet();
+        }
+        try (InputStream in = gzipped ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (text.isBlank()) {
+                return Collections.emptyMap();
+            }
+            return JSON.toType(text, Json.MAP_TYPE);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] bytes = JSON.toJson(Collections.singletonMap("value", value)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * ❌ Fake WebDriver Error - Thrown by handlers to send a W3C error response
+     */
+    public static class FakeWebDriverError extends RuntimeException {
+
+        private final int status;
+        private final String error;
+
+        public FakeWebDriverError(int status, String error, String message) {
+            super(message);
+            this.status = status;
+            this.error = error;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mobile.automation.fakes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 🧪 Screen Fixtures - Recorded page sources of real app screens
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Loads src/test/resources/screens/<name>.xml from the test classpath
+ * - The files look exactly like Appium's getPageSource() for that screen
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - To add a screen, save getDriver().getPageSource() into screens/<name>.xml
+ */
+public final class ScreenFixtures {
+
+    private ScreenFixtures() {
+        // Only static helpers - no instances needed
+    }
+
+    public static String load(String name) {
+        try (InputStream in = ScreenFixtures.class.getResourceAsStream("/screens/" + name + ".xml")) {
+            if (in == null) {
+                throw new IOException("screens/" + name + ".xml not found on the test classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
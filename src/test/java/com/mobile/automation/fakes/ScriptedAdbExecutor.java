@@ -0,0 +1,73 @@
+package com.mobile.automation.fakes;
+
+import com.mobile.automation.device.AdbExecutor;
+import com.mobile.automation.device.ShellResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧪 Scripted ADB Executor - A fake "adb shell" that replies from a script
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Replies to commands that start with a given prefix with scripted outputs
+ * - Each call returns the next scripted output; the last one repeats forever
+ * - Remembers every command it received so tests can check what was sent
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Example: adb.on("pidof", "1234", "1234", "") means the app process
+ *   is still running for two checks and gone from the third check on
+ * - Commands without a script succeed with empty output
+ */
+public class ScriptedAdbExecutor implements AdbExecutor {
+
+    private final Map<String, List<ShellResult>> scripts = new LinkedHashMap<>();
+    private final Map<String, Integer> positions = new LinkedHashMap<>();
+    private final List<String> commands = new ArrayList<>();
+
+    public synchronized ScriptedAdbExecutor on(String commandPrefix, String... outputs) {
+        List<ShellResult> results = new ArrayList<>();
+        for (String output : outputs) {
+            results.add(new ShellResult(0, output));
+        }
+        return on(commandPrefix, results);
+    }
+
+    public synchronized ScriptedAdbExecutor on(String commandPrefix, List<ShellResult> results) {
+        scripts.put(commandPrefix, new ArrayList<>(results));
+        positions.put(commandPrefix, 0);
+        return this;
+    }
+
+    @Override
+    public synchronized ShellResult shell(String command) {
+        commands.add(command);
+        for (Map.Entry<String, List<ShellResult>> script : scripts.entrySet()) {
+            if (command.startsWith(script.getKey())) {
+                List<ShellResult> results = script.getValue();
+                int position = positions.get(script.getKey());
+                positions.put(script.getKey(), position + 1);
+                return results.get(Math.min(position, results.size() - 1));
+            }
+        }
+        return new ShellResult(0, "");
+    }
+
+    public synchronized List<String> getCommands() {
+        return Collections.unmodifiableList(new ArrayList<>(commands));
+    }
+
+    // 🔢 How many commands started with the given prefix
+    public synchronized int count(String commandPrefix) {
+        int count = 0;
+        for (String command : commands) {
+            if (command.startsWith(commandPrefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
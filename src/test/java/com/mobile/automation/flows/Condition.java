@@ -0,0 +1,86 @@
+package com.mobile.automation.flows;
+
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.ElementCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * 🚦 Condition - "This element is on screen" in one of three strengths
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - present(by): the element exists
+ * - visible(by): the element exists and is displayed
+ * - clickable(by): the element is displayed and enabled
+ * - A stronger condition that just held also proves a weaker one on the same
+ *   element, so FlowEngine can skip waiting for it a second time
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Use these as the entry and exit of each FlowStep
+ */
+public final class Condition {
+
+    // 📶 Ordered weakest to strongest
+    public enum Kind { PRESENT, VISIBLE, CLICKABLE }
+
+    private final By locator;
+    private final Kind kind;
+
+    private Condition(By locator, Kind kind) {
+        this.locator = locator;
+        this.kind = kind;
+    }
+
+    public static Condition present(By locator) {
+        return new Condition(locator, Kind.PRESENT);
+    }
+
+    public static Condition visible(By locator) {
+        return new Condition(locator, Kind.VISIBLE);
+    }
+
+    public static Condition clickable(By locator) {
+        return new Condition(locator, Kind.CLICKABLE);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    // ✅ True if "other held" already proves this condition
+    public boolean isImpliedBy(Condition other) {
+        return other != null && locator.equals(other.locator) && other.kind.compareTo(kind) >= 0;
+    }
+
+    // ⏳ Wait until the condition holds (throws TimeoutException if it never does)
+    // The element it found is kept in the ElementCache, so the next tap on it is free
+    // Clickable is checked by the server inside the lookup where it can be (see ActionEngine)
+    WebElement await(ActionEngine actions, SearchContext context) {
+        WebElement element;
+        switch (kind) {
+            case CLICKABLE:
+                return actions.awaitClickable(context, locator);
+            case VISIBLE:
+                element = actions.getWaits().waitForVisible(context, locator);
+                break;
+            default:
+                element = actions.getWaits().waitForPresent(context, locator);
+                break;
+        }
+        if (context instanceof WebDriver) {
+            ElementCache.put((WebDriver) context, locator, element);
+        }
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return kind.name().toLowerCase() + " " + locator;
+    }
+}
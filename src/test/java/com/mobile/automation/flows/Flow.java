@@ -0,0 +1,46 @@
+package com.mobile.automation.flows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 🗺️ Flow - A named list of steps, run in order by the FlowEngine
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Holds the steps of a journey through the app as plain data
+ * - then(...) returns a longer copy, so variants can share a common start
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - A new variant of a journey is a new list of steps, not a new method
+ */
+public class Flow {
+
+    private final String name;
+    private final List<FlowStep> steps;
+
+    private Flow(String name, List<FlowStep> steps) {
+        this.name = name;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    public static Flow of(String name, FlowStep... steps) {
+        return new Flow(name, new ArrayList<>(Arrays.asList(steps)));
+    }
+
+    // ➕ A copy of this flow with more steps at the end
+    public Flow then(FlowStep... more) {
+        List<FlowStep> all = new ArrayList<>(steps);
+        all.addAll(Arrays.asList(more));
+        return new Flow(name, all);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<FlowStep> getSteps() {
+        return steps;
+    }
+}
@@ -0,0 +1,98 @@
+package com.mobile.automation.flows;
+
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.ElementCache;
+import com.mobile.automation.ui.SnapshotCache;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * 🗺️ Flow Engine - Runs a Flow step by step, timing each one
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - For every step: wait for the entry condition, perform the action, wait
+ *   for the exit condition (the step's screen is resolved only if the action
+ *   asks for an element, see StepScope)
+ * - Skips the entry wait when the previous step's exit condition already
+ *   proved it (e.g. "Next is clickable" is both the exit of step 1 and the
+ *   entry of step 2 - no need to check twice)
+ * - Times the entry wait, action and exit wait of every step (and records
+ *   each step on the running test's timeline, see StepTimer)
+ * - Elements the exit wait found are reused by the next step's action, and
+ *   forgotten after every action (see ElementCache)
+ * - On failure, says which step failed and logs the timings so far
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Page objects call BasePage.runFlow(flow); you only write the steps
+ */
+public class FlowEngine {
+
+    private final ActionEngine actions;
+
+    public FlowEngine(WaitEngine waits) {
+        this(new ActionEngine(waits));
+    }
+
+    public FlowEngine(ActionEngine actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * ▶️ Run - Run every step of the flow on this driver
+     *
+     * @return the timings of every step
+     * @throws FlowStepException naming the step that failed (the cause is the original error)
+     */
+    public FlowRun run(Flow flow, WebDriver driver) {
+        FlowRun run = new FlowRun(flow.getName());
+        Condition proven = null;
+        int number = 0;
+        for (FlowStep step : flow.getSteps()) {
+            number++;
+            String label = String.format("%d/%d %s", number, flow.getSteps().size(), step.getName());
+            try (TestTimeline.Span timed = StepTimer.step(TimingCategory.OTHER, "flow", label)) {
+                run.add(runStep(step, label, driver, proven));
+                proven = step.getExit();
+            } catch (Exception e) {
+                run.fail(step.getName(), e);
+                TestLogger.logInfo(run.summary());
+                throw new FlowStepException(run, label, e);
+            }
+        }
+        TestLogger.logInfo(run.summary());
+        return run;
+    }
+
+    private StepTiming runStep(FlowStep step, String label, WebDriver driver, Condition proven) throws Exception {
+        // 🚦 ENTRY: Skip the wait when the previous exit already proved it
+        long start = System.nanoTime();
+        boolean skipped = step.getEntry() == null || step.getEntry().isImpliedBy(proven);
+        if (!skipped) {
+            step.getEntry().await(actions, driver);
+        }
+        long entryDone = System.nanoTime();
+
+        // 👆 ACTION: The screen is about to change - drop any cached snapshot
+        SnapshotCache.invalidate(driver);
+        step.getAction().perform(new StepScope(driver, actions, step.getScreen()));
+        // 🧹 NAVIGATED: Elements of the old screen are not reused on the next one
+        SnapshotCache.invalidate(driver);
+        ElementCache.invalidate(driver);
+        long actionDone = System.nanoTime();
+
+        // 🏁 EXIT: Wait for proof that the action worked
+        if (step.getExit() != null) {
+            step.getExit().await(actions, driver);
+        }
+        long exitDone = System.nanoTime();
+
+        StepTiming timing = new StepTiming(step.getName(), entryDone - start, actionDone - entryDone,
+            exitDone - actionDone, skipped);
+        TestLogger.logDebug("🗺️ STEP " + label + " - " + timing);
+        return timing;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mobile.automation.flows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📋 Flow Run - What happened when a flow was run
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - One StepTiming per step that finished
+ * - The failed step's name and error, if the flow did not finish
+ */
+public class FlowRun {
+
+    private final String flowName;
+    private final List<StepTiming> steps = new ArrayList<>();
+    private String failedStep;
+    private Throwable failure;
+
+    FlowRun(String flowName) {
+        this.flowName = flowName;
+    }
+
+    void add(StepTiming timing) {
+        steps.add(timing);
+    }
+
+    void fail(String step, Throwable error) {
+        this.failedStep = step;
+        this.failure = error;
+    }
+
+    public String getFlowName() {
+        return flowName;
+    }
+
+    public List<StepTiming> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public boolean isPassed() {
+        return failure == null;
+    }
+
+    public String getFailedStep() {
+        return failedStep;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public Duration getTotalTime() {
+        Duration total = Duration.ZERO;
+        for (StepTiming step : steps) {
+            total = total.plus(step.getTotalTime());
+        }
+        return total;
+    }
+
+    // ⏭️ How many entry waits were skipped because the previous exit proved them
+    public int getSkippedWaits() {
+        int skipped = 0;
+        for (StepTiming step : steps) {
+            if (step.isEntrySkipped()) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * 📋 Summary - One line per step, plus the total
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder(String.format("🗺️ Flow '%s' %s in %dms (%d waits skipped)",
+            flowName, isPassed() ? "passed" : "failed at '" + failedStep + "'", getTotalTime().toMillis(),
+            getSkippedWaits()));
+        for (StepTiming step : steps) {
+            text.append("\n  ").append(step);
+        }
+        return text.toString();
+    }
+}
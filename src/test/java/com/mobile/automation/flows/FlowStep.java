@@ -0,0 +1,67 @@
+package com.mobile.automation.flows;
+
+import com.mobile.automation.ui.LocatorSet;
+
+/**
+ * 🧩 Flow Step - One screen transition: wait for it, act on it, wait for the next
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - entry: what must be true before acting (the screen is there)
+ * - screen: optional LocatorSet resolved in one round trip for the action
+ * - action: what to do on the screen (tap, type, ...)
+ * - exit: what proves the action worked (the next screen is there)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - FlowStep.on(...) for a single element, FlowStep.onScreen(...) when the
+ *   action uses several elements of one screen
+ */
+public class FlowStep {
+
+    private final String name;
+    private final Condition entry;
+    private final LocatorSet screen;
+    private final StepAction action;
+    private final Condition exit;
+
+    public FlowStep(String name, Condition entry, LocatorSet screen, StepAction action, Condition exit) {
+        this.name = name;
+        this.entry = entry;
+        this.screen = screen;
+        this.action = action;
+        this.exit = exit;
+    }
+
+    public static FlowStep on(String name, Condition entry, StepAction action, Condition exit) {
+        return new FlowStep(name, entry, null, action, exit);
+    }
+
+    // 📋 The screen's anchor must be clickable; all its locators are resolved together
+    public static FlowStep onScreen(String name, LocatorSet screen, StepAction action, Condition exit) {
+        return new FlowStep(name, Condition.clickable(screen.getAnchor()), screen, action, exit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Condition getEntry() {
+        return entry;
+    }
+
+    public LocatorSet getScreen() {
+        return screen;
+    }
+
+    public StepAction getAction() {
+        return action;
+    }
+
+    public Condition getExit() {
+        return exit;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mobile.automation.flows;
+
+/**
+ * ❌ Flow Step Exception - A flow stopped at a step
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - The message names the step ("3/6 Saw an advertisement") and the reason
+ * - getRun() has the timings of the steps that did finish
+ * - getCause() is the original error (usually a TimeoutException)
+ */
+public class FlowStepException extends RuntimeException {
+
+    private final transient FlowRun run;
+
+    FlowStepException(FlowRun run, String step, Throwable cause) {
+        super("Flow '" + run.getFlowName() + "' failed at step " + step + ": " + cause.getMessage(), cause);
+        this.run = run;
+    }
+
+    public FlowRun getRun() {
+        return run;
+    }
+}
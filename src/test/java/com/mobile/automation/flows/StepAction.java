@@ -0,0 +1,13 @@
+package com.mobile.automation.flows;
+
+/**
+ * 👆 Step Action - What a FlowStep does once its screen is there
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Usually a lambda: scope -> scope.tap(NEXT_BUTTON)
+ */
+@FunctionalInterface
+public interface StepAction {
+
+    void perform(StepScope scope) throws Exception;
+}
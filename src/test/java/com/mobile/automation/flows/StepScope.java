@@ -0,0 +1,79 @@
+package com.mobile.automation.flows;
+
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.ElementCache;
+import com.mobile.automation.ui.LocatorBatch;
+import com.mobile.automation.ui.LocatorSet;
+import com.mobile.automation.ui.ScreenProbe;
+import com.mobile.automation.ui.TransitionDetector;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+
+/**
+ * 🧰 Step Scope - The tools a StepAction gets to work with
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - element(by): the element, from the step's screen batch when it has one
+ *   (found once, then reused), otherwise waited for with the WaitEngine
+ * - The screen batch costs a page-source dump, so it is resolved on the first
+ *   element() call only - tap / type / tapWhenClickable never need it
+ * - Elements are kept in the ElementCache, so one the entry wait already
+ *   found is not found again, and a stale one is found again transparently
+ * - tap / type / tapWhenClickable: the usual actions in one call, each a
+ *   "wait until ready, then act" of the ActionEngine
+ * - awaitIdle(stableFor): waits until the screen stops changing (see TransitionDetector)
+ */
+public class StepScope {
+
+    private final WebDriver driver;
+    private final ActionEngine actions;
+    private final LocatorSet screen;
+    private LocatorBatch batch;
+
+    StepScope(WebDriver driver, ActionEngine actions, LocatorSet screen) {
+        this.driver = driver;
+        this.actions = actions;
+        this.screen = screen;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    // 🔎 The element for a locator (waits until it is present; found once per screen)
+    public WebElement element(By locator) {
+        return ElementCache.resolve(driver, locator,
+            () -> screen != null ? screenBatch().findOnDevice(locator) : actions.getWaits().waitForPresent(driver, locator));
+    }
+
+    // 📋 The step's screen, resolved in one round trip the first time it is needed
+    private LocatorBatch screenBatch() {
+        if (batch == null) {
+            batch = LocatorBatch.resolve(driver, screen);
+        }
+        return batch;
+    }
+
+    // 👆 Click an element (reused when a wait already found it on this screen)
+    public void tap(By locator) {
+        actions.tap(driver, locator);
+    }
+
+    // 👆 Wait until the element is enabled, then click it (e.g. "Sign in" after typing)
+    public void tapWhenClickable(By locator) {
+        actions.clickWhenReady(driver, locator);
+    }
+
+    // ⌨️ Type into a text field
+    public void type(By locator, String text) {
+        actions.type(driver, locator, text);
+    }
+
+    // 💤 Wait until the screen has not changed for stableFor (instead of a fixed sleep)
+    public void awaitIdle(Duration stableFor) {
+        new TransitionDetector(ScreenProbe.of(driver), actions.getWaits().getSettings()).waitForIdle(stableFor, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.mobile.automation.flows;
+
+import java.time.Duration;
+
+/**
+ * ⏱️ Step Timing - Where one step spent its time
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - entry: waiting for the screen (zero when the wait was skipped)
+ * - action: tapping and typing
+ * - exit: waiting for the next screen
+ */
+public class StepTiming {
+
+    private final String step;
+    private final long entryNanos;
+    private final long actionNanos;
+    private final long exitNanos;
+    private final boolean entrySkipped;
+
+    StepTiming(String step, long entryNanos, long actionNanos, long exitNanos, boolean entrySkipped) {
+        this.step = step;
+        this.entryNanos = entryNanos;
+        this.actionNanos = actionNanos;
+        this.exitNanos = exitNanos;
+        this.entrySkipped = entrySkipped;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public Duration getEntryTime() {
+        return Duration.ofNanos(entryNanos);
+    }
+
+    public Duration getActionTime() {
+        return Duration.ofNanos(actionNanos);
+    }
+
+    public Duration getExitTime() {
+        return Duration.ofNanos(exitNanos);
+    }
+
+    public Duration getTotalTime() {
+        return Duration.ofNanos(entryNanos + actionNanos + exitNanos);
+    }
+
+    // ⏭️ True when the previous step's exit already proved this step's entry
+    public boolean isEntrySkipped() {
+        return entrySkipped;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: entry %s, action %dms, exit %dms, total %dms", step,
+            entrySkipped ? "skipped" : (entryNanos / 1_000_000) + "ms",
+            actionNanos / 1_000_000, exitNanos / 1_000_000, getTotalTime().toMillis());
+    }
+}
@@ -1,15 +1,47 @@
 package com.mobile.automation.pages;
 
+import com.mobile.automation.device.AdbShellManager;
+import com.mobile.automation.device.AppCrashedException;
+import com.mobile.automation.device.AppHealth;
+import com.mobile.automation.device.AppState;
+import com.mobile.automation.device.AppStateTracker;
+import com.mobile.automation.device.CheckpointStore;
+import com.mobile.automation.device.HealthMonitor;
+import com.mobile.automation.device.HealthProbe;
+import com.mobile.automation.device.LogcatManager;
+import com.mobile.automation.device.ResetEngine;
+import com.mobile.automation.device.ResetMetrics;
+import com.mobile.automation.device.ResetReport;
+import com.mobile.automation.driver.Device;
+import com.mobile.automation.driver.DeviceRegistry;
+import com.mobile.automation.driver.DriverBinding;
+import com.mobile.automation.driver.DriverContext;
+import com.mobile.automation.flows.Flow;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.flows.FlowRun;
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.ElementCache;
+import com.mobile.automation.ui.LocatorBatch;
+import com.mobile.automation.ui.LocatorSet;
+import com.mobile.automation.ui.PageSnapshot;
+import com.mobile.automation.ui.SnapshotCache;
+import com.mobile.automation.ui.TransitionDetector;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
 import io.appium.java_client.AppiumDriver;
-import io.appium.java_client.android.AndroidDriver;
-import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import io.appium.java_client.InteractsWithApps;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
 import java.time.Duration;
+import java.util.List;
 
 import java.net.MalformedURLException;
-import java.net.URL;
 
 /**
  * 🏗️ Base Page - Common setup for all pages
@@ -28,77 +60,95 @@ import java.net.URL;
  */
 public class BasePage {
     
-    // 📱 DRIVER VARIABLE: Store the Appium driver
-    // This is the "remote control" that lets us interact with the mobile app
-    protected AppiumDriver driver;
-    
     /**
      * 🚀 Setup Driver - Initialize Appium driver
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Creates and configures the Appium driver
+     * - Picks a free device for this test thread (see DeviceRegistry)
+     * - Takes a warm Appium session for that device from its session pool (or creates one)
+     * - A reused session grants the app's runtime permissions again, like a new
+     *   session's autoGrantPermissions (-Dsession.pool.regrantPermissions=false skips it)
+     * - Every command the session sends is measured (latency, sizes - see CommandMetrics)
+     * - Commands travel over the transport picked with -Dtransport.* (see TransportSettings)
+     * - Starts a background health heartbeat for the session (see HealthMonitor)
+     *   and streams the device's logcat to spot crashes and ANRs (see LogcatManager)
      * - Sets up all the technical requirements for mobile automation
-     * - Connects to the Appium server running on your computer
-     * - Launches the mobile app on the emulator
+     * - Launches the mobile app on the device
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method does all the technical "magic" to start the app
      * - You don't need to understand the technical details
      * - Just know that it makes the app ready for testing
-     * - The driver variable becomes your "remote control" for the app
+     * - getDriver() becomes your "remote control" for the app
      */
     public void setupDriver() throws MalformedURLException {
-        // 📋 CREATE CAPABILITIES: Tell Appium what we want to automate
-        // Capabilities are like "instructions" for Appium
-        DesiredCapabilities capabilities = new DesiredCapabilities();
-        
-        // 📱 DEVICE INFORMATION: Tell Appium about the device
-        capabilities.setCapability("platformName", "Android");        // We're testing Android
-        capabilities.setCapability("deviceName", "emulator-5554");    // Use this specific emulator
-        capabilities.setCapability("platformVersion", "16");          // Android version 16
-        
-        // 📱 APP INFORMATION: Tell Appium which app to test
-        capabilities.setCapability("appPackage", "com.raising.prodigy");           // App's package name
-        capabilities.setCapability("appActivity", "com.raising.prodigy.MainActivity"); // App's main activity
-        
-        // ⚙️ APPIUM SETTINGS: Configure how Appium should behave
-        capabilities.setCapability("automationName", "UiAutomator2");  // Use UiAutomator2 for Android
-        capabilities.setCapability("noReset", false);                  // Allow app reset for fresh start
-        capabilities.setCapability("autoGrantPermissions", true);     // Grant permissions automatically
-        
-        // 🌐 CONNECT TO APPIUM SERVER: Connect to the Appium server
-        // Appium server runs on your computer and controls the emulator
-        URL appiumServerURL = new URL("http://127.0.0.1:4723/wd/hub");
-        
-        // 🚀 START THE APP: Create the driver and launch the app
-        // This is where the magic happens - the app launches on the emulator
-        driver = new AndroidDriver(appiumServerURL, capabilities);
-        
-        // ⏱️ SET WAIT TIME: Wait for elements to load
-        // This tells the driver to wait up to 20 seconds for elements to appear
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(20));
+        // 📲 DEVICE + DRIVER: Bind a device and a warm session to this thread
+        // Creating a session costs ~10 seconds, reusing a pooled one costs milliseconds
+        // DriverContext picks the device, the pool and fires the lifecycle hooks
+        DriverBinding binding;
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "open session")) {
+            binding = DriverContext.open();
+            AppiumDriver driver = binding.getDriver();
+            
+            // 🔓 PERMISSIONS: Only a new session grants them (autoGrantPermissions); a reused
+            // one would start the app with everything resetAppData() revoked
+            if (binding.isPooled() && binding.getPooledSession().isReused() && binding.getDevice() != null
+                    && FrameworkConfig.sessionPoolRegrantPermissions()) {
+                List<String> granted = new ResetEngine(AdbShellManager.forDevice(binding.getDevice().getSerial()),
+                    FrameworkConfig.appPackage(), FrameworkConfig.resetPhaseTimeout()).grantRuntimePermissions();
+                if (!granted.isEmpty()) {
+                    TestLogger.logInfo("🔓 Granted again on the reused session: " + granted);
+                }
+            }
+            
+            // 📱 RELAUNCH APP: A pooled session may have been created before resetAppData()
+            // force-stopped the app, so bring the app back to the foreground
+            if (binding.isPooled() && driver instanceof InteractsWithApps) {
+                ((InteractsWithApps) driver).activateApp(FrameworkConfig.appPackage());
+            }
+            
+            // ⏱️ NO IMPLICIT WAIT: Every findElement answers immediately
+            // Waiting is done by the WaitEngine (find(), waitFor...), which polls with
+            // back-off, learns per-locator timeouts and stops early on a settled screen
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            
+            // 🧷 NEW TEST: Elements a pooled session cached for the previous test are not reused
+            ElementCache.invalidate(driver);
+        }
         
-        // 📱 MOBILE APPS: Only implicit wait is supported, other timeouts are not available
+        // 💓 HEARTBEAT: Checks in the background that the app is still running
+        // A result from before the app was (re)launched above must not fail this test
+        HealthMonitor monitor = HealthMonitor.start(getDriver());
+        if (monitor != null) {
+            monitor.forget();
+            
+            // 📜 LOGCAT: A crash or ANR logged from now on ends the running wait at once
+            if (binding.getDevice() != null) {
+                monitor.watch(LogcatManager.forDevice(binding.getDevice().getSerial()));
+            }
+        }
     }
     
     /**
      * 🧹 Cleanup - Close the driver
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Closes the Appium driver
-     * - Stops the automation session
-     * - Cleans up resources
+     * - Gives a pooled session back to its pool for the next test
+     * - Leaves non-pooled sessions running
+     * - Frees this thread's device so another test thread can use it
      * 
      * 🎯 FOR NEW TESTERS:
-     * - This method "turns off" the automation
-     * - It's like closing the remote control
-     * - Currently commented out to keep app open for debugging
+     * - This method "turns off" the automation for this test
+     * - Pooled sessions stay alive so the next test starts instantly
+     * - Non-pooled sessions are kept open for debugging
      * - You can uncomment driver.quit() if you want to close the app
      */
     public void cleanup() {
-        if (driver != null) {
-            // driver.quit(); // COMMENTED OUT - Keep app open for debugging
-        }
+        // ♻️ RECYCLE: Return the session instead of tearing it down
+        // getDriver().quit(); // COMMENTED OUT - Keep app open for debugging
+        ElementCache.invalidate(getDriver());
+        HealthMonitor.stop(getDriver());
+        DriverContext.close();
     }
     
     /**
@@ -108,39 +158,105 @@ public class BasePage {
      * - Completely resets the app to its initial state
      * - Clears all user data, cache, and permissions
      * - Ensures each test starts from the onboarding screen
-     * - Uses ADB (Android Debug Bridge) commands to reset the app
+     * - Uses ADB (Android Debug Bridge) commands through the ResetEngine
+     * - Resets the device this test thread holds (see DeviceRegistry)
+     * - Waits for the device to confirm each step instead of sleeping
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method "wipes the slate clean" for each test
      * - It's like uninstalling and reinstalling the app
      * - Ensures tests don't interfere with each other
-     * - Uses ADB commands (you don't need to understand these)
+     * - The step timings are written to the log so you can see where time goes
      */
-    public void resetAppData() {
-        try {
-            // 🛑 STEP 1: Force stop the app
-            ProcessBuilder stopPb = new ProcessBuilder("adb", "shell", "am", "force-stop", "com.raising.prodigy");
-            Process stopProcess = stopPb.start();
-            stopProcess.waitFor();
-            Thread.sleep(3000); // Wait 3 seconds for the app to stop
-
-            // 🧹 STEP 2: Clear app data completely
-            ProcessBuilder clearPb = new ProcessBuilder("adb", "shell", "pm", "clear", "com.raising.prodigy");
-            Process clearProcess = clearPb.start();
-            clearProcess.waitFor();
-            Thread.sleep(4000); // Wait 4 seconds for data to clear
-
-            // 🔄 STEP 3: Reset app permissions
-            ProcessBuilder resetPb = new ProcessBuilder("adb", "shell", "pm", "reset-permissions", "com.raising.prodigy");
-            Process resetProcess = resetPb.start();
-            resetProcess.waitFor();
-            Thread.sleep(3000); // Wait 3 seconds for permissions to reset
-
-            // ⏱️ FINAL WAIT: Ensure everything is reset
-            Thread.sleep(2000); // Wait 2 seconds for everything to settle
-
-        } catch (Exception e) {
-            // ⚠️ ERROR HANDLING: If reset fails, continue anyway
+    public ResetReport resetAppData() {
+        // 🔄 RESET: force-stop, pm clear, pm reset-permissions - each one polled until done
+        // All commands go through the device's long-lived adb shell (see AdbShellManager)
+        Device device = DeviceRegistry.shared().acquireForCurrentThread();
+        ResetEngine engine = new ResetEngine(AdbShellManager.forDevice(device.getSerial()),
+            FrameworkConfig.appPackage(), FrameworkConfig.resetPhaseTimeout());
+        ResetReport report;
+        pauseHealthChecks();
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.OTHER, "resetAppData", device.getSerial())) {
+            report = engine.reset();
+        }
+        ElementCache.invalidate(getDriver());
+        
+        ResetMetrics.shared().recordReset(report.getTotalDuration());
+        
+        // ⚠️ ERROR HANDLING: If a step did not finish, log it and continue anyway
+        if (report.isComplete()) {
+            TestLogger.logInfo(report.toString());
+            AppStateTracker.set(device.getSerial(), AppState.ONBOARDING);
+        } else {
+            TestLogger.logWarning(report.toString());
+            AppStateTracker.set(device.getSerial(), AppState.UNKNOWN);
+        }
+        return report;
+    }
+    
+    /**
+     * 📍 Mark App State - Tell the reset policy what state the app is in now
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Records the state for this thread's device (see AppStateTracker)
+     * - The next test that needs exactly this state skips its reset
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Call it at the end of a flow whose result you have just verified,
+     *   e.g. markAppState(AppState.LOGGED_IN_HOME) after a checked login
+     */
+    public void markAppState(AppState state) {
+        DriverBinding binding = DriverContext.current();
+        if (binding != null && binding.getDevice() != null) {
+            AppStateTracker.set(binding.getDevice().getSerial(), state);
+        }
+    }
+    
+    /**
+     * 💾 Checkpoint Store - Saved app states on this thread's device
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns a CheckpointStore for the device this test thread holds
+     * - Commands go through the device's long-lived adb shell, like resetAppData()
+     */
+    public CheckpointStore checkpointStore() {
+        Device device = DeviceRegistry.shared().acquireForCurrentThread();
+        return new CheckpointStore(AdbShellManager.forDevice(device.getSerial()),
+            FrameworkConfig.appPackage(), FrameworkConfig.checkpointDir());
+    }
+    
+    /**
+     * ⏸️ Pause Health Checks - The app is about to be stopped on purpose
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Pauses the session's health heartbeat, so a force-stop (reset,
+     *   checkpoint capture or restore) is not reported as a crash
+     * - relaunchApp() and setupDriver() resume it
+     */
+    public void pauseHealthChecks() {
+        HealthMonitor monitor = HealthMonitor.of(getDriver());
+        if (monitor != null) {
+            monitor.pause();
+        }
+    }
+    
+    /**
+     * 📱 Relaunch App - Bring the app back to the foreground after it was stopped
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Activates the app and resumes a paused health heartbeat
+     */
+    public void relaunchApp() {
+        AppiumDriver driver = getDriver();
+        if (driver instanceof InteractsWithApps) {
+            try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "activateApp")) {
+                ((InteractsWithApps) driver).activateApp(FrameworkConfig.appPackage());
+            }
+        }
+        ElementCache.invalidate(driver);
+        HealthMonitor monitor = HealthMonitor.of(driver);
+        if (monitor != null) {
+            monitor.forget();
         }
     }
     
@@ -161,15 +277,9 @@ public class BasePage {
      */
     public void setupDriverWithReset() throws MalformedURLException {
         // 🔄 RESET FIRST: Always reset the app first to ensure fresh start
+        // No extra sleep needed - resetAppData() returns once the device confirms the reset
         resetAppData();
         
-        // ⏱️ WAIT: Give extra time for reset to complete
-        try {
-            Thread.sleep(3000); // Wait 3 seconds for reset to fully complete
-        } catch (Exception e) {
-            // Continue if sleep fails
-        }
-        
         // 🚀 SETUP DRIVER: Then setup the driver normally
         setupDriver();
     }
@@ -178,7 +288,7 @@ public class BasePage {
      * 🔗 Get Driver - Return the driver instance
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Returns the Appium driver instance
+     * - Returns the Appium driver from DriverContext (this thread's or the runWith() scope's)
      * - Allows other classes to access the driver
      * - Part of the Page Object Model pattern
      * 
@@ -189,7 +299,264 @@ public class BasePage {
      * - You don't need to call this directly, it's used internally
      */
     public AppiumDriver getDriver() {
-        return driver;
+        return DriverContext.currentDriver();
+    }
+    
+    /**
+     * 🔗 Use Driver - Make a driver the current one for this thread
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Used by page constructors that still receive a driver from the test
+     * - Does nothing if that driver is already the current one
+     */
+    protected void useDriver(AppiumDriver driver) {
+        if (driver != null && driver != DriverContext.currentDriver()) {
+            DriverContext.bind(DriverBinding.of(driver));
+        }
+    }
+    
+    /**
+     * 🔎 Find - Wait for an element and return it
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Replaces getDriver().findElement(...) now that the implicit wait is 0
+     * - Waits through the shared WaitEngine until the element is present
+     * - Reuses the element when this screen already found it (e.g. a wait
+     *   just did), so it is found once per screen (see ElementCache)
+     * - Throws TimeoutException if it never shows up
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Use find(locator) wherever you would have used findElement(locator)
+     * - Prefer tap(), type() and attribute(): they find a stale element
+     *   again by themselves
+     */
+    protected WebElement find(By locator) {
+        // 📸 The caller is about to click/type - any cached snapshot may soon be out of date
+        invalidateSnapshot();
+        return ElementCache.resolve(getDriver(), locator, () -> WaitEngine.shared().waitForPresent(getDriver(), locator));
+    }
+    
+    /**
+     * 👆 Tap - Click an element, found once per screen
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Uses the element a wait already found, or waits until it is clickable
+     * - Finds it again and retries once if it went stale
+     * - A tap may open another screen, so the screen's elements are forgotten afterwards
+     */
+    protected void tap(By locator) {
+        ActionEngine.shared().tap(getDriver(), locator);
+        ElementCache.invalidate(getDriver());
+    }
+    
+    // ⌨️ Type into a text field (found once per screen, found again if stale)
+    protected void type(By locator, String text) {
+        ActionEngine.shared().type(getDriver(), locator, text);
+    }
+    
+    /**
+     * 👆 Click When Ready - Wait until an element is clickable and click it
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - One polling loop: every poll is a single lookup in which Appium itself
+     *   checks "displayed and enabled" (see ActionEngine)
+     * - Clicks the element that lookup returned - no second findElement
+     * - Always checks again, even if the element was seen before (e.g. a
+     *   "Sign in" button that only becomes enabled after typing)
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Replaces waitForElementToBeClickable(x) + find(x).click()
+     */
+    protected WebElement clickWhenReady(By locator) {
+        WebElement element = ActionEngine.shared().clickWhenReady(getDriver(), locator);
+        ElementCache.invalidate(getDriver());
+        return element;
+    }
+    
+    // ⌨️ Type When Ready - Wait until a text field is clickable and type into it
+    protected WebElement typeWhenReady(By locator, String text) {
+        return ActionEngine.shared().typeWhenReady(getDriver(), locator, text);
+    }
+    
+    /**
+     * 👆➡️ Click And Await - Click an element, then wait for the next screen
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Clicks "target" and waits until "next" is clickable
+     * - Returns "next", ready for the following clickWhenReady/tap without another lookup
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Replaces click + waitForElementToBeClickable(next) + find(next)
+     */
+    protected WebElement clickAndAwait(By target, By next) {
+        return ActionEngine.shared().clickAndAwait(getDriver(), target, next);
+    }
+    
+    // 🖼️ Fingerprint of the screen right now (a hash of its UI hierarchy)
+    protected String screenFingerprint() {
+        return TransitionDetector.of(getDriver()).fingerprint();
+    }
+
+    /**
+     * ➡️ Wait For Screen Change - Wait until the screen differs from "before"
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Watches a hash of the UI hierarchy, not one particular element
+     * - Returns the new fingerprint the moment the screen changed
+     * - Forgets the old screen's elements and snapshot
+     * - Throws TimeoutException saying the app looks stuck if nothing changed
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - String before = screenFingerprint(); tap(button); waitForScreenChange(before);
+     * - Tells "the tap did nothing" apart from "the next screen is missing an element"
+     */
+    protected String waitForScreenChange(String before) {
+        return waitForScreenChange(before, null);
+    }
+
+    protected String waitForScreenChange(String before, Duration timeout) {
+        String after = TransitionDetector.of(getDriver()).waitForChange(before, timeout);
+        invalidateSnapshot();
+        ElementCache.invalidate(getDriver());
+        return after;
+    }
+
+    /**
+     * 💤 Wait For Idle - Wait until the screen has stopped changing
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns once the UI hierarchy stayed the same for stableFor
+     *   (default: the settle window, -Dwait.settleMillis)
+     * - Throws TimeoutException saying the app is still busy if it never settled
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - Use it instead of a fixed sleep after animations or loading screens
+     */
+    protected String waitForIdle() {
+        return waitForIdle(WaitEngine.shared().getSettings().getSettleWindow());
+    }
+
+    protected String waitForIdle(Duration stableFor) {
+        return TransitionDetector.of(getDriver()).waitForIdle(stableFor, null);
+    }
+
+    /**
+     * 👆🎞️ Tap And Settle - Tap, wait for the screen to change, then for it to settle
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Takes a fingerprint, taps, waits for a different screen and for it
+     *   to stop changing for stableFor
+     * - Returns the settled screen's fingerprint
+     */
+    protected String tapAndSettle(By locator, Duration stableFor) {
+        String before = screenFingerprint();
+        tap(locator);
+        waitForScreenChange(before);
+        return waitForIdle(stableFor);
+    }
+
+    // 🏷️ Attribute of an element (found once per screen, found again if stale)
+    protected String attribute(By locator, String name) {
+        AppiumDriver driver = getDriver();
+        return ElementCache.use(driver, locator, () -> WaitEngine.shared().waitForPresent(driver, locator),
+            element -> element.getAttribute(name));
+    }
+    
+    /**
+     * 📸 Snapshot - The current screen, fetched once and searched locally
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the cached page source of this driver, or fetches it once
+     * - Every lookup on the snapshot is answered without a server round trip
+     * - find(), clicks through find() and scrolling throw the snapshot away
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Great for several read-only checks on the same screen in a row
+     */
+    public PageSnapshot snapshot() {
+        return SnapshotCache.get(getDriver());
+    }
+    
+    // 🧹 Forget the cached snapshot (call after anything that changes the screen)
+    public void invalidateSnapshot() {
+        SnapshotCache.invalidate(getDriver());
+    }
+    
+    /**
+     * 📦 Await Screen - Wait for a screen, then look up all its elements at once
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Waits until the screen's anchor (first locator) is clickable
+     * - Takes one fresh snapshot and resolves every locator of the screen in it
+     * - Throws TimeoutException if the screen never shows up
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Use batch.element(locator) to click or type; each element is found once
+     *   per step instead of once per action
+     */
+    protected LocatorBatch awaitScreen(LocatorSet screen) {
+        ElementCache.put(getDriver(), screen.getAnchor(),
+            WaitEngine.shared().waitForClickable(getDriver(), screen.getAnchor()));
+        invalidateSnapshot();
+        return LocatorBatch.resolve(getDriver(), screen);
+    }
+    
+    /**
+     * 🗺️ Run Flow - Run a declarative flow on this page's driver
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Runs every step of the flow with the shared ActionEngine / WaitEngine
+     * - Returns the per-step timings (also written to the log)
+     * - Throws FlowStepException naming the step that failed
+     */
+    protected FlowRun runFlow(Flow flow) {
+        return new FlowEngine(ActionEngine.shared()).run(flow, getDriver());
+    }
+    
+    /**
+     * ✅ Verify Present - Check a required element, using the snapshot when possible
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Looks in the cached snapshot first (no round trip)
+     * - If it is not there (the screen may still be loading), waits for it
+     *   on the live screen with find()
+     * - Throws TimeoutException if the element never shows up
+     */
+    protected void verifyPresent(By locator) {
+        if (PageSnapshot.supports(locator) && snapshot().isPresent(locator)) {
+            return;
+        }
+        find(locator);
+    }
+    
+    /**
+     * ⚡ Is Present Now - Check for an element without waiting
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns true if the element is on screen right now, false otherwise
+     * - Never waits, so a missing element costs milliseconds, not a timeout
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Use this for optional elements (pop-ups, banners) after the screen loaded
+     * - Use find() when the element is required and may still be loading
+     */
+    public boolean isPresentNow(By locator) {
+        return WaitEngine.shared().isPresentNow(getDriver(), locator);
+    }
+    
+    /**
+     * 🫥 Assert Absent Within - Fail unless an element is gone within a time limit
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Passes as soon as the element is not on screen (immediately if it never was)
+     * - Fails the test if the element is still there after the given time
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Example: assertAbsentWithin(loadingSpinner, Duration.ofMillis(500))
+     */
+    public void assertAbsentWithin(By locator, Duration within) {
+        Assert.assertTrue(WaitEngine.shared().waitForAbsent(getDriver(), locator, within),
+            "Expected " + locator + " to be gone within " + within.toMillis() + "ms");
     }
     
     /**
@@ -198,19 +565,25 @@ public class BasePage {
      * 📚 WHAT THIS METHOD DOES:
      * - Waits for an element to be clickable before proceeding
      * - Prevents app crashes by ensuring elements are ready
-     * - Uses explicit wait for better stability
+     * - Uses the shared ActionEngine (one lookup per poll, learned timeouts)
+     * - Throws AppCrashedException when the app crashed while waiting (not null)
+     * - Returns the element it found (null if it never became clickable) and
+     *   keeps it, so a tap() right after does not find it again
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method helps prevent app crashes
      * - It waits for elements to be ready before clicking
      * - Simple to use: just pass the element locator
      */
-    public void waitForElementToBeClickable(By locator) {
+    public WebElement waitForElementToBeClickable(By locator) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return ActionEngine.shared().awaitClickable(getDriver(), locator);
+        } catch (AppCrashedException | NoSuchSessionException e) {
+            // 💥 The app or the session is gone - no element is coming, stop the test here
+            throw e;
         } catch (Exception e) {
             // Element not ready - continue without logging
+            return null;
         }
     }
     
@@ -220,19 +593,27 @@ public class BasePage {
      * 📚 WHAT THIS METHOD DOES:
      * - Waits for an element to be visible before proceeding
      * - Prevents app crashes by ensuring elements are loaded
-     * - Uses explicit wait for better stability
+     * - Uses the shared WaitEngine (fast polling, learned timeouts)
+     * - Throws AppCrashedException when the app crashed while waiting (not null)
+     * - Returns the element it found (null if it never became visible) and
+     *   keeps it for the rest of the screen
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method helps prevent app crashes
      * - It waits for elements to be visible before interacting
      * - Simple to use: just pass the element locator
      */
-    public void waitForElementToBeVisible(By locator) {
+    public WebElement waitForElementToBeVisible(By locator) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = WaitEngine.shared().waitForVisible(getDriver(), locator);
+            ElementCache.put(getDriver(), locator, element);
+            return element;
+        } catch (AppCrashedException | NoSuchSessionException e) {
+            // 💥 The app or the session is gone - no element is coming, stop the test here
+            throw e;
         } catch (Exception e) {
             // Element not visible - continue without logging
+            return null;
         }
     }
     
@@ -241,26 +622,29 @@ public class BasePage {
      * 
      * 📚 WHAT THIS METHOD DOES:
      * - Checks if the app is still running and responsive
-     * - Prevents crashes by detecting app issues early
-     * - Simple connectivity check using mobile-specific method
+     * - Uses the health heartbeat's last result while it is fresh (no round trip),
+     *   otherwise one cheap app-state probe - never a page source dump
+     * - Throws AppCrashedException if the app crashed or the session is gone
      * 
      * 🎯 FOR NEW TESTERS:
-     * - This method helps prevent app crashes
+     * - This method helps prevent long, confusing timeouts after a crash
      * - It checks if the app is still working properly
      * - Simple to use: call it before important operations
      */
-    public void checkAppStability() {
-        try {
-            // Simple check - try to get current activity (mobile-specific)
-            String currentActivity = driver.getCurrentUrl();
-        } catch (Exception e) {
-            // Mobile apps don't support getCurrentUrl, so we use a different approach
-            try {
-                // Try to find any element to check if app is responsive
-                driver.findElement(By.xpath("//*"));
-            } catch (Exception e2) {
-                // App stability check failed - continue without logging
-            }
+    public AppHealth checkAppStability() {
+        AppiumDriver driver = getDriver();
+        HealthMonitor monitor = HealthMonitor.of(driver);
+        AppHealth health;
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "checkAppStability")) {
+            health = monitor != null ? monitor.current()
+                : HealthProbe.of(driver, FrameworkConfig.appPackage()).check();
+        }
+        if (health.isFatal()) {
+            throw HealthMonitor.crashed(health);
+        }
+        if (!health.isHealthy()) {
+            TestLogger.logWarning(health.toString());
         }
+        return health;
     }
-}
\ No newline at end of file
+}
@@ -2,9 +2,11 @@ package com.mobile.automation.pages;
 
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import com.mobile.automation.device.AppCrashedException;
+import com.mobile.automation.ui.WaitEngine;
 import java.time.Duration;
 
 /**
@@ -24,9 +26,29 @@ import java.time.Duration;
  */
 public class HomePage extends BasePage {
     
-    // 📱 CONSTRUCTOR: Initialize with driver
+    // 📍 LOCATORS: Home page elements, shared by all methods below
+    public static final By ACTIVITY_STREAK = By.xpath("//android.view.View[@content-desc=\"Activity Streak\n"
+    		+ "0 Week Streak\n"
+    		+ "Mon\n"
+    		+ "Tue\n"
+    		+ "Wed\n"
+    		+ "Thu\n"
+    		+ "Fri\n"
+    		+ "Sat\n"
+    		+ "Sun\"]");
+    public static final By NOTIFICATION_ICON = By.xpath("//android.view.View[@content-desc=\"1\"]/android.view.View[2]");
+    public static final By CLAIM_MEDALS = By.xpath("//android.view.View[@content-desc=\"Claim medals\"]");
+    
+    // 💬 FEEDBACK POP-UP: Optional - the app only shows it sometimes
+    public static final By FEEDBACK_POPUP = By.xpath("//android.view.View[@content-desc=\"Enjoying Prodigy Baby?\"]");
+    
+    // 📱 CONSTRUCTOR: Uses the current driver from DriverContext
+    public HomePage() {
+    }
+    
+    // 📱 CONSTRUCTOR: Initialize with a driver the test created itself
     public HomePage(AppiumDriver driver) {
-        this.driver = driver;
+        useDriver(driver);
     }
     
     /**
@@ -44,24 +66,16 @@ public class HomePage extends BasePage {
      */
     public boolean verifyHomePageLoaded() {
         try {
-            // Wait for home page elements to load
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
+            // Wait up to 10 seconds for home page elements to load
             // Check for Activity Streak text (indicates successful login)
-            WebElement activityStreak = wait.until(ExpectedConditions.presenceOfElementLocated(
-                By.xpath("//android.view.View[@content-desc=\"Activity Streak\n"
-                		+ "0 Week Streak\n"
-                		+ "Mon\n"
-                		+ "Tue\n"
-                		+ "Wed\n"
-                		+ "Thu\n"
-                		+ "Fri\n"
-                		+ "Sat\n"
-                		+ "Sun\"]")
-            ));
+            WebElement activityStreak = WaitEngine.shared().waitForPresent(getDriver(), ACTIVITY_STREAK,
+                Duration.ofSeconds(10));
             
             return true;
             
+        } catch (AppCrashedException | NoSuchSessionException e) {
+            // 💥 The app or the session is gone - that is a failure, not "home page not shown"
+            throw e;
         } catch (Exception e) {
             return false;
         }
@@ -81,17 +95,12 @@ public class HomePage extends BasePage {
      */
     public String getActivityStreakText() {
         try {
-            WebElement activityStreak = driver.findElement(By.xpath("//android.view.View[@content-desc=\"Activity Streak\n"
-            		+ "0 Week Streak\n"
-            		+ "Mon\n"
-            		+ "Tue\n"
-            		+ "Wed\n"
-            		+ "Thu\n"
-            		+ "Fri\n"
-            		+ "Sat\n"
-            		+ "Sun\"]"));
+            WebElement activityStreak = find(ACTIVITY_STREAK);
             String streakText = activityStreak.getText();
             return streakText;
+        } catch (AppCrashedException | NoSuchSessionException e) {
+            // 💥 The app or the session is gone - no element is coming, stop the test here
+            throw e;
         } catch (Exception e) {
             return "";
         }
@@ -103,7 +112,7 @@ public class HomePage extends BasePage {
      */
     public void validateAppBar() {
         // TODO: App bar xpath not available - commented out for now
-        // driver.findElement(By.xpath("//*[@content-desc='App Bar']"));
+        // find(By.xpath("//*[@content-desc='App Bar']"));
     }
     
     /**
@@ -111,7 +120,8 @@ public class HomePage extends BasePage {
      */
     public void validateNotificationIcon() {
         // TODO: Add xpath for notification icon
-        driver.findElement(By.xpath("//android.view.View[@content-desc=\"1\"]/android.view.View[2]"));
+        // 📸 Read-only check: answered from the page snapshot when possible
+        verifyPresent(NOTIFICATION_ICON);
     }
     
     /**
@@ -119,15 +129,7 @@ public class HomePage extends BasePage {
      */
     public void validateActivityStreak() {
         // Using the same working xpath from verifyHomePageLoaded()
-        driver.findElement(By.xpath("//android.view.View[@content-desc=\"Activity Streak\n"
-        		+ "0 Week Streak\n"
-        		+ "Mon\n"
-        		+ "Tue\n"
-        		+ "Wed\n"
-        		+ "Thu\n"
-        		+ "Fri\n"
-        		+ "Sat\n"
-        		+ "Sun\"]"));
+        verifyPresent(ACTIVITY_STREAK);
     }
     
     /**
@@ -135,7 +137,7 @@ public class HomePage extends BasePage {
      */
     public void validateClaimMedals() {
         // TODO: Add xpath for claim medals
-        driver.findElement(By.xpath("//android.view.View[@content-desc=\"Claim medals\"]"));
+        verifyPresent(CLAIM_MEDALS);
     }
     
     /**
@@ -144,7 +146,9 @@ public class HomePage extends BasePage {
     private void scrollDown() {
         try {
             // Use Appium Java client's scroll method with proper JSON format
-            driver.executeScript("mobile: scrollGesture", "direction", "down", "percent", 0.5);
+            getDriver().executeScript("mobile: scrollGesture", "direction", "down", "percent", 0.5);
+            // 📸 The screen moved - the cached snapshot is out of date
+            invalidateSnapshot();
         } catch (Exception e) {
             // Scroll failed - continue without error
         }
@@ -152,11 +156,21 @@ public class HomePage extends BasePage {
     
     /**
      * 💬 Validate Feedback Pop-up - Check if feedback pop-up is visible
-     * Note: Feedback popup may not always be visible, so we'll try to find it
+     * Note: Feedback popup may not always be visible, so we only look once
+     * (no waiting) and throw NoSuchElementException right away when it is not shown
      */
     public void validateFeedbackPopup() {
-        // Try to find feedback popup (may not always be visible)
-        driver.findElement(By.xpath("//android.view.View[@content-desc=\"Enjoying Prodigy Baby?\"]"));
+        if (!isFeedbackPopupShown()) {
+            throw new NoSuchElementException("Feedback popup is not shown");
+        }
+    }
+    
+    /**
+     * 💬 Is Feedback Pop-up Shown - Quick yes/no check, no waiting
+     * Looks in the page snapshot shared with the other home page checks
+     */
+    public boolean isFeedbackPopupShown() {
+        return snapshot().isPresent(FEEDBACK_POPUP);
     }
     
     /**
@@ -165,6 +179,7 @@ public class HomePage extends BasePage {
      * 📚 WHAT THIS METHOD DOES:
      * - Generic method to check if any element exists on the page
      * - Takes a locator and returns true if element is found
+     * - Does not wait, so call it once the page has loaded
      * 
      * 🎯 FOR NEW TESTERS:
      * - This is a utility method for checking element presence
@@ -172,11 +187,7 @@ public class HomePage extends BasePage {
      * - Pass any By locator to check if element exists
      */
     public boolean checkElementExists(By locator) {
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        // ⚡ No waiting: answers immediately whether the element is there or not
+        return isPresentNow(locator);
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.mobile.automation.replay;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📼 Recorded Exchange - One WebDriver request and the answer Appium gave
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Holds method, path, request body, status, content type, response body
+ *   and how long Appium took to answer
+ * - key() is what the ReplayServer matches requests on: method + path, plus
+ *   the locator (using + value) of a find request
+ *   (session and element ids are part of the path, and a replayed session
+ *   gets its recorded id back, so the paths line up again)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - The locator keeps every find in its own queue: waiting for "Next" one
+ *   poll longer than when recording never eats the answer meant for "Email"
+ */
+public class RecordedExchange {
+
+    private static final Json JSON = new Json();
+
+    private final String method;
+    private final String path;
+    private final String requestBody;
+    private final int status;
+    private final String contentType;
+    private final String responseBody;
+    private final long latencyMicros;
+
+    public RecordedExchange(String method, String path, String requestBody, int status, String contentType,
+                            String responseBody, long latencyMicros) {
+        this.method = method;
+        this.path = path;
+        this.requestBody = requestBody;
+        this.status = status;
+        this.contentType = contentType;
+        this.responseBody = responseBody;
+        this.latencyMicros = latencyMicros;
+    }
+
+    // 🔑 "GET /wd/hub/session/abc/window", "POST /wd/hub/session/abc/elements accessibility id=Next"
+    public static String key(String method, String path, String requestBody) {
+        String locator = locator(requestBody);
+        return method + " " + path + (locator == null ? "" : " " + locator);
+    }
+
+    public String key() {
+        return key(method, path, requestBody);
+    }
+
+    // 🔎 "using=value" of a find request; null for every other body
+    private static String locator(String requestBody) {
+        if (requestBody == null || !requestBody.contains("\"using\"")) {
+            return null;
+        }
+        try {
+            Map<String, Object> body = JSON.toType(requestBody, Json.MAP_TYPE);
+            return body.get("using") == null ? null : body.get("using") + "=" + body.get("value");
+        } catch (JsonException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("method", method);
+        map.put("path", path);
+        map.put("requestBody", requestBody);
+        map.put("status", status);
+        map.put("contentType", contentType);
+        map.put("responseBody", responseBody);
+        map.put("latencyMicros", latencyMicros);
+        return map;
+    }
+
+    static RecordedExchange fromMap(Map<String, Object> map) {
+        return new RecordedExchange(
+            (String) map.get("method"),
+            (String) map.get("path"),
+            (String) map.get("requestBody"),
+            ((Number) map.get("status")).intValue(),
+            (String) map.get("contentType"),
+            (String) map.get("responseBody"),
+            ((Number) map.get("latencyMicros")).longValue());
+    }
+
+    @Override
+    public String toString() {
+        return key() + " -> " + status + " (" + latencyMicros / 1000 + "ms)";
+    }
+}
@@ -0,0 +1,86 @@
+package com.mobile.automation.replay;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📼 Recording - A file of recorded WebDriver exchanges (one JSON object per line)
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - load(file): reads every exchange back, in the order they happened
+ * - Writer: appends exchanges as they happen; each line is flushed, so a
+ *   run that crashes still leaves a usable recording
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Recordings contain whatever the app showed (e.g. typed emails) - don't
+ *   commit recordings of real accounts
+ */
+public final class Recording {
+
+    private static final Json JSON = new Json();
+
+    private Recording() {
+        // Only static helpers - no instances needed
+    }
+
+    // 📖 Every exchange of a recording file, in order
+    public static List<RecordedExchange> load(Path file) throws IOException {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                Map<String, Object> map = JSON.toType(line, Json.MAP_TYPE);
+                exchanges.add(RecordedExchange.fromMap(map));
+            }
+        }
+        return exchanges;
+    }
+
+    /**
+     * ✍️ Writer - Appends exchanges to a recording file (safe from many threads)
+     */
+    public static class Writer implements AutoCloseable {
+
+        private final Path file;
+        private final BufferedWriter out;
+        private int written;
+
+        public Writer(Path file) throws IOException {
+            this.file = file;
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+
+        public synchronized void append(RecordedExchange exchange) throws IOException {
+            out.write(JSON.toJson(exchange.toMap()).replace("\n", ""));
+            out.write('\n');
+            out.flush();
+            written++;
+        }
+
+        public synchronized int getWritten() {
+            return written;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.mobile.automation.replay;
+
+import com.mobile.automation.utils.TestLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 🎙️ Recording Proxy - Sits between the driver and Appium and records everything
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Listens on 127.0.0.1 (random port) and forwards every request to the real
+ *   Appium server unchanged
+ * - Writes each request, answer and Appium's response time to a Recording
+ * - The driver talks to url() instead of the Appium URL; nothing else changes
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Record a run with -Dappium.recordTo=target/recordings/login.jsonl
+ *   (AppiumSessionFactory puts the proxy in front of every device's Appium)
+ * - Then replay it without a device: see ReplayServer
+ */
+public class RecordingProxy implements AutoCloseable {
+
+    // 🎙️ One proxy per Appium server, all writing to the run's recording
+    private static final Map<String, RecordingProxy> PROXIES = new ConcurrentHashMap<>();
+    private static Recording.Writer sharedWriter;
+
+    private final URL target;
+    private final Recording.Writer writer;
+    private final HttpServer server;
+    private final HttpClient client;
+
+    public RecordingProxy(URL target, Recording.Writer writer) throws IOException {
+        this.target = target;
+        this.writer = writer;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10)).build();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::forward);
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "recording-proxy");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * 🎙️ For Target - The run's proxy in front of one Appium server
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Starts the proxy the first time a server is used
+     * - All proxies of the run write to the same recording file
+     * - Closes everything when the JVM exits
+     */
+    public static URL forTarget(URL target, Path recordingFile) throws IOException {
+        synchronized (PROXIES) {
+            if (sharedWriter == null) {
+                sharedWriter = new Recording.Writer(recordingFile);
+                Recording.Writer writer = sharedWriter;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> closeAll(writer), "recording-proxy-shutdown"));
+                TestLogger.logInfo("🎙️ Recording Appium traffic to " + recordingFile);
+            }
+            RecordingProxy proxy = PROXIES.get(target.toString());
+            if (proxy == null) {
+                proxy = new RecordingProxy(target, sharedWriter).start();
+                PROXIES.put(target.toString(), proxy);
+            }
+            return proxy.url();
+        }
+    }
+
+    public RecordingProxy start() {
+        server.start();
+        return this;
+    }
+
+    // 🌐 Same path as the Appium URL, but on the proxy's port
+    public URL url() {
+        try {
+            return new URL("http", "127.0.0.1", server.getAddress().getPort(), target.getPath());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void forward(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath()
+            + (exchange.getRequestURI().getRawQuery() == null ? "" : "?" + exchange.getRequestURI().getRawQuery());
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.getProtocol() + "://"
+                + target.getAuthority() + path))
+            .timeout(Duration.ofMinutes(5))
+            .method(method, body.length == 0 ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+
+        int status;
+        String responseType;
+        byte[] answer;
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            responseType = response.headers().firstValue("Content-Type").orElse("application/json; charset=utf-8");
+            answer = response.body();
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // 🔌 APPIUM UNREACHABLE: Answer like a WebDriver server would, and record that too
+            status = 500;
+            responseType = "application/json; charset=utf-8";
+            answer = ("{\"value\":{\"error\":\"unknown error\",\"message\":\"Recording proxy could not reach "
+                + target + "\",\"stacktrace\":\"\"}}").getBytes(StandardCharsets.UTF_8);
+        }
+        long latencyMicros = (System.nanoTime() - start) / 1_000;
+
+        try {
+            writer.append(new RecordedExchange(method, path, new String(body, StandardCharsets.UTF_8), status,
+                responseType, new String(answer, StandardCharsets.UTF_8), latencyMicros));
+        } catch (IOException e) {
+            TestLogger.logWarning("Could not record " + method + " " + path + ": " + e.getMessage());
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", responseType);
+        exchange.sendResponseHeaders(status, answer.length == 0 ? -1 : answer.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(answer);
+        }
+    }
+
+    private static void closeAll(Recording.Writer writer) {
+        for (RecordingProxy proxy : PROXIES.values()) {
+            proxy.close();
+        }
+        try {
+            writer.close();
+            TestLogger.logInfo("🎙️ Recorded " + writer.getWritten() + " Appium exchanges to " + writer.getFile());
+        } catch (IOException e) {
+            TestLogger.logWarning("Could not close recording " + writer.getFile() + ": " + e.getMessage());
+        }
+    }
+}
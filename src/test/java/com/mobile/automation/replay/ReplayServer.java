@@ -0,0 +1,168 @@
+package com.mobile.automation.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ⏯️ Replay Server - Plays a recorded Appium run back, no device needed
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Listens on 127.0.0.1 (port 4723 by default, like Appium)
+ * - Answers each request with the next recorded answer for the same
+ *   method + path (+ locator, see RecordedExchange.key()), in recorded order;
+ *   when a request comes more often than it was recorded (e.g. one more
+ *   poll), the last answer for that key is repeated
+ * - Requests that were never recorded get a W3C "unknown command" error
+ * - latencyScale 1.0 waits as long as Appium took when recording, 0 answers
+ *   instantly, 0.5 twice as fast, ...
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Start it: java ... com.mobile.automation.replay.ReplayServer login.jsonl 4723 1.0
+ * - Then run the tests as usual (they talk to 127.0.0.1:4723)
+ * - A replay is only as good as the recording: a framework change that sends
+ *   different commands gets "unknown command" errors (see misses())
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private static final String ERROR = "{\"value\":{\"error\":\"unknown command\",\"message\":\"Not in the recording: %s\",\"stacktrace\":\"\"}}";
+
+    private final HttpServer server;
+    private final double latencyScale;
+    private final Map<String, Deque<RecordedExchange>> answers = new HashMap<>();
+    private final Map<String, RecordedExchange> lastAnswers = new HashMap<>();
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public ReplayServer(List<RecordedExchange> recording, int port, double latencyScale) throws IOException {
+        this.latencyScale = latencyScale;
+        for (RecordedExchange exchange : recording) {
+            answers.computeIfAbsent(exchange.key(), key -> new ArrayDeque<>()).add(exchange);
+        }
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.createContext("/", this::replay);
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * ▶️ Main - Serve a recording from the command line
+     *
+     * @param args: recording file, port (default 4723), latency scale (default 1.0)
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: ReplayServer <recording.jsonl> [port=4723] [latencyScale=1.0]");
+            return;
+        }
+        List<RecordedExchange> recording = Recording.load(Paths.get(args[0]));
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 4723;
+        double scale = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        ReplayServer server = new ReplayServer(recording, port, scale).start();
+        System.out.println("⏯️ Replaying " + recording.size() + " exchanges on " + server.url("/wd/hub")
+            + " (latency x" + scale + ")");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(
+            "⏯️ Served " + server.served() + " requests, " + server.misses() + " not in the recording"), "replay-summary"));
+    }
+
+    public ReplayServer start() {
+        server.start();
+        return this;
+    }
+
+    // 🌐 URL to give the driver, e.g. url("/wd/hub")
+    public URL url(String basePath) {
+        try {
+            return new URL("http://127.0.0.1:" + server.getAddress().getPort() + basePath);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int served() {
+        return served.get();
+    }
+
+    // ❓ Requests that were not in the recording
+    public int misses() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void replay(HttpExchange exchange) throws IOException {
+        String requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String path = exchange.getRequestURI().getRawPath()
+            + (exchange.getRequestURI().getRawQuery() == null ? "" : "?" + exchange.getRequestURI().getRawQuery());
+        String key = RecordedExchange.key(exchange.getRequestMethod(), path, requestBody);
+        RecordedExchange answer = next(key);
+
+        int status;
+        String contentType;
+        byte[] body;
+        if (answer == null) {
+            misses.incrementAndGet();
+            status = 404;
+            contentType = "application/json; charset=utf-8";
+            body = String.format(ERROR, key.replace("\"", "'")).getBytes(StandardCharsets.UTF_8);
+        } else {
+            served.incrementAndGet();
+            pause(answer.getLatencyMicros());
+            status = answer.getStatus();
+            contentType = answer.getContentType();
+            body = answer.getResponseBody().getBytes(StandardCharsets.UTF_8);
+        }
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 🔁 Next recorded answer for this request (the last one again once they run out)
+    private synchronized RecordedExchange next(String key) {
+        Deque<RecordedExchange> queue = answers.get(key);
+        if (queue != null && !queue.isEmpty()) {
+            RecordedExchange answer = queue.poll();
+            lastAnswers.put(key, answer);
+            return answer;
+        }
+        return lastAnswers.get(key);
+    }
+
+    private void pause(long recordedMicros) {
+        long micros = (long) (recordedMicros * latencyScale);
+        if (micros <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(micros / 1_000, (int) (micros % 1_000) * 1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.ActionEngine;
+import com.mobile.automation.ui.ElementCache;
+import com.mobile.automation.ui.LocatorCompiler;
+import com.mobile.automation.ui.LocatorEngine;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 👆 Action Engine Test - Checks wait-then-act needs the fewest round trips
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies which locators carry the "displayed and enabled" check to the server
+ * - Uses a stand-in driver that logs every call and counts the round trips
+ *   of clickWhenReady and clickAndAwait, with and without the server-side check
+ * - Verifies typing taps the field for focus first unless that is turned off
+ */
+public class ActionEngineTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    private final WaitEngine waits = new WaitEngine(new WaitSettings(Duration.ofSeconds(1), Duration.ofMillis(100),
+        Duration.ofMillis(10), Duration.ofMillis(50), false, false, Duration.ofSeconds(1)));
+
+    @BeforeMethod
+    public void clearCalls() {
+        calls.clear();
+    }
+
+    @Test(description = "XPath locators get the readiness check built in, other strategies keep theirs")
+    public void testClickableLocators() {
+        Assert.assertEquals(String.valueOf(LocatorCompiler.clickable(LoginPage.SIGN_IN_BUTTON)),
+            "AppiumBy.androidUIAutomator: new UiSelector().className(\"android.widget.Button\").description(\"Sign in\").enabled(true)");
+        Assert.assertEquals(String.valueOf(LocatorCompiler.clickable(LoginPage.NEXT_BUTTON)),
+            "AppiumBy.androidUIAutomator: new UiSelector().className(\"android.widget.Button\").enabled(true)");
+        Assert.assertEquals(String.valueOf(LocatorCompiler.clickable(By.xpath("//android.view.View[2]"))),
+            "By.xpath: (//android.view.View[2])[@enabled=\"true\" and @displayed=\"true\"]");
+        Assert.assertNull(LocatorCompiler.clickable(AppiumBy.accessibilityId("Sign in")));
+    }
+
+    @Test(description = "clickWhenReady is one lookup and one click when the server checks readiness")
+    public void testClickWhenReadyRoundTrips() {
+        new ActionEngine(waits, LocatorEngine.shared(), true).clickWhenReady(stubDriver(), LoginPage.SIGN_IN_BUTTON);
+        Assert.assertEquals(calls, List.of("findElements", "click"));
+
+        calls.clear();
+        new ActionEngine(waits, LocatorEngine.shared(), false).clickWhenReady(stubDriver(), LoginPage.SIGN_IN_BUTTON);
+        Assert.assertEquals(calls, List.of("findElements", "isDisplayed", "isEnabled", "click"));
+    }
+
+    @Test(description = "clickAndAwait reuses a waited-for target and keeps the next element for the next action")
+    public void testClickAndAwaitReusesElements() {
+        ActionEngine actions = new ActionEngine(waits, LocatorEngine.shared(), true);
+        WebDriver driver = stubDriver();
+
+        actions.awaitClickable(driver, LoginPage.NEXT_BUTTON);
+        WebElement next = actions.clickAndAwait(driver, LoginPage.NEXT_BUTTON, LoginPage.CONTINUE_BUTTON);
+        actions.tap(driver, LoginPage.CONTINUE_BUTTON);
+
+        Assert.assertEquals(calls, List.of("findElements", "click", "findElements", "click"));
+        Assert.assertSame(ElementCache.resolve(driver, LoginPage.CONTINUE_BUTTON, () -> null), next);
+    }
+
+    @Test(description = "Typing taps the field for focus first, unless the focus tap is turned off")
+    public void testTypeTapsFieldForFocus() {
+        new ActionEngine(waits, LocatorEngine.shared(), true, true).typeWhenReady(stubDriver(), LoginPage.TEXT_FIELD, "a@b.c");
+        Assert.assertEquals(calls, List.of("findElements", "click", "sendKeys"));
+
+        calls.clear();
+        new ActionEngine(waits, LocatorEngine.shared(), true, false).typeWhenReady(stubDriver(), LoginPage.TEXT_FIELD, "a@b.c");
+        Assert.assertEquals(calls, List.of("findElements", "sendKeys"));
+    }
+
+    // 🧪 A driver where every element exists, is displayed and enabled; logs each round trip
+    private WebDriver stubDriver() {
+        return FakeDriver.driver()
+            .on("findElements", (method, args) -> {
+                calls.add(method);
+                return Collections.singletonList(element());
+            })
+            .strict()
+            .build();
+    }
+
+    private WebElement element() {
+        FakeDriver.Answer logged = (method, args) -> {
+            calls.add(method);
+            return method.startsWith("is") ? true : null;
+        };
+        return FakeDriver.element()
+            .on("click", logged)
+            .on("sendKeys", logged)
+            .on("isDisplayed", logged)
+            .on("isEnabled", logged)
+            .build();
+    }
+}
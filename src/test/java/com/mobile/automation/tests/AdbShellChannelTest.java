@@ -0,0 +1,77 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.AdbShellChannel;
+import com.mobile.automation.device.ShellResult;
+import com.mobile.automation.fakes.FakeAdb;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📟 ADB Shell Channel Test - Checks the persistent adb shell against fake-adb.sh
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies output and exit codes are split correctly by the end markers
+ * - Verifies a batch of commands comes back in order
+ * - Verifies the channel recovers when the shell process dies
+ */
+public class AdbShellChannelTest {
+
+    private AdbShellChannel channel;
+
+    @BeforeMethod
+    public void openChannel() throws Exception {
+        channel = new AdbShellChannel(FakeAdb.install(), "emulator-5554", Duration.ofSeconds(5));
+    }
+
+    @AfterMethod
+    public void closeChannel() {
+        channel.close();
+    }
+
+    @Test(description = "Output and exit code of a single command")
+    public void testSingleCommand() {
+        ShellResult clear = channel.shell("pm clear com.raising.prodigy");
+        ShellResult pidof = channel.shell("pidof com.raising.prodigy");
+
+        Assert.assertEquals(clear.getOutput().trim(), "Success");
+        Assert.assertTrue(clear.isSuccess());
+        Assert.assertEquals(pidof.getExitCode(), 1);
+    }
+
+    @Test(description = "Output without a trailing newline is still separated from the marker")
+    public void testOutputWithoutTrailingNewline() {
+        ShellResult result = channel.shell("printf 'no-newline'");
+
+        Assert.assertEquals(result.getOutput(), "no-newline");
+    }
+
+    @Test(description = "A batch returns one result per command, in order, from one shell")
+    public void testBatchKeepsOrder() {
+        List<ShellResult> results = channel.shellBatch(Arrays.asList(
+            "am force-stop com.raising.prodigy",
+            "pm clear com.raising.prodigy",
+            "echo third; exit_code() { return 7; }; exit_code"));
+
+        Assert.assertEquals(results.size(), 3);
+        Assert.assertEquals(results.get(0).getExitCode(), 0);
+        Assert.assertEquals(results.get(1).getOutput().trim(), "Success");
+        Assert.assertEquals(results.get(2).getOutput().trim(), "third");
+        Assert.assertEquals(results.get(2).getExitCode(), 7);
+    }
+
+    @Test(description = "The channel restarts the shell after it dies")
+    public void testRecoversAfterShellExit() {
+        ShellResult killed = channel.shell("exit 3");
+        ShellResult next = channel.shell("pm clear com.raising.prodigy");
+
+        Assert.assertEquals(killed.getExitCode(), -1);
+        Assert.assertEquals(next.getOutput().trim(), "Success");
+        Assert.assertTrue(channel.isAlive());
+    }
+}
@@ -1,6 +1,22 @@
 package com.mobile.automation.tests;
 
+import com.mobile.automation.device.AppCrashedException;
+import com.mobile.automation.device.AppState;
+import com.mobile.automation.device.AppStateTracker;
+import com.mobile.automation.device.CheckpointResult;
+import com.mobile.automation.device.CheckpointStore;
+import com.mobile.automation.device.ResetMetrics;
+import com.mobile.automation.device.ResetPolicy;
+import com.mobile.automation.driver.DeviceRegistry;
 import com.mobile.automation.pages.BasePage;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
 
 /**
  * 🏗️ Base Test - Simple test setup
@@ -35,8 +51,14 @@ public class BaseTest extends BasePage {
      * - It's like "opening the app" before testing
      */
     public void setupTest() throws Exception {
+        // ⏱️ TIMING: Every step from here on shows up in the test's timing breakdown
+        StepTimer.startTest();
+        
         // 🚀 SETUP DRIVER: Start the app and prepare for testing
         setupDriver();
+        
+        // 🧪 IN USE: The test is about to change the app, so its state is no longer known
+        markAppState(AppState.UNKNOWN);
     }
     
     /**
@@ -57,7 +79,139 @@ public class BaseTest extends BasePage {
      */
     public void setupTestWithReset() throws Exception {
         // 🔄 SETUP WITH RESET: Start fresh from onboarding screen
+        StepTimer.startTest();
         setupDriverWithReset();
+        markAppState(AppState.UNKNOWN);
+    }
+    
+    /**
+     * 🧭 Setup Test In - Start the test with the app in the state it needs
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Looks up what state the app on this device is known to be in
+     * - Picks the cheapest way to the required state (see ResetPolicy):
+     *   - already there: no reset at all, just attach the driver
+     *   - ONBOARDING / LOGGED_OUT: reset the app data
+     *   - LOGGED_IN_HOME: restore the saved login checkpoint, or log in once
+     *     (and save a checkpoint) when there is none
+     * - Marks the state UNKNOWN afterwards: the test is about to change the app
+     * - Counts resets done/avoided and time saved (see ResetMetrics)
+     * 
+     * 🎯 FOR NEW TESTERS:
+     * - Say what you need, not how to get there: setupTestIn(AppState.LOGGED_IN_HOME)
+     * - The first logged-in test on a device (or after a new app build) still pays
+     *   for one login; turn checkpoints off with -Dcheckpoint.enabled=false
+     * - Pair it with finishTest() in your tear-down (no reset there)
+     */
+    public void setupTestIn(AppState required) throws Exception {
+        StepTimer.startTest();
+        String serial = DeviceRegistry.shared().acquireForCurrentThread().getSerial();
+        AppState known = AppStateTracker.get(serial);
+        ResetPolicy.Transition transition = ResetPolicy.plan(known, required, FrameworkConfig.checkpointsEnabled());
+        TestLogger.logInfo("🧭 APP STATE " + serial + ": " + known + " -> " + required + " via " + transition);
+        
+        switch (transition) {
+            case NONE:
+                ResetMetrics.shared().recordResetAvoided();
+                setupTest();
+                break;
+            case RESET:
+                setupTestWithReset();
+                break;
+            case RESTORE_CHECKPOINT:
+                if (!restoreLoggedIn()) {
+                    loginAndCapture(true);
+                }
+                break;
+            default:
+                loginAndCapture(false);
+                break;
+        }
+        
+        // 🧪 IN USE: Only the test knows what it does next
+        AppStateTracker.set(serial, AppState.UNKNOWN);
+    }
+    
+    /**
+     * 🏁 Finish Test - Release the device without resetting the app
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the session and frees the device, like cleanupTest()
+     * - Does NOT reset: the next setupTestIn() resets only if its test needs it,
+     *   so every test pays for at most one reset instead of two
+     */
+    public void finishTest() {
+        ResetMetrics.shared().recordResetAvoided();
+        cleanupTest();
+    }
+    
+    // 💾 Put the saved logged-in data back and open the app on it (false if that didn't work)
+    private boolean restoreLoggedIn() throws Exception {
+        // 📲 SESSION FIRST: A new session's fast reset (noReset=false) would wipe restored data
+        setupTest();
+        CheckpointStore checkpoints = checkpointStore();
+        String key = checkpoints.keyFor(LoginPage.VALID_EMAIL);
+        pauseHealthChecks();
+        CheckpointResult restored = checkpoints.restore(key);
+        TestLogger.logInfo(restored.toString());
+        if (!restored.isSuccess()) {
+            cleanupTest();
+            return false;
+        }
+        
+        // 📱 The restore stopped the app - start it on the restored data (resumes the heartbeat)
+        relaunchApp();
+        boolean home;
+        try {
+            home = isHomePageShown();
+        } catch (AppCrashedException e) {
+            // 💥 CRASHED: Not proof the checkpoint is bad - log in for real, the capture after it replaces it
+            TestLogger.logWarning("💾 CHECKPOINT " + key + " - the app crashed after the restore, logging in: " + e.getHealth());
+            cleanupTest();
+            return false;
+        }
+        if (home) {
+            ResetMetrics.shared().recordRestore(restored.getDuration());
+            markAppState(AppState.LOGGED_IN_HOME);
+            return true;
+        }
+        // ⚠️ STALE CHECKPOINT: The whole restore timeout passed without the home page - drop it and log in for real
+        TestLogger.logWarning("💾 CHECKPOINT " + key + " did not reach the home page within "
+            + FrameworkConfig.checkpointRestoreTimeout().getSeconds() + "s - logging in");
+        checkpoints.delete(key);
+        cleanupTest();
+        return false;
+    }
+    
+    // 🔐 Full reset and login flow, optionally saved as a checkpoint for next time
+    private void loginAndCapture(boolean capture) throws Exception {
+        long start = System.nanoTime();
+        setupTestWithReset();
+        new LoginPage().completeLoginFlow();
+        ResetMetrics.shared().recordLogin(Duration.ofNanos(System.nanoTime() - start));
+        if (!capture) {
+            return;
+        }
+        CheckpointStore checkpoints = checkpointStore();
+        pauseHealthChecks();
+        CheckpointResult captured = checkpoints.capture(checkpoints.keyFor(LoginPage.VALID_EMAIL));
+        TestLogger.logInfo(captured.toString());
+        
+        // 📱 The capture stopped the app - bring it back on the home page (resumes the heartbeat)
+        relaunchApp();
+        if (!isHomePageShown()) {
+            throw new IllegalStateException("Home page not shown after relaunching the app");
+        }
+    }
+    
+    // 🏠 Waits the whole restore timeout: a slow cold start is not a broken checkpoint
+    private boolean isHomePageShown() {
+        try {
+            WaitEngine.shared().waitForVisible(getDriver(), LoginPage.ACTIVITY_STREAK, FrameworkConfig.checkpointRestoreTimeout());
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
     }
     
     /**
@@ -79,5 +233,6 @@ public class BaseTest extends BasePage {
     public void cleanupTest() {
         // 🧹 CLEANUP: Close driver and clean up resources
         cleanup();
+        StepTimer.clear();
     }
 }
\ No newline at end of file
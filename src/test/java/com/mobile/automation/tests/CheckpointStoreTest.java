@@ -0,0 +1,67 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.CheckpointResult;
+import com.mobile.automation.device.CheckpointStore;
+import com.mobile.automation.fakes.ScriptedAdbExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * 💾 Checkpoint Store Test - Checks login checkpoints against a scripted fake adb
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies checkpoint names include the account and the installed app version
+ * - Verifies capture and restore send the right commands in one batch
+ * - Verifies a release build (no run-as) is reported as a failure, not hidden
+ */
+public class CheckpointStoreTest {
+
+    private static final String APP = "com.raising.prodigy";
+    private static final String DIR = "/data/local/tmp/checkpoints";
+
+    private static final String PACKAGE_DUMP = String.join("\n",
+        "  Package [com.raising.prodigy] (3f2a1b):",
+        "    versionCode=42 minSdk=24 targetSdk=34",
+        "    versionName=1.8.0");
+
+    @Test(description = "Checkpoint names depend on account and app version")
+    public void testKeyIncludesAccountAndVersion() {
+        ScriptedAdbExecutor adb = new ScriptedAdbExecutor().on("dumpsys package", PACKAGE_DUMP);
+        CheckpointStore store = new CheckpointStore(adb, APP, DIR);
+
+        Assert.assertEquals(store.appVersion(), "1.8.0-42");
+        Assert.assertEquals(store.keyFor("program1@prodigy.baby"), "login_program1_prodigy.baby_1.8.0-42");
+    }
+
+    @Test(description = "Capture and restore archive and unpack the app's data folder")
+    public void testCaptureAndRestore() {
+        ScriptedAdbExecutor adb = new ScriptedAdbExecutor().on("pm clear", "Success");
+        CheckpointStore store = new CheckpointStore(adb, APP, DIR);
+
+        CheckpointResult captured = store.capture("home");
+        CheckpointResult restored = store.restore("home");
+
+        Assert.assertTrue(captured.isSuccess(), captured.toString());
+        Assert.assertTrue(restored.isSuccess(), restored.toString());
+        Assert.assertEquals(adb.count("am force-stop " + APP), 2);
+        Assert.assertTrue(adb.getCommands().contains("run-as " + APP + " tar -xf - < " + DIR + "/home.tar"));
+        Assert.assertTrue(adb.getCommands().get(2).endsWith("&& mv " + DIR + "/home.tar.tmp " + DIR + "/home.tar"));
+    }
+
+    @Test(description = "A build without run-as and a missing checkpoint are reported as failures")
+    public void testFailuresAreReported() {
+        ScriptedAdbExecutor adb = new ScriptedAdbExecutor()
+            .on("run-as", "run-as: package not debuggable: com.raising.prodigy")
+            .on("ls", "ls: /data/local/tmp/checkpoints/home.tar: No such file or directory");
+        CheckpointStore store = new CheckpointStore(adb, APP, DIR);
+
+        CheckpointResult captured = store.capture("home");
+        Assert.assertFalse(captured.isSuccess());
+        Assert.assertTrue(captured.getDetail().contains("not debuggable"));
+        Assert.assertEquals(adb.count("rm -f " + DIR + "/home.tar.tmp"), 1);
+
+        CheckpointResult restored = store.restore("home");
+        Assert.assertFalse(restored.isSuccess());
+        Assert.assertEquals(adb.count("pm clear"), 0, "nothing is cleared without a checkpoint");
+    }
+}
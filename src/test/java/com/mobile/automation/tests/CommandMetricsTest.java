@@ -0,0 +1,80 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.CommandMetrics;
+import com.mobile.automation.driver.LatencyHistogram;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 📡 Command Metrics Test - Checks the latency histograms and the command executor
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies histogram percentiles stay within the promised ~1.5%
+ * - Sends real commands through InstrumentedCommandExecutor to FakeWebDriverServer
+ *   (no emulator needed) and checks counts, sizes, errors and the Prometheus export
+ */
+public class CommandMetricsTest {
+
+    @Test(description = "Percentiles of 1..1000ms are accurate to a couple of percent")
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1000; millis >= 1; millis--) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getMax(), Duration.ofMillis(1000));
+        Assert.assertEquals(histogram.getMean(), Duration.ofNanos(500_500_000));
+        assertClose(histogram.percentile(50), 500);
+        assertClose(histogram.percentile(95), 950);
+        assertClose(histogram.percentile(99), 990);
+        Assert.assertEquals(histogram.percentile(100), Duration.ofMillis(1000));
+        Assert.assertEquals(new LatencyHistogram().percentile(99), Duration.ZERO);
+    }
+
+    @Test(description = "Every command is counted with its latency, sizes and failures, and exported for Prometheus")
+    public void testRecordsCommandsAgainstStubServer() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        try (FakeWebDriverServer server = new FakeWebDriverServer().start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(),
+                AppiumSessionFactory.defaultCapabilities(), metrics);
+            AppiumDriver driver = factory.create();
+            for (int i = 0; i < 5; i++) {
+                driver.getWindowHandle();
+            }
+            // The fake server doesn't know this command - it must be counted as an error
+            Assert.expectThrows(WebDriverException.class, driver::getPageSource);
+            factory.destroy(driver);
+        }
+
+        Assert.assertEquals(metrics.histogram("newSession").getCount(), 1);
+        Assert.assertTrue(metrics.requestBytes("newSession") > 0, "capabilities were sent");
+        Assert.assertEquals(metrics.histogram("getCurrentWindowHandle").getCount(), 5);
+        Assert.assertTrue(metrics.responseBytes("getCurrentWindowHandle") > 0, "handles were received");
+        Assert.assertEquals(metrics.errors("getCurrentWindowHandle"), 0);
+        Assert.assertEquals(metrics.errors("getPageSource"), 1);
+        Assert.assertTrue(metrics.summary().contains("getCurrentWindowHandle: 5 calls"), metrics.summary());
+
+        Path file = Files.createTempDirectory("metrics").resolve("appium.prom");
+        metrics.writePrometheus(file);
+        String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Assert.assertTrue(text.contains("# TYPE appium_command_duration_seconds summary"), text);
+        Assert.assertTrue(text.contains("appium_command_duration_seconds_count{command=\"getCurrentWindowHandle\"} 5"), text);
+        Assert.assertTrue(text.contains("appium_command_duration_seconds{command=\"newSession\",quantile=\"0.99\"} "), text);
+        Assert.assertTrue(text.contains("appium_command_errors_total{command=\"getPageSource\"} 1"), text);
+    }
+
+    private static void assertClose(Duration actual, long expectedMillis) {
+        double error = Math.abs(actual.toNanos() / 1e6 - expectedMillis) / expectedMillis;
+        Assert.assertTrue(error < 0.02, "Expected ~" + expectedMillis + "ms, got " + actual.toNanos() / 1e6 + "ms");
+    }
+}
@@ -0,0 +1,153 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.Device;
+import com.mobile.automation.driver.DeviceRegistry;
+import com.mobile.automation.driver.DriverBinding;
+import com.mobile.automation.driver.DriverContext;
+import com.mobile.automation.driver.DriverLifecycleListener;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import io.appium.java_client.AppiumDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧭 Driver Context Test - Checks driver scoping and lifecycle hooks
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Uses FakeWebDriverServer (no emulator needed)
+ * - Verifies runWith() always restores the previous driver
+ * - Verifies tasks on a shared thread pool each see their own driver
+ * - Verifies create/checkout/release hooks fire from open()/close()
+ */
+public class DriverContextTest {
+
+    private FakeWebDriverServer server;
+    private AppiumSessionFactory factory;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new FakeWebDriverServer().start();
+        factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities());
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test(description = "runWith() binds a driver only for the task and restores the previous one")
+    public void testRunWithRestoresPreviousDriver() throws Exception {
+        AppiumDriver outer = factory.create();
+        AppiumDriver inner = factory.create();
+        DriverContext.bind(DriverBinding.of(outer));
+        try {
+            AppiumDriver seen = DriverContext.runWith(DriverBinding.of(inner), DriverContext::requireDriver);
+            Assert.assertSame(seen, inner);
+            Assert.assertSame(DriverContext.currentDriver(), outer);
+
+            try {
+                DriverContext.runWith(DriverBinding.of(inner), () -> {
+                    throw new IllegalStateException("task failed");
+                });
+                Assert.fail("Task exception should reach the caller");
+            } catch (IllegalStateException expected) {
+                Assert.assertSame(DriverContext.currentDriver(), outer);
+            }
+        } finally {
+            DriverContext.unbind();
+            factory.destroy(outer);
+            factory.destroy(inner);
+        }
+    }
+
+    @Test(description = "Tasks on a shared thread pool each see their own driver and leave nothing behind")
+    public void testPooledThreadsSeeTheirOwnDriver() throws Exception {
+        List<AppiumDriver> drivers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            drivers.add(factory.create());
+        }
+        List<String> mixUps = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (AppiumDriver driver : drivers) {
+                    results.add(executor.submit(() -> {
+                        DriverContext.runWith(DriverBinding.of(driver), () -> {
+                            if (DriverContext.requireDriver() != driver) {
+                                mixUps.add(Thread.currentThread().getName());
+                            }
+                        });
+                        if (DriverContext.current() != null) {
+                            mixUps.add("leftover binding on " + Thread.currentThread().getName());
+                        }
+                    }));
+                }
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            drivers.forEach(factory::destroy);
+        }
+        Assert.assertTrue(mixUps.isEmpty(), "Driver mix-ups: " + mixUps);
+    }
+
+    @Test(description = "open()/close() fire create, checkout and release hooks and reuse the pooled session")
+    public void testLifecycleHooksFire() throws Exception {
+        Device device = new Device("context-test-device", server.url().toString(), 8200);
+        DeviceRegistry registry = new DeviceRegistry(Collections.singletonList(device), Duration.ofSeconds(5));
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger checkedOut = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+        DriverLifecycleListener listener = new DriverLifecycleListener() {
+            @Override
+            public void onCreate(AppiumDriver driver, Device forDevice) {
+                created.incrementAndGet();
+            }
+
+            @Override
+            public void onCheckout(DriverBinding binding) {
+                checkedOut.incrementAndGet();
+            }
+
+            @Override
+            public void onRelease(DriverBinding binding) {
+                released.incrementAndGet();
+            }
+        };
+        DriverContext.addListener(listener);
+        try {
+            DriverBinding first = DriverContext.open(registry);
+            Assert.assertSame(DriverContext.currentDriver(), first.getDriver());
+            Assert.assertSame(first.getDevice(), device);
+            DriverContext.close(registry);
+            Assert.assertNull(DriverContext.currentDriver());
+            Assert.assertNull(registry.currentDevice());
+
+            DriverBinding second = DriverContext.open(registry);
+            Assert.assertSame(second.getDriver(), first.getDriver(), "Pooled session should be reused");
+            DriverContext.close(registry);
+
+            Assert.assertEquals(created.get(), 1);
+            Assert.assertEquals(checkedOut.get(), 2);
+            Assert.assertEquals(released.get(), 2);
+        } finally {
+            DriverContext.removeListener(listener);
+            DriverContext.closeSessionPool(device);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.ElementCache;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧷 Element Cache Test - Checks elements are found once per screen
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies hits, misses, invalidation and the transparent re-find of a stale element
+ * - Runs the login flow on FakeUiAutomator2Server with and without the
+ *   cache and checks the cache saves Appium commands
+ */
+public class ElementCacheTest {
+
+    private static final By FIELD = By.xpath("//android.widget.EditText");
+
+    @Test(description = "An element is found once per screen and found again after navigation")
+    public void testHitsMissesAndInvalidate() {
+        WebDriver driver = stubDriver();
+        AtomicInteger finds = new AtomicInteger();
+        int hits = ElementCache.hits();
+        int misses = ElementCache.misses();
+
+        WebElement first = ElementCache.resolve(driver, FIELD, () -> element(finds, 0));
+        WebElement second = ElementCache.resolve(driver, FIELD, () -> element(finds, 0));
+        Assert.assertSame(second, first);
+        Assert.assertEquals(finds.get(), 1);
+
+        ElementCache.invalidate(driver);
+        ElementCache.resolve(driver, FIELD, () -> element(finds, 0));
+        Assert.assertEquals(finds.get(), 2);
+        Assert.assertEquals(ElementCache.hits() - hits, 1);
+        Assert.assertEquals(ElementCache.misses() - misses, 2);
+    }
+
+    @Test(description = "A stale element is found again and the action retried once")
+    public void testStaleElementIsFoundAgain() {
+        WebDriver driver = stubDriver();
+        AtomicInteger finds = new AtomicInteger();
+        int stale = ElementCache.staleRefinds();
+
+        // The first element found goes stale on its first use, the second one works
+        ElementCache.put(driver, FIELD, element(finds, 1));
+        String text = ElementCache.use(driver, FIELD, () -> element(finds, 0), WebElement::getText);
+
+        Assert.assertEquals(text, "element 2");
+        Assert.assertEquals(ElementCache.staleRefinds() - stale, 1);
+        Assert.assertEquals(ElementCache.resolve(driver, FIELD, () -> element(finds, 0)).getText(), "element 2",
+            "the re-found element should be cached");
+    }
+
+    @Test(description = "The login flow sends fewer Appium commands with the cache than without")
+    public void testCacheSavesCommandsInLoginFlow() throws Exception {
+        int withCache = loginCommands(true);
+        int withoutCache = loginCommands(false);
+        Assert.assertTrue(withCache < withoutCache,
+            "cache should save commands: " + withCache + " with, " + withoutCache + " without");
+    }
+
+    private int loginCommands(boolean cache) throws Exception {
+        System.setProperty("elements.cache", String.valueOf(cache));
+        FakeApp app = FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            AppiumDriver driver = factory.create();
+            WaitEngine waits = new WaitEngine(new WaitSettings(Duration.ofSeconds(10), Duration.ofSeconds(2),
+                Duration.ofMillis(20), Duration.ofMillis(100), false, true, Duration.ofMillis(1500)));
+            int before = server.commands();
+            new FlowEngine(waits).run(LoginPage.loginFlow("Cached login", LoginPage.VALID_EMAIL,
+                LoginPage.VALID_PASSWORD, LoginPage.ACTIVITY_STREAK), driver);
+            int commands = server.commands() - before;
+            factory.destroy(driver);
+            return commands;
+        } finally {
+            System.clearProperty("elements.cache");
+        }
+    }
+
+    // 🧪 A new element each time; the first "staleUses" calls on it throw StaleElementReferenceException
+    private static WebElement element(AtomicInteger finds, int staleUses) {
+        String name = "element " + finds.incrementAndGet();
+        AtomicInteger uses = new AtomicInteger();
+        return FakeDriver.element()
+            .named(name)
+            .otherwise((method, args) -> {
+                if (uses.incrementAndGet() <= staleUses) {
+                    throw new StaleElementReferenceException(name + " is gone");
+                }
+                return name;
+            })
+            .build();
+    }
+
+    private static WebDriver stubDriver() {
+        return FakeDriver.driver().named("stub driver").build();
+    }
+}
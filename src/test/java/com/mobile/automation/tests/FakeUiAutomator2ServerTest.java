@@ -0,0 +1,126 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.flows.FlowRun;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 🧪 Fake UiAutomator2 Server Test - Checks the fake app plays the real login journey
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Runs LoginPage.loginFlow() against FakeUiAutomator2Server (no emulator)
+ *   and checks valid credentials end on home, wrong ones on the error screen
+ * - Checks new screens only appear after their latency and old elements go stale
+ * - Runs the flow on many simulated devices at once
+ */
+public class FakeUiAutomator2ServerTest {
+
+    private static FakeApp prodigy() {
+        return FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+    }
+
+    private static WaitEngine newWaitEngine() {
+        return new WaitEngine(new WaitSettings(Duration.ofSeconds(10), Duration.ofSeconds(2), Duration.ofMillis(20),
+            Duration.ofMillis(100), false, true, Duration.ofMillis(1500)));
+    }
+
+    private static FlowRun login(AppiumDriver driver, String password, By outcome) {
+        return new FlowEngine(newWaitEngine())
+            .run(LoginPage.loginFlow("Fake login", LoginPage.VALID_EMAIL, password, outcome), driver);
+    }
+
+    @Test(description = "The login flow walks every fixture screen and ends on home or on the error")
+    public void testLoginFlowOnFakeApp() throws Exception {
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(prodigy(),
+                Duration.ZERO, Duration.ofMillis(50)).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+
+            AppiumDriver valid = factory.create();
+            FlowRun run = login(valid, LoginPage.VALID_PASSWORD, LoginPage.ACTIVITY_STREAK);
+            Assert.assertTrue(run.isPassed(), run.summary());
+            Assert.assertEquals(server.screenOf(valid.getSessionId().toString()), "home");
+            Assert.assertEquals(server.transitions(), 6);
+
+            AppiumDriver wrong = factory.create();
+            run = login(wrong, LoginPage.INVALID_PASSWORD, LoginPage.AUTH_ERROR_MESSAGE);
+            Assert.assertTrue(run.isPassed(), run.summary());
+            Assert.assertEquals(server.screenOf(wrong.getSessionId().toString()), "login-error");
+
+            factory.destroy(valid);
+            factory.destroy(wrong);
+        }
+    }
+
+    @Test(description = "A new screen appears only after its latency, and elements of the old one go stale")
+    public void testAppearanceLatencyAndStaleElements() throws Exception {
+        FakeApp app = prodigy().appearsAfter("onboarding", Duration.ofMillis(300));
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            AppiumDriver driver = factory.create();
+
+            long start = System.nanoTime();
+            Assert.assertTrue(driver.findElements(LoginPage.TAP_TO_START).isEmpty(), "still loading");
+            WebElement tapToStart = newWaitEngine().waitForClickable(driver, LoginPage.TAP_TO_START);
+            Assert.assertTrue((System.nanoTime() - start) / 1_000_000 >= 250, "found before the screen appeared");
+
+            tapToStart.click();
+            Assert.assertEquals(server.screenOf(driver.getSessionId().toString()), "intro");
+            Assert.assertTrue(driver.getPageSource().contains("content-desc=\"Next\""));
+            try {
+                tapToStart.click();
+                Assert.fail("An element of the previous screen should be stale");
+            } catch (StaleElementReferenceException e) {
+                Assert.assertEquals(server.staleElements(), 1);
+            }
+            factory.destroy(driver);
+        }
+    }
+
+    @Test(description = "Many simulated devices run the login flow at the same time")
+    public void testManySimulatedDevices() throws Exception {
+        int devices = 20;
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(prodigy(),
+                Duration.ofMillis(2), Duration.ofMillis(50)).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            ExecutorService workers = Executors.newFixedThreadPool(devices);
+            try {
+                List<Future<FlowRun>> runs = new ArrayList<>();
+                for (int i = 0; i < devices; i++) {
+                    runs.add(workers.submit(() -> {
+                        AppiumDriver driver = factory.create();
+                        try {
+                            return login(driver, LoginPage.VALID_PASSWORD, LoginPage.ACTIVITY_STREAK);
+                        } finally {
+                            factory.destroy(driver);
+                        }
+                    }));
+                }
+                for (Future<FlowRun> run : runs) {
+                    Assert.assertTrue(run.get().isPassed(), run.get().summary());
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+            Assert.assertEquals(server.sessionsCreated(), devices);
+            Assert.assertEquals(server.transitions(), devices * 6);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.flows.Condition;
+import com.mobile.automation.flows.Flow;
+import com.mobile.automation.flows.FlowEngine;
+import com.mobile.automation.flows.FlowRun;
+import com.mobile.automation.flows.FlowStep;
+import com.mobile.automation.flows.FlowStepException;
+import com.mobile.automation.ui.LocatorSet;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗺️ Flow Engine Test - Checks declarative flows on a scripted stand-in app
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Uses a fake driver whose screens change when certain elements are clicked
+ * - Verifies steps run in order, are timed, and redundant entry waits are skipped
+ * - Verifies a failing step is named in the error, with the timings so far
+ * - Verifies a step's screen batch costs a page-source dump only when used
+ */
+public class FlowEngineTest {
+
+    private static final By START = AppiumBy.accessibilityId("Start");
+    private static final By NEXT = AppiumBy.accessibilityId("Next");
+    private static final By FIELD = AppiumBy.accessibilityId("Field");
+    private static final By SUBMIT = AppiumBy.accessibilityId("Submit");
+    private static final By DONE = AppiumBy.accessibilityId("Done");
+
+    // 🧪 The stand-in app: its screens, and which clicks move to which screen
+    private final List<List<String>> screens = Arrays.asList(
+        Arrays.asList("Start"), Arrays.asList("Next"), Arrays.asList("Field", "Submit"), Arrays.asList("Done"));
+    private final Map<String, Integer> transitions = new HashMap<>();
+    private final List<String> typed = new ArrayList<>();
+    private int current;
+    private int pageSources;
+
+    private final WaitEngine waits = new WaitEngine(new WaitSettings(Duration.ofMillis(300), Duration.ofMillis(100),
+        Duration.ofMillis(10), Duration.ofMillis(50), false, false, Duration.ofSeconds(1)));
+
+    @Test(description = "Steps run in order, are timed, and entry waits proven by the previous exit are skipped")
+    public void testRunsStepsAndSkipsProvenWaits() {
+        WebDriver driver = scriptedDriver();
+        Flow flow = Flow.of("Form",
+            FlowStep.on("Start", Condition.clickable(START), scope -> scope.tap(START), Condition.clickable(NEXT)),
+            FlowStep.on("Next", Condition.clickable(NEXT), scope -> scope.tap(NEXT), Condition.clickable(FIELD)),
+            FlowStep.onScreen("Form", LocatorSet.of("Form", FIELD, SUBMIT), scope -> {
+                scope.type(FIELD, "hello");
+                scope.tap(SUBMIT);
+            }, Condition.visible(DONE)));
+
+        FlowRun run = new FlowEngine(waits).run(flow, driver);
+
+        Assert.assertTrue(run.isPassed());
+        Assert.assertEquals(run.getSteps().size(), 3);
+        Assert.assertFalse(run.getSteps().get(0).isEntrySkipped());
+        Assert.assertEquals(run.getSkippedWaits(), 2);
+        Assert.assertEquals(typed, Collections.singletonList("hello"));
+        Assert.assertEquals(current, 3);
+    }
+
+    @Test(description = "A step's screen is dumped only when its action asks for an element")
+    public void testScreenBatchResolvedOnlyWhenUsed() {
+        WebDriver driver = scriptedDriver();
+        current = 2;
+        LocatorSet form = LocatorSet.of("Form", FIELD, SUBMIT);
+
+        new FlowEngine(waits).run(Flow.of("Actions only",
+            FlowStep.onScreen("Form", form, scope -> scope.type(FIELD, "hello"), Condition.visible(FIELD))), driver);
+        Assert.assertEquals(pageSources, 0);
+
+        new FlowEngine(waits).run(Flow.of("Elements",
+            FlowStep.onScreen("Form", form, scope -> {
+                scope.element(FIELD);
+                scope.element(SUBMIT);
+            }, Condition.visible(FIELD))), driver);
+        Assert.assertEquals(pageSources, 1);
+    }
+
+    @Test(description = "A step whose exit never appears fails with the step's name")
+    public void testFailureNamesTheStep() {
+        WebDriver driver = scriptedDriver();
+        Flow flow = Flow.of("Broken",
+            FlowStep.on("Start", Condition.clickable(START), scope -> scope.tap(START), Condition.clickable(NEXT)),
+            FlowStep.on("Next", Condition.clickable(NEXT), scope -> scope.tap(NEXT), Condition.visible(DONE)));
+
+        FlowStepException error = Assert.expectThrows(FlowStepException.class,
+            () -> new FlowEngine(waits).run(flow, driver));
+
+        Assert.assertTrue(error.getMessage().contains("2/2 Next"), error.getMessage());
+        Assert.assertTrue(error.getCause() instanceof TimeoutException);
+        Assert.assertEquals(error.getRun().getFailedStep(), "Next");
+        Assert.assertEquals(error.getRun().getSteps().size(), 1);
+    }
+
+    // 🧪 A driver that serves the current screen and moves on when Start/Next/Submit are clicked
+    private WebDriver scriptedDriver() {
+        current = 0;
+        pageSources = 0;
+        transitions.put("Start", 1);
+        transitions.put("Next", 2);
+        transitions.put("Submit", 3);
+        return FakeDriver.driver()
+            .on("getPageSource", (method, args) -> {
+                pageSources++;
+                return pageSource();
+            })
+            .on("findElements", (method, args) -> {
+                String desc = accessibilityId((By) args[0]);
+                return screens.get(current).contains(desc)
+                    ? Collections.singletonList(element(desc))
+                    : Collections.emptyList();
+            })
+            .strict()
+            .build();
+    }
+
+    private String pageSource() {
+        StringBuilder xml = new StringBuilder("<hierarchy>");
+        for (String desc : screens.get(current)) {
+            xml.append("<android.view.View content-desc=\"").append(desc).append("\"/>");
+        }
+        return xml.append("</hierarchy>").toString();
+    }
+
+    private static String accessibilityId(By locator) {
+        String text = locator.toString();
+        return text.substring(text.indexOf(": ") + 2);
+    }
+
+    private WebElement element(String desc) {
+        return FakeDriver.element()
+            .on("click", (method, args) -> {
+                current = transitions.getOrDefault(desc, current);
+                return null;
+            })
+            .on("sendKeys", (method, args) -> {
+                typed.add(String.valueOf(((CharSequence[]) args[0])[0]));
+                return null;
+            })
+            .returning("isDisplayed", true)
+            .returning("isEnabled", true)
+            .build();
+    }
+}
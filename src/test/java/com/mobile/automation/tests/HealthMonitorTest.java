@@ -0,0 +1,158 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.AppCrashedException;
+import com.mobile.automation.device.AppHealth;
+import com.mobile.automation.device.HealthMonitor;
+import com.mobile.automation.device.HealthProbe;
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import com.mobile.automation.utils.FrameworkConfig;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 💓 Health Monitor Test - Checks the heartbeat is cheap and ends waits on a crash
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies a fresh result is reused instead of probing again
+ * - Verifies a wait stops with AppCrashedException soon after the heartbeat
+ *   sees the crash, instead of running into its timeout
+ * - Verifies a deliberately stopped app (pause, forget) is never reported as a crash
+ * - Crashes the app on FakeUiAutomator2Server and checks the Appium probe notices
+ */
+public class HealthMonitorTest {
+
+    private static final By MISSING = By.xpath("//android.widget.Button[@content-desc='Never there']");
+
+    @Test(description = "A result younger than the TTL is reused, an older one is checked again")
+    public void testFreshResultIsReused() throws Exception {
+        AtomicInteger checks = new AtomicInteger();
+        HealthMonitor monitor = new HealthMonitor(() -> {
+            checks.incrementAndGet();
+            return health(AppHealth.Status.HEALTHY);
+        }, Duration.ofHours(1), Duration.ofMillis(100));
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(monitor.current().isHealthy());
+        }
+        Assert.assertEquals(checks.get(), 1);
+
+        Thread.sleep(150);
+        monitor.current();
+        Assert.assertEquals(checks.get(), 2);
+    }
+
+    @Test(description = "A wait ends with AppCrashedException once the heartbeat sees the crash")
+    public void testWaitFailsFastOnCrash() {
+        WebDriver driver = FakeDriver.emptyScreen();
+        long crashAt = System.nanoTime() + Duration.ofMillis(200).toNanos();
+        System.setProperty("health.intervalMillis", "20");
+        try {
+            HealthMonitor.start(driver, () -> health(System.nanoTime() >= crashAt
+                ? AppHealth.Status.CRASHED : AppHealth.Status.HEALTHY));
+            WaitEngine waits = new WaitEngine(new WaitSettings(Duration.ofSeconds(10), Duration.ofSeconds(10),
+                Duration.ofMillis(10), Duration.ofMillis(50), false, false, Duration.ofSeconds(1)));
+
+            long start = System.nanoTime();
+            AppCrashedException e = Assert.expectThrows(AppCrashedException.class,
+                () -> waits.waitForPresent(driver, MISSING));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Assert.assertEquals(e.getHealth().getStatus(), AppHealth.Status.CRASHED);
+            Assert.assertTrue(elapsedMillis < 1000, "Waited " + elapsedMillis + "ms for a crashed app");
+        } finally {
+            HealthMonitor.stop(driver);
+            System.clearProperty("health.intervalMillis");
+        }
+    }
+
+    @Test(description = "A probe that started before forget() can't report the stopped app as crashed afterwards")
+    public void testProbeFromBeforeForgetIsDropped() throws Exception {
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HealthMonitor monitor = new HealthMonitor(() -> {
+            probing.countDown();
+            await(release);
+            return health(AppHealth.Status.CRASHED);
+        }, Duration.ofHours(1), Duration.ofHours(1));
+
+        Thread beat = new Thread(monitor::checkNow, "slow-beat");
+        beat.start();
+        Assert.assertTrue(probing.await(2, TimeUnit.SECONDS));
+        monitor.forget();
+        release.countDown();
+        beat.join(2000);
+
+        Assert.assertNull(monitor.lastKnown(), "a result from before forget() must be dropped");
+    }
+
+    @Test(description = "A paused heartbeat neither probes nor fails waits until forget() resumes it")
+    public void testPausedHeartbeatIgnoresStoppedApp() throws Exception {
+        WebDriver driver = FakeDriver.emptyScreen();
+        AtomicInteger checks = new AtomicInteger();
+        System.setProperty("health.intervalMillis", "20");
+        try {
+            HealthMonitor monitor = HealthMonitor.start(driver, () -> {
+                checks.incrementAndGet();
+                return health(AppHealth.Status.CRASHED);
+            });
+            Thread.sleep(100);
+            monitor.pause();
+            int checksWhenPaused = checks.get();
+            HealthMonitor.failIfCrashed(driver);
+            Thread.sleep(100);
+            Assert.assertTrue(checks.get() <= checksWhenPaused + 1, "the heartbeat kept probing while paused");
+
+            monitor.forget();
+            Assert.assertFalse(monitor.isPaused());
+        } finally {
+            HealthMonitor.stop(driver);
+            System.clearProperty("health.intervalMillis");
+        }
+    }
+
+    @Test(description = "The app-state probe sees a crash on the fake device and the relaunch after it")
+    public void testProbeSeesCrashOnFakeDevice() throws Exception {
+        FakeApp app = FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app).start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            AppiumDriver driver = factory.create();
+            HealthProbe probe = HealthProbe.of(driver, FrameworkConfig.appPackage());
+            Assert.assertEquals(probe.check().getStatus(), AppHealth.Status.HEALTHY);
+
+            server.crash(driver.getSessionId().toString());
+            Assert.assertEquals(probe.check().getStatus(), AppHealth.Status.CRASHED);
+            Assert.assertTrue(driver.findElements(LoginPage.TAP_TO_START).isEmpty(), "the launcher is showing");
+
+            ((InteractsWithApps) driver).activateApp(FrameworkConfig.appPackage());
+            Assert.assertEquals(probe.check().getStatus(), AppHealth.Status.HEALTHY);
+            factory.destroy(driver);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static AppHealth health(AppHealth.Status status) {
+        return new AppHealth(status, "scripted", System.nanoTime(), Duration.ZERO);
+    }
+}
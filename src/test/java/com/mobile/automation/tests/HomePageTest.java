@@ -1,7 +1,7 @@
 package com.mobile.automation.tests;
 
+import com.mobile.automation.device.AppState;
 import com.mobile.automation.pages.HomePage;
-import com.mobile.automation.pages.LoginPage;
 // import com.mobile.automation.utils.TestReport;  // Using fully qualified name instead
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -9,34 +9,28 @@ import org.testng.annotations.Test;
 
 /**
  * 🏠 Home Page Test - Simple test scenarios for Home Page functionality
+ * 
+ * 🧵 singleThreaded: All tests share the login done in setUp(), so they must run
+ * on the thread (and device) that did it, even in a parallel="methods" suite
  */
+@Test(singleThreaded = true)
 public class HomePageTest extends BaseTest {
 
-    private LoginPage loginPage;
     private HomePage homePage;
 
     @BeforeClass
     public void setUp() throws Exception {
-        setupTestWithReset(); 
-        loginPage = new LoginPage(getDriver());
-        homePage = new HomePage(getDriver());
-        loginPage.completeLoginFlow();
+        // 💾 LOGGED IN: Restored from a checkpoint instead of replaying the ~30s login flow
+        setupTestIn(AppState.LOGGED_IN_HOME);
+        homePage = new HomePage();
     }
     
     @AfterClass
     public void tearDown() {
         try {
-            // 🧹 CLEANUP: Close driver and reset app state
-            cleanupTest();
-            
-            // ⏱️ DYNAMIC WAIT: Wait for app to fully close
-            Thread.sleep(3000);
-            
-            // 🔄 ADDITIONAL RESET: Ensure app is completely reset
-            resetAppData();
-            
-            // ⏱️ DYNAMIC WAIT: Wait for reset to complete
-            Thread.sleep(2000);
+            // 🏁 FINISH: Return the session and free the device - no reset here
+            // The next test's setupTestIn() resets only if the state it needs requires it
+            finishTest();
             
         } catch (Exception e) {
             // Continue even if cleanup fails
@@ -95,12 +89,12 @@ public class HomePageTest extends BaseTest {
 
     @Test(priority = 6, description = "Test feedback popup element - OPTIONAL")
     public void testFeedbackPopupElement() throws Exception {
-        try {
-            homePage.validateFeedbackPopup();
+        // ⚡ Quick check: the popup is optional, so don't wait for it
+        if (homePage.isFeedbackPopupShown()) {
             com.mobile.automation.utils.TestReport.addTestResult("Feedback Popup Element", "PASSED", "Feedback Popup should be visible", "Feedback Popup found", null);
-        } catch (Exception e) {
+        } else {
             com.mobile.automation.utils.TestReport.addTestResult("Feedback Popup Element", "SKIPPED", "Feedback Popup should be visible", "Feedback Popup not found - may not always be visible", null);
-            // Don't throw the exception - just skip the test
+            // Don't fail - just skip the test
         }
     }
     
@@ -0,0 +1,87 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.fakes.ScreenFixtures;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.LocatorBatch;
+import com.mobile.automation.ui.SnapshotCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📦 Locator Batch Test - Checks that a whole screen is resolved in one round trip
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Uses a stand-in driver that serves screens/login-email.xml and counts calls
+ * - Verifies present/absent lookups need a single getPageSource()
+ * - Verifies element() finds each element once and reuses it
+ */
+public class LocatorBatchTest {
+
+    private final AtomicInteger sourceCalls = new AtomicInteger();
+    private final AtomicInteger findCalls = new AtomicInteger();
+
+    @Test(description = "All locators of a screen are resolved from one page-source fetch")
+    public void testResolvesScreenInOneRoundTrip() {
+        WebDriver driver = emailScreenDriver();
+
+        LocatorBatch batch = LocatorBatch.resolve(driver, Arrays.asList(
+            LoginPage.TEXT_FIELD, LoginPage.SIGN_IN_BUTTON, LoginPage.LOGIN_WITH_PASSWORD_BUTTON));
+
+        Assert.assertEquals(sourceCalls.get(), 1);
+        Assert.assertEquals(findCalls.get(), 0);
+        Assert.assertTrue(batch.isPresent(LoginPage.TEXT_FIELD));
+        Assert.assertTrue(batch.isPresent(LoginPage.SIGN_IN_BUTTON));
+        Assert.assertEquals(batch.missing(), Collections.singletonList(LoginPage.LOGIN_WITH_PASSWORD_BUTTON));
+        Assert.assertEquals(batch.get(LoginPage.TEXT_FIELD).get().getAttribute("hint"), "Email");
+        Assert.assertFalse(batch.asMap().get(LoginPage.LOGIN_WITH_PASSWORD_BUTTON).isPresent());
+    }
+
+    @Test(description = "element() finds each element once per batch and drops the snapshot")
+    public void testElementsAreFoundOnceAndReused() {
+        WebDriver driver = emailScreenDriver();
+        LocatorBatch batch = LocatorBatch.resolve(driver, LoginPage.EMAIL_SCREEN);
+
+        WebElement first = batch.element(LoginPage.TEXT_FIELD);
+        WebElement second = batch.element(LoginPage.TEXT_FIELD);
+        batch.element(LoginPage.SIGN_IN_BUTTON);
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(findCalls.get(), 2);
+
+        // Acting on an element changes the screen, so the next lookup fetches a new snapshot
+        LocatorBatch.resolve(driver, LoginPage.EMAIL_SCREEN);
+        Assert.assertEquals(sourceCalls.get(), 2);
+    }
+
+    // 🧪 A driver that serves the email screen and counts page-source and find calls
+    private WebDriver emailScreenDriver() {
+        sourceCalls.set(0);
+        findCalls.set(0);
+        String source = ScreenFixtures.load("login-email");
+        WebDriver driver = FakeDriver.driver()
+            .on("getPageSource", (method, args) -> {
+                sourceCalls.incrementAndGet();
+                return source;
+            })
+            .on("findElements", (method, args) -> {
+                findCalls.incrementAndGet();
+                return Collections.singletonList(element((By) args[0]));
+            })
+            .strict()
+            .build();
+        SnapshotCache.invalidate(driver);
+        return driver;
+    }
+
+    private WebElement element(By locator) {
+        return FakeDriver.element().named("element " + locator).build();
+    }
+}
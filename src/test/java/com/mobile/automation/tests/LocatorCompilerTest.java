@@ -0,0 +1,126 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.ScreenFixtures;
+import com.mobile.automation.pages.HomePage;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.CompiledLocator;
+import com.mobile.automation.ui.LocatorCompiler;
+import com.mobile.automation.ui.LocatorEngine;
+import com.mobile.automation.ui.LocatorTimingStats;
+import com.mobile.automation.ui.PageSnapshot;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ⚙️ Locator Compiler Test - Checks XPath locators are rewritten into faster strategies
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies the real LoginPage/HomePage locators compile to accessibility id,
+ *   UiSelector or class name, and that complex ones stay XPath
+ * - Verifies the snapshot index returns exactly what the XPath would
+ * - Verifies the LocatorEngine sends the compiled locator and times it
+ */
+public class LocatorCompilerTest {
+
+    @Test(description = "Page locators compile to accessibility id, UiSelector or class name")
+    public void testPageLocatorsCompile() {
+        CompiledLocator advertisement = LocatorCompiler.compile(LoginPage.SAW_AN_ADVERTISEMENT);
+        Assert.assertEquals(advertisement.getStrategy(), "accessibility id");
+        Assert.assertEquals(advertisement.getTarget(), AppiumBy.accessibilityId("Saw an advertisement"));
+
+        Assert.assertEquals(LocatorCompiler.compile(LoginPage.SIGN_IN_BUTTON).getTarget(), AppiumBy.androidUIAutomator(
+            "new UiSelector().className(\"android.widget.Button\").description(\"Sign in\")"));
+        Assert.assertEquals(LocatorCompiler.compile(LoginPage.TAP_TO_START).getTarget(), AppiumBy.androidUIAutomator(
+            "new UiSelector().className(\"android.widget.ImageView\").descriptionContains(\"Tap to Start\")"));
+        Assert.assertEquals(LocatorCompiler.compile(LoginPage.TEXT_FIELD).getTarget(),
+            AppiumBy.className("android.widget.EditText"));
+
+        // 🧱 Paths and multi-line values stay XPath
+        Assert.assertFalse(LocatorCompiler.compile(HomePage.NOTIFICATION_ICON).isTranslated());
+        Assert.assertNull(LocatorCompiler.compile(HomePage.NOTIFICATION_ICON).getPattern());
+        CompiledLocator streak = LocatorCompiler.compile(HomePage.ACTIVITY_STREAK);
+        Assert.assertEquals(streak.getStrategy(), "xpath");
+        Assert.assertNotNull(streak.getPattern(), "multi-line values can still use the snapshot index");
+    }
+
+    @Test(description = "Snapshot index lookups return the same elements as XPath")
+    public void testIndexMatchesXPath() throws Exception {
+        List<By> locators = List.of(
+            LoginPage.TAP_TO_START, LoginPage.NEXT_BUTTON, LoginPage.SAW_AN_ADVERTISEMENT,
+            LoginPage.CONTINUE_BUTTON, LoginPage.TEXT_FIELD, LoginPage.SIGN_IN_BUTTON,
+            LoginPage.LOGIN_WITH_PASSWORD_BUTTON, LoginPage.ACTIVITY_STREAK,
+            HomePage.ACTIVITY_STREAK, HomePage.CLAIM_MEDALS, HomePage.FEEDBACK_POPUP);
+        for (String screen : List.of("home", "login-email")) {
+            String source = ScreenFixtures.load(screen);
+            PageSnapshot snapshot = PageSnapshot.parse(source);
+            for (By locator : locators) {
+                List<String> expected = evaluateXPath(source, locator.toString().substring("By.xpath: ".length()));
+                List<String> actual = new ArrayList<>();
+                for (PageSnapshot.SnapshotElement element : snapshot.findAll(locator)) {
+                    actual.add(element.getTagName() + "|" + element.getContentDesc());
+                }
+                Assert.assertEquals(actual, expected, screen + " " + locator);
+            }
+        }
+    }
+
+    @Test(description = "LocatorEngine sends the compiled locator and records its latency")
+    public void testEngineUsesCompiledLocator() {
+        List<By> received = new ArrayList<>();
+        SearchContext context = new SearchContext() {
+            @Override
+            public List<WebElement> findElements(By by) {
+                received.add(by);
+                return Collections.emptyList();
+            }
+
+            @Override
+            public WebElement findElement(By by) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        LocatorEngine engine = new LocatorEngine(true);
+        engine.findElements(context, LoginPage.CONTINUE_BUTTON);
+        engine.findElements(context, LoginPage.CONTINUE_BUTTON);
+        Assert.assertEquals(received.get(0), AppiumBy.accessibilityId("Continue"));
+
+        LocatorTimingStats stats = engine.stats(LoginPage.CONTINUE_BUTTON.toString());
+        Assert.assertEquals(stats.getCalls(), 2);
+        Assert.assertEquals(stats.getFound(), 0);
+        Assert.assertEquals(stats.getStrategy(), "accessibility id");
+
+        new LocatorEngine(false).findElements(context, LoginPage.CONTINUE_BUTTON);
+        Assert.assertEquals(received.get(2), LoginPage.CONTINUE_BUTTON);
+    }
+
+    // 🧪 Plain XPath evaluation, without the index, as the reference answer
+    private List<String> evaluateXPath(String source, String expression) throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new InputSource(new StringReader(source)));
+        NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
+            .evaluate(expression, document, XPathConstants.NODESET);
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            org.w3c.dom.Element element = (org.w3c.dom.Element) nodes.item(i);
+            result.add(element.getTagName() + "|"
+                + (element.hasAttribute("content-desc") ? element.getAttribute("content-desc") : null));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.AppCrashedException;
+import com.mobile.automation.device.AppHealth;
+import com.mobile.automation.device.CrashReport;
+import com.mobile.automation.device.HealthMonitor;
+import com.mobile.automation.device.LogcatWatcher;
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.DriverBinding;
+import com.mobile.automation.driver.DriverContext;
+import com.mobile.automation.fakes.FakeApp;
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.fakes.FakeLogcat;
+import com.mobile.automation.fakes.FakeUiAutomator2Server;
+import com.mobile.automation.pages.HomePage;
+import com.mobile.automation.pages.LoginPage;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import com.mobile.automation.utils.TestReport;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 📜 Logcat Watcher Test - Checks crashes and ANRs are spotted from a live logcat stream
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Feeds a LogcatWatcher from FakeLogcat (no device or adb needed)
+ * - Verifies only the app's own crash and ANR blocks count, with their excerpt
+ * - Verifies the ring buffer keeps only the latest lines
+ * - Verifies a crash ends a running wait at once and lands on the report row
+ * - Verifies page helpers don't turn a crash into null or false
+ */
+public class LogcatWatcherTest {
+
+    private static final String APP = "com.raising.prodigy";
+
+    @Test(description = "A crash of another app is ignored, the app's own crash is reported with its excerpt")
+    public void testSpotsCrashOfTheAppOnly() throws Exception {
+        try (FakeLogcat logcat = new FakeLogcat();
+             LogcatWatcher watcher = new LogcatWatcher(APP, 100).start(logcat.stream(), "fake")) {
+            long start = System.nanoTime();
+            logcat.crash("com.android.chrome", 4321, "java.lang.NullPointerException: other app");
+            logcat.crash(APP, 1234, "java.lang.IllegalStateException: Login screen has no view model");
+
+            CrashReport crash = awaitValue(() -> watcher.crashSince(start));
+            Assert.assertEquals(crash.getKind(), CrashReport.Kind.CRASH);
+            Assert.assertEquals(crash.getAppPackage(), APP);
+            awaitValue(() -> watcher.latestCrash().getLines().size() == 5 ? true : null);
+            Assert.assertTrue(watcher.latestCrash().excerpt().contains("IllegalStateException: Login screen has no view model"));
+            Assert.assertEquals(watcher.crashes(), 1);
+        }
+    }
+
+    @Test(description = "An ANR of the app is reported and only the latest lines are kept")
+    public void testSpotsAnrAndKeepsBoundedBuffer() throws Exception {
+        try (FakeLogcat logcat = new FakeLogcat();
+             LogcatWatcher watcher = new LogcatWatcher(APP, 5).start(logcat.stream(), "fake")) {
+            for (int i = 0; i < 20; i++) {
+                logcat.log(1234, 'E', "ActivityManager", "noise " + i);
+            }
+            logcat.anr(APP, 1234, "Input dispatching timed out");
+
+            CrashReport anr = awaitValue(() -> watcher.latestCrash());
+            Assert.assertEquals(anr.getKind(), CrashReport.Kind.ANR);
+            Assert.assertEquals(AppHealth.of(anr).getStatus(), AppHealth.Status.NOT_RESPONDING);
+            awaitValue(() -> watcher.linesRead() == 23 ? true : null);
+            Assert.assertEquals(watcher.recentLines().size(), 5);
+            Assert.assertTrue(watcher.recentLines().get(4).endsWith("Reason: Input dispatching timed out"));
+        }
+    }
+
+    @Test(description = "A crash ends a running wait at once and its excerpt goes onto the report row")
+    public void testCrashEndsWaitAndIsReported() throws Exception {
+        WebDriver driver = FakeDriver.emptyScreen();
+        try (FakeLogcat logcat = new FakeLogcat();
+             LogcatWatcher watcher = new LogcatWatcher(APP, 100).start(logcat.stream(), "fake")) {
+            HealthMonitor.start(driver, () -> new AppHealth(AppHealth.Status.HEALTHY, "scripted", System.nanoTime(),
+                Duration.ZERO)).watch(watcher);
+            new Thread(() -> {
+                pause(200);
+                logcat.crash(APP, 1234, "java.lang.IllegalStateException: boom");
+            }, "fake-crash").start();
+
+            WaitEngine waits = new WaitEngine(new WaitSettings(Duration.ofSeconds(20), Duration.ofSeconds(20),
+                Duration.ofMillis(20), Duration.ofMillis(100), false, false, Duration.ofSeconds(1)));
+            long start = System.nanoTime();
+            AppCrashedException e = Assert.expectThrows(AppCrashedException.class,
+                () -> waits.waitForPresent(driver, By.xpath("//android.view.View[@content-desc='Activity Streak']")));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Assert.assertTrue(elapsedMillis < 1000, "Waited " + elapsedMillis + "ms for a crashed app");
+            Assert.assertTrue(e.getMessage().contains("IllegalStateException: boom"), e.getMessage());
+            String crash = TestReport.takeCrash();
+            Assert.assertNotNull(crash, "the crash should be attached to the next report row");
+            Assert.assertTrue(crash.contains("FATAL EXCEPTION"), crash);
+        } finally {
+            HealthMonitor.stop(driver);
+        }
+    }
+
+    @Test(description = "Page helpers let a crash through instead of returning null or false")
+    public void testPageHelpersRethrowCrash() throws Exception {
+        FakeApp app = FakeApp.prodigy(LoginPage.VALID_EMAIL, LoginPage.VALID_PASSWORD);
+        try (FakeUiAutomator2Server server = new FakeUiAutomator2Server(app).start();
+             FakeLogcat logcat = new FakeLogcat();
+             LogcatWatcher watcher = new LogcatWatcher(APP, 100).start(logcat.stream(), "fake")) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities(), null);
+            AppiumDriver driver = factory.create();
+            try {
+                HealthMonitor.start(driver, () -> new AppHealth(AppHealth.Status.HEALTHY, "scripted", System.nanoTime(),
+                    Duration.ZERO)).watch(watcher);
+                logcat.crash(APP, 1234, "java.lang.IllegalStateException: boom");
+                awaitValue(() -> watcher.latestCrash());
+
+                DriverContext.runWith(new DriverBinding(driver, null, null), () -> {
+                    HomePage home = new HomePage();
+                    Assert.expectThrows(AppCrashedException.class, home::verifyHomePageLoaded);
+                    Assert.expectThrows(AppCrashedException.class, () -> home.waitForElementToBeVisible(LoginPage.ACTIVITY_STREAK));
+                    Assert.expectThrows(AppCrashedException.class, () -> home.waitForElementToBeClickable(LoginPage.SIGN_IN_BUTTON));
+                });
+            } finally {
+                HealthMonitor.stop(driver);
+                TestReport.takeCrash();
+                factory.destroy(driver);
+            }
+        }
+    }
+
+    // ⏳ Polls until the value shows up (the watcher reads on its own thread)
+    private static <T> T awaitValue(Supplier<T> value) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            T current = value.get();
+            if (current != null) {
+                return current;
+            }
+            pause(10);
+        }
+        throw new AssertionError("Nothing seen within 2s");
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mobile.automation.tests;
 
+import com.mobile.automation.device.AppState;
 import com.mobile.automation.pages.LoginPage;
 // import com.mobile.automation.utils.TestReport;  // Using fully qualified name instead
 import org.testng.annotations.AfterMethod;
@@ -35,25 +36,25 @@ public class LoginTest extends BaseTest {
      * 
      * 📚 WHAT THIS METHOD DOES:
      * - Runs before each test method (@BeforeMethod)
-     * - Resets the app to start fresh from onboarding
-     * - Creates a new LoginPage object with the driver
+     * - Puts the app in its onboarding state (resetting it only if needed)
+     * - Creates a new LoginPage object (it finds the driver through DriverContext)
      * - This ensures each test starts with a clean app state
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method runs automatically before each test
      * - It's like "preparing the stage" before each test
-     * - setupTestWithReset() ensures the app is in onboarding state
-     * - new LoginPage(getDriver()) creates the page object we'll use
+     * - setupTestIn(AppState.ONBOARDING) ensures the app is in onboarding state
+     * - new LoginPage() creates the page object we'll use
      */
     @BeforeMethod
     public void setUp() throws Exception {
-        // 🔄 RESET APP: Start fresh from onboarding screen
-        // This ensures each test starts from the beginning
-        setupTestWithReset(); 
+        // 🧭 ONBOARDING: Every login test starts from the first screen
+        // The reset policy resets the app only when it is not already there
+        setupTestIn(AppState.ONBOARDING);
         
-        // 📱 CREATE PAGE OBJECT: Pass the driver to LoginPage
+        // 📱 CREATE PAGE OBJECT: LoginPage finds this thread's driver by itself
         // This is how Page Object Model works - test creates page, page uses driver
-        loginPage = new LoginPage(getDriver()); 
+        loginPage = new LoginPage(); 
     }
 
     /**
@@ -196,29 +197,21 @@ public class LoginTest extends BaseTest {
      * 
      * 📚 WHAT THIS METHOD DOES:
      * - Runs after each test method (@AfterMethod)
-     * - Cleans up resources (closes driver, resets app state)
+     * - Returns the driver and frees the device (no reset - see finishTest())
      * - Ensures the next test starts with a clean environment
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method runs automatically after each test
      * - It's like "cleaning up the stage" after each test
-     * - cleanupTest() closes the driver and resets the app
+     * - finishTest() returns the driver; the next setUp() resets only if needed
      * - This prevents tests from interfering with each other
      */
     @AfterMethod
     public void tearDown() {
         try {
-            // 🧹 CLEANUP: Close driver and reset app state
-            cleanupTest();
-            
-            // ⏱️ DYNAMIC WAIT: Wait for app to fully close before next test
-            Thread.sleep(3000); // Wait 3 seconds for app to fully close
-            
-            // 🔄 ADDITIONAL RESET: Ensure app is completely reset
-            resetAppData();
-            
-            // ⏱️ DYNAMIC WAIT: Wait for reset to complete
-            Thread.sleep(2000); // Wait 2 seconds for reset to complete
+            // 🏁 FINISH: Return the session and free the device - no reset here
+            // The next test's setupTestIn() resets only if the state it needs requires it
+            finishTest();
             
         } catch (Exception e) {
             // Continue even if cleanup fails
@@ -0,0 +1,74 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.fakes.ScreenFixtures;
+import com.mobile.automation.pages.HomePage;
+import com.mobile.automation.ui.PageSnapshot;
+import com.mobile.automation.ui.SnapshotCache;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📸 Page Snapshot Test - Checks local locator evaluation on a recorded home screen
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Parses screens/home.xml (a recorded getPageSource()) - no emulator needed
+ * - Verifies the real HomePage locators match, including multi-line content-desc
+ * - Verifies SnapshotCache fetches the page source once until invalidated
+ */
+public class PageSnapshotTest {
+
+    private final PageSnapshot home = PageSnapshot.parse(ScreenFixtures.load("home"));
+
+    @Test(description = "HomePage locators are found in the home screen snapshot")
+    public void testHomePageLocatorsMatch() {
+        Assert.assertTrue(home.isPresent(HomePage.ACTIVITY_STREAK));
+        Assert.assertTrue(home.isPresent(HomePage.NOTIFICATION_ICON));
+        Assert.assertTrue(home.isPresent(HomePage.CLAIM_MEDALS));
+        Assert.assertFalse(home.isPresent(HomePage.FEEDBACK_POPUP));
+
+        Assert.assertEquals(home.find(HomePage.NOTIFICATION_ICON).getContentDesc(), "Notifications");
+    }
+
+    @Test(description = "id, accessibility id and class name locators work on a snapshot")
+    public void testNonXPathLocators() {
+        Assert.assertTrue(home.isPresent(By.id("start_activity")));
+        Assert.assertTrue(home.isPresent(By.id("com.raising.prodigy:id/start_activity")));
+        Assert.assertTrue(home.isPresent(AppiumBy.accessibilityId("Start today's activity")));
+        Assert.assertEquals(home.findAll(By.className("android.widget.Button")).size(), 1);
+        Assert.assertFalse(PageSnapshot.supports(AppiumBy.androidUIAutomator("new UiSelector()")));
+    }
+
+    @Test(description = "Several checks on one screen cost one getPageSource() until invalidated")
+    public void testCacheFetchesOncePerScreen() {
+        AtomicInteger sourceCalls = new AtomicInteger();
+        WebDriver driver = pageSourceDriver(sourceCalls);
+
+        for (int i = 0; i < 4; i++) {
+            SnapshotCache.get(driver, Duration.ofMinutes(1)).isPresent(HomePage.CLAIM_MEDALS);
+        }
+        Assert.assertEquals(sourceCalls.get(), 1);
+
+        SnapshotCache.invalidate(driver);
+        SnapshotCache.get(driver, Duration.ofMinutes(1));
+        Assert.assertEquals(sourceCalls.get(), 2);
+    }
+
+    // 🧪 A driver that only knows how to return the home screen's page source
+    private WebDriver pageSourceDriver(AtomicInteger sourceCalls) {
+        String source = ScreenFixtures.load("home");
+        return FakeDriver.driver()
+            .on("getPageSource", (method, args) -> {
+                sourceCalls.incrementAndGet();
+                return source;
+            })
+            .strict()
+            .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.Device;
+import com.mobile.automation.driver.DeviceRegistry;
+import com.mobile.automation.driver.PooledSession;
+import com.mobile.automation.driver.SessionPool;
+import com.mobile.automation.driver.SessionPoolSettings;
+import com.mobile.automation.fakes.FakeDeviceFarmServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📱📱📱 Parallel Devices Test - Checks that parallel workers never share a device
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts FakeDeviceFarmServer with 3 simulated devices (no emulator needed)
+ * - Runs more test "workers" than devices on 3 threads
+ * - Verifies every worker got its own device and every device was used
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - The fake farm refuses a second session on a busy device, so any sharing
+ *   bug shows up as a "session not created" error here
+ */
+public class ParallelDevicesTest {
+
+    private static final int DEVICES = 3;
+
+    private FakeDeviceFarmServer server;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new FakeDeviceFarmServer(FakeDeviceFarmServer.emulatorSerials(DEVICES),
+            Duration.ofMillis(50), Duration.ofMillis(5));
+        server.start();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.close();
+    }
+
+    private DeviceRegistry newRegistry(int count, Duration acquireTimeout) {
+        List<Device> devices = new ArrayList<>();
+        List<String> serials = FakeDeviceFarmServer.emulatorSerials(count);
+        for (int i = 0; i < serials.size(); i++) {
+            devices.add(new Device(serials.get(i), server.url().toString(), 8200 + i));
+        }
+        return new DeviceRegistry(devices, acquireTimeout);
+    }
+
+    @Test(description = "Parallel workers each get their own device and session")
+    public void testWorkersNeverShareADevice() throws Exception {
+        DeviceRegistry registry = newRegistry(DEVICES, Duration.ofSeconds(30));
+        Map<String, SessionPool> pools = new ConcurrentHashMap<>();
+        for (Device device : registry.getDevices()) {
+            pools.put(device.getSerial(), new SessionPool(AppiumSessionFactory.forDevice(device),
+                new SessionPoolSettings(1, Duration.ofMinutes(5), Duration.ofMinutes(30), Duration.ofSeconds(30), true)));
+        }
+
+        Map<String, AtomicInteger> holders = new ConcurrentHashMap<>();
+        Set<String> usedDevices = ConcurrentHashMap.newKeySet();
+        List<String> sharingErrors = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService workers = Executors.newFixedThreadPool(DEVICES);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < DEVICES * 3; i++) {
+                results.add(workers.submit((Callable<Void>) () -> {
+                    Device device = registry.acquireForCurrentThread();
+                    String serial = device.getSerial();
+                    try {
+                        // 🔒 EXCLUSIVE: No other worker may hold this device right now
+                        if (holders.computeIfAbsent(serial, s -> new AtomicInteger()).incrementAndGet() != 1) {
+                            sharingErrors.add(serial);
+                        }
+                        usedDevices.add(serial);
+
+                        PooledSession session = pools.get(serial).checkout();
+                        try {
+                            for (int command = 0; command < 5; command++) {
+                                session.getDriver().getWindowHandle();
+                            }
+                        } finally {
+                            pools.get(serial).release(session);
+                        }
+                        holders.get(serial).decrementAndGet();
+                    } finally {
+                        registry.releaseCurrentThread();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            workers.shutdownNow();
+            pools.values().forEach(SessionPool::close);
+        }
+
+        Assert.assertTrue(sharingErrors.isEmpty(), "Devices shared between workers: " + sharingErrors);
+        Assert.assertEquals(usedDevices.size(), DEVICES, "Every device should have been used");
+        Assert.assertEquals(server.rejectedSessions(), 0, "The farm should never see a busy-device request");
+        Assert.assertTrue(server.peakBusyDevices() <= DEVICES);
+    }
+
+    @Test(description = "A thread keeps its device until it releases it")
+    public void testThreadKeepsItsDevice() {
+        DeviceRegistry registry = newRegistry(2, Duration.ofSeconds(1));
+
+        Device first = registry.acquireForCurrentThread();
+        Device again = registry.acquireForCurrentThread();
+
+        Assert.assertSame(again, first);
+        Assert.assertSame(registry.currentDevice(), first);
+        registry.releaseCurrentThread();
+        Assert.assertNull(registry.currentDevice());
+    }
+
+    @Test(description = "Waiting for a device fails clearly when every device stays busy")
+    public void testAcquireTimesOutWhenAllDevicesBusy() throws Exception {
+        DeviceRegistry registry = newRegistry(1, Duration.ofMillis(200));
+        registry.acquireForCurrentThread();
+
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            Future<Device> result = other.submit(registry::acquireForCurrentThread);
+            try {
+                result.get();
+                Assert.fail("Second thread should not get the only device");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            other.shutdownNow();
+            registry.releaseCurrentThread();
+        }
+    }
+}
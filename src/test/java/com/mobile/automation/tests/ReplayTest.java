@@ -0,0 +1,122 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import com.mobile.automation.replay.RecordedExchange;
+import com.mobile.automation.replay.Recording;
+import com.mobile.automation.replay.RecordingProxy;
+import com.mobile.automation.replay.ReplayServer;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ⏯️ Replay Test - Checks recording through the proxy and replaying without Appium
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Records a session against FakeWebDriverServer through RecordingProxy
+ * - Replays it with the fake server gone and checks the driver sees the same answers
+ * - Checks answers are served in recorded order, the last one repeats,
+ *   unknown requests fail and recorded latency can be simulated
+ * - Checks extra polls for one locator do not shift the answers of the next
+ */
+public class ReplayTest {
+
+    @Test(description = "A recorded session replays with the same answers and no Appium server")
+    public void testRecordThenReplay() throws Exception {
+        Path file = Files.createTempDirectory("replay").resolve("run.jsonl");
+        try (FakeWebDriverServer appium = new FakeWebDriverServer().start();
+             Recording.Writer writer = new Recording.Writer(file);
+             RecordingProxy proxy = new RecordingProxy(appium.url(), writer).start()) {
+            runSession(new AppiumSessionFactory(proxy.url(), AppiumSessionFactory.defaultCapabilities(), null));
+            Assert.assertEquals(appium.sessionsCreated(), 1);
+        }
+
+        List<RecordedExchange> recording = Recording.load(file);
+        Assert.assertEquals(recording.get(0).getMethod(), "POST");
+        Assert.assertEquals(recording.get(0).getPath(), "/wd/hub/session");
+
+        try (ReplayServer replay = new ReplayServer(recording, 0, 0).start()) {
+            runSession(new AppiumSessionFactory(replay.url("/wd/hub"), AppiumSessionFactory.defaultCapabilities(), null));
+            Assert.assertEquals(replay.misses(), 0);
+            Assert.assertEquals(replay.served(), recording.size());
+        }
+    }
+
+    @Test(description = "Answers come in recorded order, the last repeats, unknown requests fail, latency is simulated")
+    public void testReplayOrderMissesAndLatency() throws Exception {
+        List<RecordedExchange> recording = Arrays.asList(
+            new RecordedExchange("POST", "/wd/hub/session/s1/elements", "{}", 200, "application/json", "{\"value\":[]}", 0),
+            new RecordedExchange("POST", "/wd/hub/session/s1/elements", "{}", 200, "application/json",
+                "{\"value\":[{\"element-6066-11e4-a52e-4f735466cecf\":\"e1\"}]}", 0),
+            new RecordedExchange("GET", "/wd/hub/session/s1/source", "", 200, "application/json", "{\"value\":\"<hierarchy/>\"}", 200_000));
+        HttpClient client = HttpClient.newHttpClient();
+        try (ReplayServer replay = new ReplayServer(recording, 0, 1.0).start()) {
+            String base = replay.url("/wd/hub/session/s1").toString();
+            Assert.assertEquals(post(client, base + "/elements"), "{\"value\":[]}");
+            Assert.assertTrue(post(client, base + "/elements").contains("e1"));
+            Assert.assertTrue(post(client, base + "/elements").contains("e1"), "last answer repeats");
+
+            long start = System.nanoTime();
+            HttpResponse<String> source = client.send(HttpRequest.newBuilder(URI.create(base + "/source")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            Assert.assertEquals(source.body(), "{\"value\":\"<hierarchy/>\"}");
+            Assert.assertTrue(millis >= 190, "recorded 200ms latency was not simulated: " + millis + "ms");
+
+            HttpResponse<String> unknown = client.send(HttpRequest.newBuilder(URI.create(base + "/window")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            Assert.assertEquals(unknown.statusCode(), 404);
+            Assert.assertTrue(unknown.body().contains("unknown command"), unknown.body());
+            Assert.assertEquals(replay.misses(), 1);
+        }
+    }
+
+    @Test(description = "Polling a locator more often than recorded leaves the next locator's answers alone")
+    public void testExtraPollsKeepLocatorsApart() throws Exception {
+        String next = "{\"using\":\"accessibility id\",\"value\":\"Next\"}";
+        String email = "{\"using\":\"accessibility id\",\"value\":\"Email\"}";
+        List<RecordedExchange> recording = Arrays.asList(
+            new RecordedExchange("POST", "/wd/hub/session/s1/elements", next, 200, "application/json", "{\"value\":[]}", 0),
+            new RecordedExchange("POST", "/wd/hub/session/s1/elements", next, 200, "application/json",
+                "{\"value\":[{\"element-6066-11e4-a52e-4f735466cecf\":\"e1\"}]}", 0),
+            new RecordedExchange("POST", "/wd/hub/session/s1/elements", email, 200, "application/json",
+                "{\"value\":[{\"element-6066-11e4-a52e-4f735466cecf\":\"e2\"}]}", 0));
+        HttpClient client = HttpClient.newHttpClient();
+        try (ReplayServer replay = new ReplayServer(recording, 0, 0).start()) {
+            String elements = replay.url("/wd/hub/session/s1/elements").toString();
+            Assert.assertEquals(post(client, elements, next), "{\"value\":[]}");
+            Assert.assertTrue(post(client, elements, next).contains("e1"));
+            Assert.assertTrue(post(client, elements, next).contains("e1"), "a poll more than recorded repeats");
+            Assert.assertTrue(post(client, elements, email).contains("e2"));
+            Assert.assertEquals(replay.misses(), 0);
+        }
+    }
+
+    private static void runSession(AppiumSessionFactory factory) {
+        AppiumDriver driver = factory.create();
+        Assert.assertEquals(driver.getWindowHandle(), "NATIVE_APP");
+        Assert.assertEquals(driver.getWindowHandle(), "NATIVE_APP");
+        Assert.expectThrows(WebDriverException.class, driver::getPageSource);
+        factory.destroy(driver);
+    }
+
+    private static String post(HttpClient client, String url) throws Exception {
+        return post(client, url, "{}");
+    }
+
+    private static String post(HttpClient client, String url, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+            HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,111 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.ResetEngine;
+import com.mobile.automation.device.ResetReport;
+import com.mobile.automation.device.ShellResult;
+import com.mobile.automation.fakes.ScriptedAdbExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 🔄 Reset Engine Test - Checks the polling reset engine against a scripted fake adb
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies the engine returns as soon as the device reports the expected state
+ * - Verifies it gives up at the deadline and reports which step was not ready
+ * - Verifies permissions are granted again only where they were revoked
+ */
+public class ResetEngineTest {
+
+    private static final String APP = "com.raising.prodigy";
+
+    private static final String PERMISSIONS_GRANTED = String.join("\n",
+        "    runtime permissions:",
+        "      android.permission.POST_NOTIFICATIONS: granted=true, flags=[ USER_SET ]",
+        "      android.permission.CAMERA: granted=false, flags=[ ]",
+        "    disabledComponents:");
+
+    private static final String PERMISSIONS_RESET = String.join("\n",
+        "    runtime permissions:",
+        "      android.permission.POST_NOTIFICATIONS: granted=false, flags=[ ]",
+        "      android.permission.ACCESS_NETWORK_STATE: granted=true, flags=[ SYSTEM_FIXED ]",
+        "    disabledComponents:");
+
+    private ScriptedAdbExecutor healthyDevice() {
+        return new ScriptedAdbExecutor()
+            .on("pm clear", "Success")
+            .on("run-as", "shared_prefs:\n\nfiles:\n");
+    }
+
+    @Test(description = "Each phase finishes as soon as the device reaches the expected state")
+    public void testReturnsAsSoonAsDeviceIsReady() {
+        ScriptedAdbExecutor adb = healthyDevice()
+            .on("pidof", "4242", "4242", "")
+            .on("dumpsys package", PERMISSIONS_GRANTED, PERMISSIONS_RESET);
+
+        ResetReport report = new ResetEngine(adb, APP, Duration.ofSeconds(10)).reset();
+
+        Assert.assertTrue(report.isComplete(), report.toString());
+        Assert.assertEquals(report.getPhase(ResetEngine.FORCE_STOP).getPolls(), 3);
+        Assert.assertEquals(report.getPhase(ResetEngine.CLEAR_DATA).getPolls(), 1);
+        Assert.assertEquals(report.getPhase(ResetEngine.RESET_PERMISSIONS).getPolls(), 2);
+        // 50ms + 100ms + 50ms of back-off - nowhere near the old 12 seconds of sleeps
+        Assert.assertTrue(report.getTotalDuration().toMillis() < 2000, report.toString());
+        Assert.assertEquals(adb.getCommands().subList(0, 1), Arrays.asList("am force-stop " + APP));
+    }
+
+    @Test(description = "A phase that never becomes ready stops at the deadline")
+    public void testGivesUpAtDeadline() {
+        ScriptedAdbExecutor adb = healthyDevice().on("pidof", "4242");
+
+        ResetReport report = new ResetEngine(adb, APP, Duration.ofMillis(400)).reset();
+
+        Assert.assertFalse(report.isComplete());
+        Assert.assertFalse(report.getPhase(ResetEngine.FORCE_STOP).isReady());
+        long forceStopMillis = report.getPhase(ResetEngine.FORCE_STOP).getDuration().toMillis();
+        Assert.assertTrue(forceStopMillis >= 400 && forceStopMillis < 1500, "force-stop took " + forceStopMillis + "ms");
+        Assert.assertTrue(report.getPhase(ResetEngine.CLEAR_DATA).isReady());
+    }
+
+    @Test(description = "A failed pm command is reported without polling")
+    public void testFailedCommandIsNotPolled() {
+        ScriptedAdbExecutor adb = healthyDevice()
+            .on("pm clear", Arrays.asList(new ShellResult(0, "Failed")));
+
+        ResetReport report = new ResetEngine(adb, APP, Duration.ofSeconds(10)).reset();
+
+        Assert.assertFalse(report.getPhase(ResetEngine.CLEAR_DATA).isReady());
+        Assert.assertEquals(report.getPhase(ResetEngine.CLEAR_DATA).getPolls(), 0);
+        Assert.assertEquals(adb.count("run-as"), 0);
+    }
+
+    @Test(description = "Leftover files in the data folders keep clear-data waiting")
+    public void testWaitsForDataFoldersToEmpty() {
+        ScriptedAdbExecutor adb = healthyDevice()
+            .on("run-as", "shared_prefs:\nFlutterSharedPreferences.xml\n", "shared_prefs:\n");
+
+        ResetReport report = new ResetEngine(adb, APP, Duration.ofSeconds(10)).reset();
+
+        Assert.assertTrue(report.getPhase(ResetEngine.CLEAR_DATA).isReady());
+        Assert.assertEquals(report.getPhase(ResetEngine.CLEAR_DATA).getPolls(), 2);
+    }
+
+    @Test(description = "Granting sends pm grant only for revoked permissions the shell may change")
+    public void testGrantsOnlyRevokedPermissions() {
+        ScriptedAdbExecutor adb = new ScriptedAdbExecutor()
+            .on("dumpsys package", String.join("\n",
+                "    runtime permissions:",
+                "      android.permission.POST_NOTIFICATIONS: granted=false, flags=[ ]",
+                "      android.permission.CAMERA: granted=true, flags=[ USER_SET ]",
+                "      android.permission.READ_PHONE_STATE: granted=false, flags=[ POLICY_FIXED ]",
+                "    disabledComponents:"));
+
+        Assert.assertEquals(new ResetEngine(adb, APP, Duration.ofSeconds(10)).grantRuntimePermissions(),
+            Arrays.asList("android.permission.POST_NOTIFICATIONS"));
+        Assert.assertEquals(adb.count("pm grant"), 1);
+        Assert.assertTrue(adb.getCommands().contains("pm grant " + APP + " android.permission.POST_NOTIFICATIONS"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.device.AppState;
+import com.mobile.automation.device.ResetMetrics;
+import com.mobile.automation.device.ResetPolicy;
+import com.mobile.automation.device.ResetPolicy.Transition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * 🧮 Reset Policy Test - Checks the cheapest transition between app states
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies no reset is planned when the known state already matches
+ * - Verifies logged-in tests restore a checkpoint instead of logging in again
+ * - Verifies the time-saved estimate uses the measured averages
+ */
+public class ResetPolicyTest {
+
+    @Test(description = "Matching states need no reset, others take the cheapest transition")
+    public void testPlansCheapestTransition() {
+        Assert.assertEquals(ResetPolicy.plan(AppState.ONBOARDING, AppState.ONBOARDING, true), Transition.NONE);
+        Assert.assertEquals(ResetPolicy.plan(AppState.ONBOARDING, AppState.LOGGED_OUT, true), Transition.NONE);
+        Assert.assertEquals(ResetPolicy.plan(AppState.LOGGED_IN_HOME, AppState.LOGGED_IN_HOME, true), Transition.NONE);
+
+        Assert.assertEquals(ResetPolicy.plan(AppState.UNKNOWN, AppState.ONBOARDING, true), Transition.RESET);
+        Assert.assertEquals(ResetPolicy.plan(AppState.LOGGED_IN_HOME, AppState.LOGGED_OUT, true), Transition.RESET);
+        Assert.assertEquals(ResetPolicy.plan(AppState.LOGGED_OUT, AppState.ONBOARDING, true), Transition.RESET);
+
+        Assert.assertEquals(ResetPolicy.plan(AppState.UNKNOWN, AppState.LOGGED_IN_HOME, true), Transition.RESTORE_CHECKPOINT);
+        Assert.assertEquals(ResetPolicy.plan(AppState.ONBOARDING, AppState.LOGGED_IN_HOME, false), Transition.RESET_AND_LOGIN);
+    }
+
+    @Test(description = "Time saved is estimated from measured resets, logins and restores")
+    public void testTimeSavedUsesMeasuredAverages() {
+        ResetMetrics metrics = new ResetMetrics();
+        metrics.recordResetAvoided();
+        metrics.recordRestore(Duration.ofSeconds(1));
+        Assert.assertEquals(metrics.getTimeSaved(), Duration.ZERO, "nothing measured to compare with yet");
+
+        metrics.recordReset(Duration.ofSeconds(2));
+        metrics.recordReset(Duration.ofSeconds(4));
+        metrics.recordLogin(Duration.ofSeconds(31));
+
+        // 1 avoided reset * 3s average + 1 restore * (31s login - 1s restore)
+        Assert.assertEquals(metrics.getTimeSaved(), Duration.ofSeconds(33));
+        Assert.assertTrue(metrics.summary().contains("1 avoided"), metrics.summary());
+    }
+}
@@ -0,0 +1,120 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.utils.ReportFormat;
+import com.mobile.automation.utils.ReportWriter;
+import com.mobile.automation.utils.ResultStore;
+import com.mobile.automation.utils.TestResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 🗄️ Result Store Test - Checks the streaming report store under parallel load
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Adds tens of thousands of results from several threads through a small queue
+ * - Verifies every result reaches the file exactly once, with correct counts
+ * - Verifies CSV quoting of quotes and commas in messages
+ * - Verifies JSON Lines output and rolling to a new file by size
+ */
+public class ResultStoreTest {
+
+    private static final int THREADS = 8;
+    private static final int RESULTS_PER_THREAD = 5_000;
+
+    @Test(description = "Parallel adds through a bounded queue are all written, counted once")
+    public void testParallelAddsAreAllWritten() throws Exception {
+        Path file = Files.createTempFile("result-store", ".csv");
+        ResultStore store = new ResultStore(file, 256);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                    String status = i % 10 == 0 ? "FAILED" : "PASSED";
+                    store.add(new TestResult("test-" + worker + "-" + i, status, "expected", "actual", null,
+                        1_000, 1_250, "worker-" + worker));
+                }
+            }));
+        }
+        for (Future<?> workerDone : workers) {
+            workerDone.get();
+        }
+        pool.shutdown();
+        store.close();
+
+        int total = THREADS * RESULTS_PER_THREAD;
+        Assert.assertEquals(store.getTotal(), total);
+        Assert.assertEquals(store.getFailed(), total / 10);
+        Assert.assertEquals(store.getWritten(), total);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        long rows = lines.stream().filter(line -> line.startsWith("\"test-")).count();
+        long distinct = lines.stream().filter(line -> line.startsWith("\"test-")).distinct().count();
+        Assert.assertEquals(rows, total);
+        Assert.assertEquals(distinct, total);
+        Assert.assertTrue(lines.contains("\"Total Tests\",\"" + total + "\",\"\",\"\",\"\",\"\""));
+        Files.delete(file);
+    }
+
+    @Test(description = "Quotes and commas in messages are escaped; adding after close fails loudly")
+    public void testRowsAreEscapedAndStoreCloses() throws Exception {
+        Path file = Files.createTempFile("result-store", ".csv");
+        ResultStore store = new ResultStore(file, 4);
+        store.add(new TestResult("Login", "FAILED", "home", "error", "Expected \"Home\", got \"Login\"",
+            1_000, 3_500, "main"));
+        store.close();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertTrue(lines.get(1).startsWith(
+            "\"Login\",\"FAILED\",\"home\",\"error\",\"Expected \"\"Home\"\", got \"\"Login\"\"\","), lines.get(1));
+        // ⏱️ Not timed by StepTimer and no crash - the timing and crash cells stay empty
+        Assert.assertTrue(lines.get(1).endsWith(",\"2500\",\"main\",\"\",\"\",\"\",\"\",\"\",\"\",\"\""), lines.get(1));
+        Assert.expectThrows(IllegalStateException.class,
+            () -> store.add(new TestResult("Late", "PASSED", "", "", null, 0, 0, "main")));
+        Files.delete(file);
+    }
+
+    @Test(description = "JSON Lines are escaped, files roll by size and each CSV part has a header")
+    public void testJsonLinesAndRolling() throws Exception {
+        Path dir = Files.createTempDirectory("report-writer");
+        ReportWriter csv = new ReportWriter(dir.resolve("report.csv"), ReportFormat.CSV, 4_096, 100, Duration.ZERO);
+        ReportWriter jsonl = new ReportWriter(dir.resolve("report.jsonl"), ReportFormat.JSONL, 0, 0, Duration.ZERO);
+        ResultStore store = new ResultStore(Arrays.asList(csv, jsonl), 16);
+        for (int i = 0; i < 200; i++) {
+            store.add(new TestResult("test-" + i, "PASSED", "a \\ b", "line1\nline2", null, 0, 5, "main"));
+        }
+        store.close();
+
+        Assert.assertTrue(csv.getFiles().size() > 1, "expected the CSV to roll: " + csv.getFiles());
+        Assert.assertEquals(csv.getFiles().get(1).getFileName().toString(), "report.2.csv");
+        long csvRows = 0;
+        for (Path part : csv.getFiles()) {
+            List<String> lines = Files.readAllLines(part, StandardCharsets.UTF_8);
+            Assert.assertTrue(lines.get(0).startsWith("Test Name,"), part + " has no header");
+            Assert.assertTrue(Files.size(part) <= 4_096 || part.equals(csv.getCurrentFile()), part + " is too big");
+            csvRows += lines.stream().filter(line -> line.startsWith("\"test-")).count();
+        }
+        Assert.assertEquals(csvRows, 200);
+        Assert.assertTrue(csv.getFsyncs() >= csv.getFiles().size(), "every part is forced to disk when closed");
+
+        List<String> json = Files.readAllLines(dir.resolve("report.jsonl"), StandardCharsets.UTF_8);
+        Assert.assertEquals(json.size(), 201);
+        Assert.assertEquals(json.get(0), "{\"testName\":\"test-0\",\"status\":\"PASSED\",\"expected\":\"a \\\\ b\","
+            + "\"actual\":\"line1\\nline2\",\"errorMessage\":null,\"timestamp\":" + json.get(0).split("\"timestamp\":")[1].split(",")[0]
+            + ",\"startedAt\":0,\"finishedAt\":5,\"durationMillis\":5,\"thread\":\"main\",\"timing\":null,\"crash\":null}");
+        Assert.assertEquals(json.get(200), "{\"summary\":{\"total\":200,\"passed\":200,\"failed\":0}}");
+    }
+}
@@ -0,0 +1,115 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.PooledSession;
+import com.mobile.automation.driver.SessionPool;
+import com.mobile.automation.driver.SessionPoolSettings;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * ♻️ Session Pool Test - Checks the session pool against a fake Appium server
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Starts FakeWebDriverServer on a free local port (no emulator needed)
+ * - Verifies warm-up, reuse, validation, max-age and idle eviction
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - These tests run in a second or two, so run them after changing SessionPool
+ */
+public class SessionPoolTest {
+
+    private FakeWebDriverServer server;
+    private AppiumSessionFactory factory;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new FakeWebDriverServer().start();
+        factory = new AppiumSessionFactory(server.url(), AppiumSessionFactory.defaultCapabilities());
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.close();
+    }
+
+    private SessionPool newPool(int size, Duration idleTimeout, Duration maxAge) {
+        return new SessionPool(factory, new SessionPoolSettings(size, idleTimeout, maxAge, Duration.ofSeconds(5), true));
+    }
+
+    @Test(description = "warmUp() creates sessions before any test asks for one")
+    public void testWarmUpPreCreatesSessions() {
+        try (SessionPool pool = newPool(2, Duration.ofMinutes(5), Duration.ofMinutes(30))) {
+            int before = server.sessionsCreated();
+            pool.warmUp();
+
+            Assert.assertEquals(server.sessionsCreated() - before, 2);
+            Assert.assertEquals(pool.idleCount(), 2);
+        }
+    }
+
+    @Test(description = "A released session is handed out again instead of creating a new one")
+    public void testReleasedSessionIsReused() {
+        try (SessionPool pool = newPool(1, Duration.ofMinutes(5), Duration.ofMinutes(30))) {
+            PooledSession first = pool.checkout();
+            pool.release(first);
+            int created = server.sessionsCreated();
+
+            PooledSession second = pool.checkout();
+
+            Assert.assertSame(second.getDriver(), first.getDriver());
+            Assert.assertTrue(second.isReused());
+            Assert.assertEquals(server.sessionsCreated(), created, "No new session should be created");
+            pool.release(second);
+        }
+    }
+
+    @Test(description = "A session the server dropped is replaced on checkout")
+    public void testDeadSessionIsReplacedOnCheckout() {
+        try (SessionPool pool = newPool(1, Duration.ofMinutes(5), Duration.ofMinutes(30))) {
+            PooledSession first = pool.checkout();
+            pool.release(first);
+            server.killSession(first.getDriver().getSessionId().toString());
+
+            PooledSession second = pool.checkout();
+
+            Assert.assertNotSame(second.getDriver(), first.getDriver());
+            Assert.assertEquals(pool.size(), 1);
+            pool.release(second);
+        }
+    }
+
+    @Test(description = "Sessions older than maxAge are not reused")
+    public void testOldSessionIsReplaced() throws Exception {
+        try (SessionPool pool = newPool(1, Duration.ofMinutes(5), Duration.ofMillis(200))) {
+            PooledSession first = pool.checkout();
+            pool.release(first);
+            Thread.sleep(300);
+
+            PooledSession second = pool.checkout();
+
+            Assert.assertNotSame(second.getDriver(), first.getDriver());
+            pool.release(second);
+        }
+    }
+
+    @Test(description = "Idle sessions are quit by the evictor")
+    public void testIdleSessionsAreEvicted() throws Exception {
+        try (SessionPool pool = newPool(1, Duration.ofMillis(200), Duration.ofMinutes(30))) {
+            pool.release(pool.checkout());
+            int deleted = server.sessionsDeleted();
+            Thread.sleep(300);
+
+            pool.evictIdle();
+
+            Assert.assertEquals(pool.idleCount(), 0);
+            Assert.assertEquals(pool.size(), 0);
+            Assert.assertEquals(server.sessionsDeleted() - deleted, 1);
+        }
+    }
+}
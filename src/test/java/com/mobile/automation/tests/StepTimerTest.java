@@ -0,0 +1,107 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.ui.LocatorEngine;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingBreakdown;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ⏱️ Step Timer Test - Checks per-step timings and the critical-path breakdown
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Drives a TestTimeline with a fake clock, so every number is exact
+ * - Verifies nested steps are not counted twice and the parts add up to the total
+ * - Verifies the WaitEngine and LocatorEngine record their steps on the
+ *   running test's timeline, and that nothing is recorded when none is running
+ */
+public class StepTimerTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test(description = "Own time per category adds up to the total; the critical path follows the slowest step")
+    public void testBreakdownOfNestedSteps() {
+        AtomicLong clock = new AtomicLong();
+        TestTimeline timeline = new TestTimeline(clock::get);
+
+        clock.set(10 * MS);
+        TestTimeline.Span flow = timeline.begin(TimingCategory.OTHER, "flow 1/2 sign in");
+        clock.set(20 * MS);
+        TestTimeline.Span wait = timeline.begin(TimingCategory.WAIT, "clickable Next");
+        clock.set(30 * MS);
+        TestTimeline.Span find = timeline.begin(TimingCategory.APPIUM, "findElements Next");
+        clock.set(40 * MS);
+        find.close();
+        clock.set(60 * MS);
+        timeline.begin(TimingCategory.APPIUM, "findElements Next again").close();
+        clock.set(100 * MS);
+        wait.close();
+        clock.set(110 * MS);
+        flow.close();
+        clock.set(120 * MS);
+        TestTimeline.Span adb = timeline.begin(TimingCategory.ADB, "shell pm clear");
+        clock.set(150 * MS);
+        adb.close();
+        clock.set(200 * MS);
+
+        TimingBreakdown breakdown = timeline.breakdown();
+        Assert.assertEquals(breakdown.getTotal(), Duration.ofMillis(200));
+        Assert.assertEquals(breakdown.get(TimingCategory.APPIUM), Duration.ofMillis(10), "the second find took no time");
+        Assert.assertEquals(breakdown.get(TimingCategory.WAIT), Duration.ofMillis(70));
+        Assert.assertEquals(breakdown.get(TimingCategory.ADB), Duration.ofMillis(30));
+        Assert.assertEquals(breakdown.get(TimingCategory.SLEEP), Duration.ZERO);
+        // 20ms of flow bookkeeping + 70ms outside any step
+        Assert.assertEquals(breakdown.get(TimingCategory.OTHER), Duration.ofMillis(90));
+        Assert.assertEquals(breakdown.getCriticalPath(), Arrays.asList(
+            "other flow 1/2 sign in 100ms", "wait clickable Next 80ms", "appium findElements Next 10ms"));
+        Assert.assertTrue(breakdown.toString().startsWith("total 200ms: appium 10ms (5%), adb 30ms (15%), wait 70ms (35%)"),
+            breakdown.toString());
+    }
+
+    @Test(description = "Waits and lookups land on the running test's timeline; nothing is recorded without one")
+    public void testWaitEngineRecordsOnCurrentTest() {
+        WaitEngine engine = new WaitEngine(new WaitSettings(Duration.ofSeconds(5), Duration.ofMillis(500),
+            Duration.ofMillis(20), Duration.ofMillis(20), false, false, Duration.ofSeconds(2)), new LocatorEngine(true));
+        By next = By.xpath("//android.widget.Button[@content-desc=\"Next\"]");
+        AtomicInteger calls = new AtomicInteger();
+        WebElement element = FakeDriver.element().build();
+        SearchContext context = FakeDriver.context()
+            .on("findElements", (method, args) -> calls.incrementAndGet() < 3
+                ? Collections.emptyList() : Collections.singletonList(element))
+            .build();
+
+        StepTimer.clear();
+        Assert.assertNull(StepTimer.takeBreakdown(), "no test is being timed");
+        try {
+            StepTimer.startTest();
+            engine.waitForPresent(context, next);
+            TimingBreakdown breakdown = StepTimer.takeBreakdown();
+
+            Assert.assertNotNull(breakdown);
+            Assert.assertTrue(breakdown.get(TimingCategory.WAIT).toMillis() >= 30, breakdown.toString());
+            Assert.assertEquals(breakdown.getCriticalPath().size(), 2, breakdown.toString());
+            Assert.assertTrue(breakdown.getCriticalPath().get(0).startsWith("wait " + next), breakdown.toString());
+            Assert.assertTrue(breakdown.getCriticalPath().get(1).startsWith("appium findElements AppiumBy.androidUIAutomator"),
+                breakdown.toString());
+
+            // 🔁 The next result is timed from here
+            Assert.assertTrue(StepTimer.takeBreakdown().getCriticalPath().isEmpty());
+        } finally {
+            StepTimer.clear();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.ui.ScreenProbe;
+import com.mobile.automation.ui.TransitionDetector;
+import com.mobile.automation.ui.WaitSettings;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * 🎞️ Transition Detector Test - Checks "screen changed" and "screen idle" detection
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Drives the TransitionDetector with a scripted screen: a list of
+ *   fingerprints, each shown for a given time (no driver or emulator needed)
+ * - Verifies a change is seen promptly, idle waits for the quiet period,
+ *   and the timeout messages tell "stuck" from "still busy"
+ */
+public class TransitionDetectorTest {
+
+    private final WaitSettings settings = new WaitSettings(Duration.ofSeconds(5), Duration.ofMillis(500),
+        Duration.ofMillis(10), Duration.ofMillis(100), false, true, Duration.ofMillis(200));
+
+    @Test(description = "A change is detected shortly after it happens")
+    public void testDetectsScreenChange() {
+        TransitionDetector detector = new TransitionDetector(screen(150, "login", "loading"), settings);
+        String before = detector.fingerprint();
+
+        long start = System.nanoTime();
+        String after = detector.waitForChange(before, null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(before, "login");
+        Assert.assertEquals(after, "loading");
+        Assert.assertTrue(elapsedMillis < 400, "Took " + elapsedMillis + "ms");
+    }
+
+    @Test(description = "Idle returns once the screen stopped changing for the quiet period")
+    public void testWaitsForIdle() {
+        // 🎞️ Three frames 50ms apart, then the home screen stays
+        TransitionDetector detector = new TransitionDetector(screen(50, "frame 1", "frame 2", "frame 3", "home"), settings);
+
+        long start = System.nanoTime();
+        String idle = detector.waitForIdle(Duration.ofMillis(100), null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(idle, "home");
+        Assert.assertTrue(elapsedMillis >= 250, "Returned before the screen settled: " + elapsedMillis + "ms");
+        Assert.assertTrue(elapsedMillis < 700, "Took " + elapsedMillis + "ms");
+    }
+
+    @Test(description = "Timeouts say whether the screen was stuck or still busy")
+    public void testTimeoutsTellStuckFromBusy() {
+        TransitionDetector stuck = new TransitionDetector(() -> "login", settings);
+        TimeoutException noChange = Assert.expectThrows(TimeoutException.class,
+            () -> stuck.waitForChange("login", Duration.ofMillis(150)));
+        Assert.assertTrue(noChange.getMessage().contains("looks stuck"), noChange.getMessage());
+
+        TransitionDetector busy = new TransitionDetector(() -> String.valueOf(System.nanoTime()), settings);
+        TimeoutException noIdle = Assert.expectThrows(TimeoutException.class,
+            () -> busy.waitForIdle(Duration.ofMillis(100), Duration.ofMillis(300)));
+        Assert.assertTrue(noIdle.getMessage().contains("still busy"), noIdle.getMessage());
+    }
+
+    // 🧪 Shows each fingerprint for "frameMillis" from the first probe on, then stays on the last one
+    private static ScreenProbe screen(long frameMillis, String... fingerprints) {
+        long[] start = {0};
+        return () -> {
+            if (start[0] == 0) {
+                start[0] = System.nanoTime();
+            }
+            int frame = (int) ((System.nanoTime() - start[0]) / 1_000_000 / frameMillis);
+            return fingerprints[Math.min(frame, fingerprints.length - 1)];
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.driver.AppiumSessionFactory;
+import com.mobile.automation.driver.CommandMetrics;
+import com.mobile.automation.driver.TransportSettings;
+import com.mobile.automation.driver.TunedHttpClientFactory;
+import com.mobile.automation.fakes.FakeWebDriverServer;
+import io.appium.java_client.AppiumDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * 🚄 Transport Test - Checks the tuned JDK transport against a fake Appium server
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Verifies sessions work end to end over TunedHttpClientFactory
+ * - Verifies commands reuse keep-alive connections instead of opening one each
+ * - Verifies large request bodies are gzipped when compression is on, and
+ *   counted in the command metrics at their gzipped size
+ */
+public class TransportTest {
+
+    private static TransportSettings settings(boolean http2, boolean compress) {
+        return new TransportSettings(TransportSettings.JDK, http2, Duration.ofSeconds(5), Duration.ofSeconds(30),
+            Duration.ofSeconds(60), compress, 256);
+    }
+
+    @Test(description = "Commands share keep-alive connections instead of opening one per request")
+    public void testCommandsReuseConnections() throws Exception {
+        try (FakeWebDriverServer server = new FakeWebDriverServer().start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(),
+                AppiumSessionFactory.defaultCapabilities(), null, new TunedHttpClientFactory(settings(false, false)));
+            AppiumDriver driver = factory.create();
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals(driver.getWindowHandle(), "NATIVE_APP");
+            }
+            factory.destroy(driver);
+
+            Assert.assertEquals(server.sessionsDeleted(), 1);
+            Assert.assertTrue(server.connections() <= 2, "22 requests used " + server.connections() + " connections");
+        }
+    }
+
+    @Test(description = "HTTP/2 falls back to HTTP/1.1 and large bodies are sent gzipped")
+    public void testHttp2FallbackAndCompression() throws Exception {
+        try (FakeWebDriverServer server = new FakeWebDriverServer().start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(),
+                AppiumSessionFactory.defaultCapabilities(), null, new TunedHttpClientFactory(settings(true, true)));
+            AppiumDriver driver = factory.create();
+            Assert.assertEquals(driver.getWindowHandle(), "NATIVE_APP");
+            factory.destroy(driver);
+
+            // The capabilities of the new session are the only body above 256 bytes
+            Assert.assertEquals(server.gzippedRequests(), 1);
+            Assert.assertEquals(server.sessionsCreated(), 1);
+        }
+    }
+
+    @Test(description = "Command metrics count a gzipped body at the size that went over the wire")
+    public void testMetricsCountCompressedBytes() throws Exception {
+        long plain = newSessionRequestBytes(false);
+        long gzipped = newSessionRequestBytes(true);
+
+        Assert.assertTrue(gzipped > 0 && gzipped < plain, "gzipped " + gzipped + " bytes, plain " + plain + " bytes");
+    }
+
+    @Test(description = "Unknown transport names are rejected")
+    public void testRejectsUnknownClient() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> new TransportSettings("okhttp", false,
+            Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1), false, 0));
+    }
+
+    private static long newSessionRequestBytes(boolean compress) throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        try (FakeWebDriverServer server = new FakeWebDriverServer().start()) {
+            AppiumSessionFactory factory = new AppiumSessionFactory(server.url(),
+                AppiumSessionFactory.defaultCapabilities(), metrics, new TunedHttpClientFactory(settings(false, compress)));
+            factory.destroy(factory.create());
+        }
+        return metrics.requestBytes("newSession");
+    }
+}
@@ -0,0 +1,174 @@
+package com.mobile.automation.tests;
+
+import com.mobile.automation.fakes.FakeDriver;
+import com.mobile.automation.ui.LocatorWaitStats;
+import com.mobile.automation.ui.WaitEngine;
+import com.mobile.automation.ui.WaitSettings;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * ⏱️ Wait Engine Test - Checks polling, learned timeouts and fail-fast
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Drives the WaitEngine with plain conditions (no driver or emulator needed)
+ * - Verifies it finds things quickly, learns tighter timeouts and gives up
+ *   early once the screen has settled, but only for locators it has seen before
+ * - Verifies the no-wait presence check and the "absent within" wait
+ */
+public class WaitEngineTest {
+
+    private WaitEngine newEngine(Duration timeout, Duration minTimeout, Duration settleWindow) {
+        return new WaitEngine(new WaitSettings(timeout, minTimeout, Duration.ofMillis(10), Duration.ofMillis(100),
+            true, true, settleWindow));
+    }
+
+    @Test(description = "A condition that becomes true is found within a few tight polls")
+    public void testFindsQuicklyAndRecordsTime() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(2));
+        long readyAt = System.nanoTime() + Duration.ofMillis(100).toNanos();
+
+        long start = System.nanoTime();
+        Boolean result = engine.until("ready", null, () -> System.nanoTime() >= readyAt, null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(result);
+        Assert.assertTrue(elapsedMillis < 400, "Took " + elapsedMillis + "ms");
+        LocatorWaitStats stats = engine.stats("ready");
+        Assert.assertEquals(stats.getFound(), 1);
+        Assert.assertTrue(stats.getTotalTime().toMillis() >= 100);
+    }
+
+    @Test(description = "A locator that always appears fast gets a shorter learned timeout")
+    public void testLearnedTimeoutShortensWaits() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(5), Duration.ofMillis(300), Duration.ofSeconds(10));
+        for (int i = 0; i < 3; i++) {
+            engine.until("button", null, () -> true, null);
+        }
+
+        long start = System.nanoTime();
+        Assert.expectThrows(TimeoutException.class, () -> engine.until("button", null, () -> false, null));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(elapsedMillis < 1500, "Learned timeout not used, took " + elapsedMillis + "ms");
+        Assert.assertEquals(engine.stats("button").getTimeouts(), 1);
+    }
+
+    @Test(description = "Waiting stops early when the screen stops changing for a locator with a history")
+    public void testSettledScreenFailsFast() {
+        WaitEngine engine = new WaitEngine(new WaitSettings(Duration.ofSeconds(10), Duration.ofSeconds(10),
+            Duration.ofMillis(10), Duration.ofMillis(100), false, true, Duration.ofMillis(200)));
+        for (int i = 0; i < 3; i++) {
+            engine.until("popup", null, () -> true, null);
+        }
+
+        long start = System.nanoTime();
+        Assert.expectThrows(TimeoutException.class,
+            () -> engine.until("popup", null, () -> null, () -> "same screen"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(elapsedMillis < 2000, "Did not fail fast, took " + elapsedMillis + "ms");
+        Assert.assertEquals(engine.stats("popup").getSettled(), 1);
+    }
+
+    @Test(description = "A locator without a history waits its full timeout on a still screen (e.g. a network call)")
+    public void testSettledScreenWithoutHistoryKeepsWaiting() {
+        WaitEngine engine = new WaitEngine(new WaitSettings(Duration.ofMillis(800), Duration.ofMillis(800),
+            Duration.ofMillis(10), Duration.ofMillis(100), false, true, Duration.ofMillis(100)));
+
+        long start = System.nanoTime();
+        Assert.expectThrows(TimeoutException.class,
+            () -> engine.until("home after sign in", null, () -> null, () -> "same screen"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(elapsedMillis >= 800, "Gave up after " + elapsedMillis + "ms");
+        Assert.assertEquals(engine.stats("home after sign in").getSettled(), 0);
+        Assert.assertEquals(engine.stats("home after sign in").getTimeouts(), 1);
+    }
+
+    @Test(description = "A screen that keeps changing is not treated as settled")
+    public void testChangingScreenKeepsWaiting() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(10), Duration.ofMillis(500), Duration.ofMillis(100));
+        AtomicInteger frame = new AtomicInteger();
+        long readyAt = System.nanoTime() + Duration.ofMillis(600).toNanos();
+
+        Boolean result = engine.until("spinner-then-list", null,
+            () -> System.nanoTime() >= readyAt, () -> "frame " + frame.incrementAndGet());
+
+        Assert.assertTrue(result);
+        Assert.assertEquals(engine.stats("spinner-then-list").getSettled(), 0);
+    }
+
+    @Test(description = "waitForVisible(within) waits the whole time, even for a locator that learned a short timeout")
+    public void testWaitForVisibleWithinIgnoresLearnedTimeout() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(5), Duration.ofMillis(100), Duration.ofMillis(100));
+        By home = By.xpath("//home");
+        SearchContext warmStart = screen(new AtomicInteger(), () -> Collections.singletonList(element()));
+        for (int i = 0; i < 3; i++) {
+            engine.waitForVisible(warmStart, home);
+        }
+        long shownAt = System.nanoTime() + Duration.ofMillis(700).toNanos();
+        SearchContext coldStart = screen(new AtomicInteger(),
+            () -> System.nanoTime() >= shownAt ? Collections.singletonList(element()) : Collections.emptyList());
+
+        Assert.expectThrows(TimeoutException.class, () -> engine.waitForVisible(coldStart, home));
+        Assert.assertNotNull(engine.waitForVisible(coldStart, home, Duration.ofSeconds(3)));
+    }
+
+    @Test(description = "isPresentNow() answers with a single lookup, present or not")
+    public void testIsPresentNowDoesNotWait() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(2));
+        AtomicInteger lookups = new AtomicInteger();
+        SearchContext emptyScreen = screen(lookups, () -> Collections.emptyList());
+        SearchContext popupScreen = screen(lookups, () -> Collections.singletonList(element()));
+
+        long start = System.nanoTime();
+        Assert.assertFalse(engine.isPresentNow(emptyScreen, By.xpath("//popup")));
+        Assert.assertTrue(engine.isPresentNow(popupScreen, By.xpath("//popup")));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(lookups.get(), 2);
+        Assert.assertTrue(elapsedMillis < 100, "Took " + elapsedMillis + "ms");
+    }
+
+    @Test(description = "waitForAbsent() passes once the element goes away and fails if it stays")
+    public void testWaitForAbsent() {
+        WaitEngine engine = newEngine(Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(2));
+        long goneAt = System.nanoTime() + Duration.ofMillis(100).toNanos();
+        SearchContext spinnerScreen = screen(new AtomicInteger(),
+            () -> System.nanoTime() < goneAt ? Collections.singletonList(element()) : Collections.emptyList());
+        SearchContext stuckScreen = screen(new AtomicInteger(), () -> Collections.singletonList(element()));
+
+        Assert.assertTrue(engine.waitForAbsent(spinnerScreen, By.xpath("//spinner"), Duration.ofMillis(1000)));
+
+        long start = System.nanoTime();
+        Assert.assertFalse(engine.waitForAbsent(stuckScreen, By.xpath("//spinner"), Duration.ofMillis(200)));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertTrue(elapsedMillis >= 200 && elapsedMillis < 600, "Took " + elapsedMillis + "ms");
+    }
+
+    // 🧪 A screen whose findElements() answers from the given supplier
+    private SearchContext screen(AtomicInteger lookups, Supplier<List<WebElement>> elements) {
+        return FakeDriver.context()
+            .on("findElements", (method, args) -> {
+                lookups.incrementAndGet();
+                return elements.get();
+            })
+            .strict()
+            .build();
+    }
+
+    private WebElement element() {
+        return FakeDriver.element().returning("isDisplayed", true).build();
+    }
+}
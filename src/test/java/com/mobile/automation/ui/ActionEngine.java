@@ -0,0 +1,166 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.device.HealthMonitor;
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * 👆 Action Engine - "Wait until ready, then act" in as few round trips as possible
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - awaitClickable(): one polling loop whose every poll is a single
+ *   findElements that only matches displayed, enabled elements (the server
+ *   does the check, see LocatorCompiler.clickable)
+ * - clickWhenReady() / typeWhenReady(): that wait, then the action on the
+ *   element it found - no second lookup
+ * - clickAndAwait(target, next): click, then wait for the next screen's
+ *   element, which is kept for the action that follows
+ * - Locators the server can't check (not XPath) fall back to the classic
+ *   findElements + isDisplayed + isEnabled checks on the client
+ * - Elements go through the ElementCache; a stale one is found again once
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Page objects use it through BasePage.clickWhenReady(), typeWhenReady()
+ *   and clickAndAwait(); flow steps use it for tap() and type()
+ * - Turn the server-side check off with -Dactions.serverReadyChecks=false
+ *   to compare round trips
+ * - Typing taps the field first so it has focus (Flutter fields only take
+ *   text while focused); -Dactions.focusTapBeforeTyping=false skips the tap
+ *   for apps known not to need it
+ */
+public class ActionEngine {
+
+    private static ActionEngine shared;
+
+    private final WaitEngine waits;
+    private final LocatorEngine locators;
+    private final boolean serverSideChecks;
+    private final boolean focusTap;
+
+    public ActionEngine(WaitEngine waits) {
+        this(waits, LocatorEngine.shared(), FrameworkConfig.serverSideReadyChecks());
+    }
+
+    public ActionEngine(WaitEngine waits, LocatorEngine locators, boolean serverSideChecks) {
+        this(waits, locators, serverSideChecks, FrameworkConfig.focusTapBeforeTyping());
+    }
+
+    public ActionEngine(WaitEngine waits, LocatorEngine locators, boolean serverSideChecks, boolean focusTap) {
+        this.waits = waits;
+        this.locators = locators;
+        this.serverSideChecks = serverSideChecks;
+        this.focusTap = focusTap;
+    }
+
+    /**
+     * 🌍 Shared - The engine every page uses (on top of the shared WaitEngine)
+     */
+    public static synchronized ActionEngine shared() {
+        if (shared == null) {
+            shared = new ActionEngine(WaitEngine.shared());
+        }
+        return shared;
+    }
+
+    public WaitEngine getWaits() {
+        return waits;
+    }
+
+    /**
+     * ⏳ Await Clickable - Wait until the element is displayed and enabled
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - One findElements per poll when the locator can carry the check,
+     *   otherwise the WaitEngine's client-side checks
+     * - Keeps the element in the ElementCache (for a driver)
+     * - Throws TimeoutException if it never becomes clickable
+     */
+    public WebElement awaitClickable(SearchContext context, By locator) {
+        By ready = serverSideChecks ? LocatorCompiler.clickable(locator) : null;
+        WebElement element;
+        if (ready == null) {
+            element = waits.waitForClickable(context, locator);
+        } else {
+            // 🔑 Same key as waitForClickable, so learned timeouts carry over
+            element = waits.until(locator.toString(), null, () -> {
+                HealthMonitor.failIfCrashed(context);
+                return first(locators.findElements(context, ready));
+            }, ScreenProbe.of(context));
+        }
+        if (context instanceof WebDriver) {
+            ElementCache.put((WebDriver) context, locator, element);
+        }
+        return element;
+    }
+
+    // 👆 Wait until clickable, then click that element (checked fresh, never from the cache)
+    public WebElement clickWhenReady(WebDriver driver, By locator) {
+        SnapshotCache.invalidate(driver);
+        ElementCache.evict(driver, locator);
+        return ElementCache.use(driver, locator, () -> awaitClickable(driver, locator), element -> click(element, locator));
+    }
+
+    // ⌨️ Wait until the field is clickable, then focus it and type into it
+    public WebElement typeWhenReady(WebDriver driver, By locator, String text) {
+        SnapshotCache.invalidate(driver);
+        ElementCache.evict(driver, locator);
+        return ElementCache.use(driver, locator, () -> awaitClickable(driver, locator), field -> type(field, locator, text));
+    }
+
+    /**
+     * 👆➡️ Click And Await - Click an element, then wait for the next screen's element
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Clicks the target, reusing it when a wait on this screen already found it
+     * - Forgets the old screen's elements and snapshot (the screen changes)
+     * - Waits until "next" is clickable and returns it (also kept in the ElementCache)
+     */
+    public WebElement clickAndAwait(WebDriver driver, By target, By next) {
+        SnapshotCache.invalidate(driver);
+        ElementCache.use(driver, target, () -> awaitClickable(driver, target), element -> click(element, target));
+        SnapshotCache.invalidate(driver);
+        ElementCache.invalidate(driver);
+        return awaitClickable(driver, next);
+    }
+
+    // 👆 Click a cached element (found with awaitClickable when it is not cached)
+    public WebElement tap(WebDriver driver, By locator) {
+        SnapshotCache.invalidate(driver);
+        return ElementCache.use(driver, locator, () -> awaitClickable(driver, locator), element -> click(element, locator));
+    }
+
+    // ⌨️ Type into a cached field (found with awaitClickable when it is not cached)
+    public WebElement type(WebDriver driver, By locator, String text) {
+        SnapshotCache.invalidate(driver);
+        return ElementCache.use(driver, locator, () -> awaitClickable(driver, locator), field -> type(field, locator, text));
+    }
+
+    private static WebElement click(WebElement element, By locator) {
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "click", locator)) {
+            element.click();
+        }
+        return element;
+    }
+
+    private WebElement type(WebElement field, By locator, String text) {
+        if (focusTap) {
+            click(field, locator);
+        }
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "sendKeys", locator)) {
+            field.sendKeys(text);
+        }
+        return field;
+    }
+
+    private static WebElement first(List<WebElement> elements) {
+        return elements.isEmpty() ? null : elements.get(0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mobile.automation.ui;
+
+import org.openqa.selenium.By;
+
+/**
+ * ⚙️ Compiled Locator - A locator rewritten into the fastest strategy that means the same
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - original: the locator as the page declared it (usually an XPath)
+ * - target: what is actually sent to Appium (accessibility id, UiSelector, ...)
+ * - strategy: a short name for reports, e.g. "accessibility id" or "xpath"
+ * - pattern: the simple "class + attribute = value" form, when the XPath was
+ *   that simple; snapshots use it to answer from an index instead of XPath
+ */
+public class CompiledLocator {
+
+    private final By original;
+    private final By target;
+    private final String strategy;
+    private final Pattern pattern;
+
+    CompiledLocator(By original, By target, String strategy, Pattern pattern) {
+        this.original = original;
+        this.target = target;
+        this.strategy = strategy;
+        this.pattern = pattern;
+    }
+
+    public By getOriginal() {
+        return original;
+    }
+
+    public By getTarget() {
+        return target;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    // 🧩 Null when the XPath is too complex for an index lookup
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    // ✅ True when Appium gets something faster than the original XPath
+    public boolean isTranslated() {
+        return target != original;
+    }
+
+    @Override
+    public String toString() {
+        return original + " -> " + strategy + (isTranslated() ? " " + target : "");
+    }
+
+    /**
+     * 🧩 Pattern - "elements of class C whose attribute A equals / contains V"
+     */
+    public static class Pattern {
+
+        private final String className;
+        private final String attribute;
+        private final String value;
+        private final boolean contains;
+
+        Pattern(String className, String attribute, String value, boolean contains) {
+            this.className = className;
+            this.attribute = attribute;
+            this.value = value;
+            this.contains = contains;
+        }
+
+        // 📦 Null means "any class" (XPath //*)
+        public String getClassName() {
+            return className;
+        }
+
+        // 🏷️ Null means "class only" (XPath //android.widget.Button)
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isContains() {
+            return contains;
+        }
+    }
+}
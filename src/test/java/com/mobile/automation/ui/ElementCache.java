@@ -0,0 +1,138 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.TestLogger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 🧷 Element Cache - Each element is found once per screen, then reused
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Remembers the WebElement found for a locator, per driver, until the screen changes
+ * - resolve(): the cached element (a hit), or finds it once and keeps it (a miss)
+ * - put(): keeps an element a wait has just found, so the click that
+ *   follows does not find it a second time
+ * - use(): runs an action on the element; if the element went stale it is
+ *   found again and the action is retried once, without the caller noticing
+ * - invalidate(): forgets the driver's elements (call it when the app navigates)
+ * - Counts hits, misses and stale re-finds
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't use this directly: BasePage (find, tap, type, waitFor...) and
+ *   flow steps do, and FlowEngine forgets the elements after every step action
+ * - Turn it off with -Delements.cache=false to compare round trips
+ */
+public final class ElementCache {
+
+    // 🧷 One map per driver; drivers that are gone drop out automatically
+    private static final Map<WebDriver, Map<By, WebElement>> ELEMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicInteger HITS = new AtomicInteger();
+    private static final AtomicInteger MISSES = new AtomicInteger();
+    private static final AtomicInteger STALE = new AtomicInteger();
+
+    private ElementCache() {
+        // Only static helpers - no instances needed
+    }
+
+    /**
+     * 🔎 Resolve - The element for a locator on the current screen
+     *
+     * @param finder: How to find the element when it is not cached yet (e.g. a wait)
+     */
+    public static WebElement resolve(WebDriver driver, By locator, Supplier<WebElement> finder) {
+        if (FrameworkConfig.elementCacheEnabled()) {
+            WebElement cached = elements(driver).get(locator);
+            if (cached != null) {
+                HITS.incrementAndGet();
+                return cached;
+            }
+        }
+        MISSES.incrementAndGet();
+        WebElement element = finder.get();
+        put(driver, locator, element);
+        return element;
+    }
+
+    // 📌 Keep an element that was just found (e.g. by a wait) for the rest of this screen
+    public static void put(WebDriver driver, By locator, WebElement element) {
+        if (driver != null && element != null && FrameworkConfig.elementCacheEnabled()) {
+            elements(driver).put(locator, element);
+        }
+    }
+
+    /**
+     * 👆 Use - Run an action on the element, finding it again once if it went stale
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Runs the action on the cached (or newly found) element
+     * - On StaleElementReferenceException: forgets the element, finds it
+     *   with the finder and runs the action again
+     * - A second stale error is passed on to the caller
+     */
+    public static <T> T use(WebDriver driver, By locator, Supplier<WebElement> finder, Function<WebElement, T> action) {
+        WebElement element = resolve(driver, locator, finder);
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            STALE.incrementAndGet();
+            evict(driver, locator);
+            TestLogger.logDebug("🧷 STALE " + locator + " - finding it again");
+            return action.apply(resolve(driver, locator, finder));
+        }
+    }
+
+    // 🧹 Forget one element (e.g. it went stale)
+    public static void evict(WebDriver driver, By locator) {
+        if (driver != null) {
+            Map<By, WebElement> cached = ELEMENTS.get(driver);
+            if (cached != null) {
+                cached.remove(locator);
+            }
+        }
+    }
+
+    // 🧹 The app navigated (or was reset) - forget every element of this driver
+    public static void invalidate(WebDriver driver) {
+        if (driver != null) {
+            ELEMENTS.remove(driver);
+        }
+    }
+
+    // 📊 Lookups answered with a cached element
+    public static int hits() {
+        return HITS.get();
+    }
+
+    // 📊 Lookups that had to find the element on the device
+    public static int misses() {
+        return MISSES.get();
+    }
+
+    // 📊 Cached elements that were stale when used and had to be found again
+    public static int staleRefinds() {
+        return STALE.get();
+    }
+
+    public static String summary() {
+        int hits = HITS.get();
+        int total = hits + MISSES.get();
+        return String.format("🧷 Element cache: %d hits, %d misses (%.0f%% hits), %d stale re-finds",
+            hits, MISSES.get(), total == 0 ? 0.0 : 100.0 * hits / total, STALE.get());
+    }
+
+    private static Map<By, WebElement> elements(WebDriver driver) {
+        return ELEMENTS.computeIfAbsent(driver, d -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,103 @@
+package com.mobile.automation.ui;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗂️ Hierarchy Index - Lookup tables over one page-source snapshot
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Walks the screen's XML once and files every element by class,
+ *   content-desc, resource-id and text
+ * - Answers the simple "class + attribute" patterns from LocatorCompiler with
+ *   a map lookup instead of evaluating an XPath over the whole tree
+ * - Results are in screen (document) order, exactly like the XPath would return
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - PageSnapshot builds this for you the first time it is searched
+ */
+class HierarchyIndex {
+
+    private static final String[] INDEXED_ATTRIBUTES = {"content-desc", "resource-id", "text"};
+
+    private final List<Element> all = new ArrayList<>();
+    private final Map<String, List<Element>> byClass = new HashMap<>();
+    private final Map<String, Map<String, List<Element>>> byAttribute = new HashMap<>();
+
+    HierarchyIndex(Document document) {
+        for (String attribute : INDEXED_ATTRIBUTES) {
+            byAttribute.put(attribute, new HashMap<>());
+        }
+        Element root = document.getDocumentElement();
+        if (root != null) {
+            visit(root);
+        }
+    }
+
+    // 🌳 Depth-first, parent before children = document order
+    private void visit(Element element) {
+        all.add(element);
+        byClass.computeIfAbsent(element.getTagName(), name -> new ArrayList<>()).add(element);
+        for (String attribute : INDEXED_ATTRIBUTES) {
+            if (element.hasAttribute(attribute)) {
+                byAttribute.get(attribute)
+                    .computeIfAbsent(element.getAttribute(attribute), value -> new ArrayList<>())
+                    .add(element);
+            }
+        }
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                visit((Element) child);
+            }
+        }
+    }
+
+    /**
+     * 🔎 Find - Every element matching a compiled pattern, in screen order
+     */
+    List<Element> find(CompiledLocator.Pattern pattern) {
+        String attribute = pattern.getAttribute();
+        if (attribute == null) {
+            return byClass.getOrDefault(pattern.getClassName(), Collections.emptyList());
+        }
+        Map<String, List<Element>> values = byAttribute.get(attribute);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        if (!pattern.isContains()) {
+            // 🎯 EXACT MATCH: One map lookup, then filter by class
+            return ofClass(values.getOrDefault(pattern.getValue(), Collections.emptyList()), pattern.getClassName());
+        }
+        // 🔤 CONTAINS: Scan the candidates (start from the class list when it is smaller)
+        List<Element> candidates = pattern.getClassName() == null
+            ? all
+            : byClass.getOrDefault(pattern.getClassName(), Collections.emptyList());
+        List<Element> matches = new ArrayList<>();
+        for (Element element : candidates) {
+            if (element.hasAttribute(attribute) && element.getAttribute(attribute).contains(pattern.getValue())) {
+                matches.add(element);
+            }
+        }
+        return matches;
+    }
+
+    private static List<Element> ofClass(List<Element> elements, String className) {
+        if (className == null) {
+            return elements;
+        }
+        List<Element> matches = new ArrayList<>();
+        for (Element element : elements) {
+            if (className.equals(element.getTagName())) {
+                matches.add(element);
+            }
+        }
+        return matches;
+    }
+}
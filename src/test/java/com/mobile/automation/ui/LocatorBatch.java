@@ -0,0 +1,114 @@
+package com.mobile.automation.ui;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 📦 Locator Batch - Many locators resolved with a single page-source fetch
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - resolve(): takes one snapshot and looks up every locator in it locally
+ * - Tells you which locators are present or absent, with their attributes
+ * - element(): gives you the real WebElement to click or type into, found
+ *   only when you first ask for it and then reused until the screen changes
+ *   (see ElementCache)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Replaces finding the same element again and again within one step
+ * - A batch belongs to one screen; resolve a new one after the screen changes
+ * - UiAutomator2 has no "find many" command and no JavaScript, so one
+ *   page-source fetch is the single round trip that covers every locator
+ */
+public class LocatorBatch {
+
+    private final WebDriver driver;
+    private final Map<By, PageSnapshot.SnapshotElement> matches;
+
+    private LocatorBatch(WebDriver driver, Map<By, PageSnapshot.SnapshotElement> matches) {
+        this.driver = driver;
+        this.matches = matches;
+    }
+
+    /**
+     * 🔎 Resolve - Look up all locators in the driver's current snapshot
+     */
+    public static LocatorBatch resolve(WebDriver driver, Collection<By> locators) {
+        PageSnapshot snapshot = SnapshotCache.get(driver);
+        Map<By, PageSnapshot.SnapshotElement> matches = new LinkedHashMap<>();
+        for (By locator : locators) {
+            matches.put(locator, PageSnapshot.supports(locator) ? snapshot.find(locator) : null);
+        }
+        return new LocatorBatch(driver, matches);
+    }
+
+    public static LocatorBatch resolve(WebDriver driver, LocatorSet set) {
+        return resolve(driver, set.getLocators());
+    }
+
+    public boolean isPresent(By locator) {
+        return matches.get(locator) != null;
+    }
+
+    // 🏷️ What the snapshot knows about the element (attributes, content-desc, text)
+    public Optional<PageSnapshot.SnapshotElement> get(By locator) {
+        return Optional.ofNullable(matches.get(locator));
+    }
+
+    // 🗺️ Every locator with its match (empty when absent), in the order asked for
+    public Map<By, Optional<PageSnapshot.SnapshotElement>> asMap() {
+        Map<By, Optional<PageSnapshot.SnapshotElement>> map = new LinkedHashMap<>();
+        matches.forEach((locator, match) -> map.put(locator, Optional.ofNullable(match)));
+        return map;
+    }
+
+    // ❓ Locators that were not on screen
+    public List<By> missing() {
+        List<By> missing = new ArrayList<>();
+        matches.forEach((locator, match) -> {
+            if (match == null) {
+                missing.add(locator);
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * 👆 Element - The real element for clicking or typing
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - The first call finds the element on the device (see findOnDevice),
+     *   later calls reuse it from the ElementCache until the screen changes
+     * - Forgets the cached snapshot, because acting on the element will change the screen
+     */
+    public WebElement element(By locator) {
+        SnapshotCache.invalidate(driver);
+        return ElementCache.resolve(driver, locator, () -> findOnDevice(locator));
+    }
+
+    /**
+     * 🔎 Find On Device - Find the element now, without the ElementCache
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - No waiting when the snapshot already said the element is there
+     * - A locator missing from the snapshot is waited for with the WaitEngine
+     */
+    public WebElement findOnDevice(By locator) {
+        if (isPresent(locator)) {
+            List<WebElement> found = LocatorEngine.shared().findElements(driver, locator);
+            if (found.isEmpty()) {
+                throw new NoSuchElementException(locator + " was in the snapshot but is gone now");
+            }
+            return found.get(0);
+        }
+        return WaitEngine.shared().waitForPresent(driver, locator);
+    }
+}
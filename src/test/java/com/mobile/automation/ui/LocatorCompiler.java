@@ -0,0 +1,185 @@
+package com.mobile.automation.ui;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🛠️ Locator Compiler - Turns slow XPath locators into fast Appium strategies
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - UiAutomator2 answers an XPath by dumping the whole screen and scanning it,
+ *   the slowest way to find anything
+ * - The simple XPath shapes our pages use are rewritten:
+ *   - //*[@content-desc="X"]                     -> accessibility id X
+ *   - //Class[@content-desc="X"]                 -> UiSelector className + description
+ *   - //Class[contains(@content-desc, 'X')]      -> UiSelector className + descriptionContains
+ *   - //*[@resource-id="X"]                      -> id X
+ *   - //Class[@text="X"] / contains(@text, 'X')  -> UiSelector text / textContains
+ *   - //Class                                    -> class name
+ * - Anything else (paths, indexes, "and"/"or") stays XPath
+ * - Each locator is compiled once and remembered
+ * - clickable(): the same locator with the "displayed and enabled" check
+ *   built in, so the server answers "is it ready?" in one lookup
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Keep writing the XPath you see in Appium Inspector; this makes it fast
+ * - Turn it off with -Dlocators.compile=false if you suspect it
+ */
+public final class LocatorCompiler {
+
+    private static final String CLASS = "(\\*|[A-Za-z_][\\w.$]*)";
+    private static final String VALUE = "(\"[^\"]*\"|'[^']*')";
+
+    private static final Pattern CLASS_ONLY = Pattern.compile("^//" + CLASS + "$");
+    private static final Pattern EQUALS = Pattern.compile(
+        "^//" + CLASS + "\\[\\s*@(content-desc|resource-id|text)\\s*=\\s*" + VALUE + "\\s*\\]$");
+    private static final Pattern CONTAINS = Pattern.compile(
+        "^//" + CLASS + "\\[\\s*contains\\(\\s*@(content-desc|text)\\s*,\\s*" + VALUE + "\\s*\\)\\s*\\]$");
+
+    private static final Map<String, CompiledLocator> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<By>> CLICKABLE = new ConcurrentHashMap<>();
+
+    private LocatorCompiler() {
+        // Only static helpers - no instances needed
+    }
+
+    /**
+     * ⚙️ Compile - The fastest equivalent of a locator (cached)
+     */
+    public static CompiledLocator compile(By locator) {
+        return CACHE.computeIfAbsent(String.valueOf(locator), key -> translate(locator));
+    }
+
+    private static CompiledLocator translate(By locator) {
+        String text = String.valueOf(locator);
+        if (!text.startsWith("By.xpath: ")) {
+            return new CompiledLocator(locator, locator, strategyOf(text), null);
+        }
+        String xpath = text.substring("By.xpath: ".length()).trim();
+
+        Matcher classOnly = CLASS_ONLY.matcher(xpath);
+        if (classOnly.matches()) {
+            String className = classOrNull(classOnly.group(1));
+            if (className == null) {
+                return xpath(locator, null);
+            }
+            return new CompiledLocator(locator, AppiumBy.className(className), "class name",
+                new CompiledLocator.Pattern(className, null, null, false));
+        }
+
+        Matcher equals = EQUALS.matcher(xpath);
+        if (equals.matches()) {
+            String className = classOrNull(equals.group(1));
+            String attribute = equals.group(2);
+            String value = unquote(equals.group(3));
+            CompiledLocator.Pattern pattern = new CompiledLocator.Pattern(className, attribute, value, false);
+            if (className == null && "content-desc".equals(attribute)) {
+                return new CompiledLocator(locator, AppiumBy.accessibilityId(value), "accessibility id", pattern);
+            }
+            if (className == null && "resource-id".equals(attribute)) {
+                return new CompiledLocator(locator, AppiumBy.id(value), "id", pattern);
+            }
+            return uiSelector(locator, pattern);
+        }
+
+        Matcher contains = CONTAINS.matcher(xpath);
+        if (contains.matches()) {
+            CompiledLocator.Pattern pattern = new CompiledLocator.Pattern(
+                classOrNull(contains.group(1)), contains.group(2), unquote(contains.group(3)), true);
+            return uiSelector(locator, pattern);
+        }
+        return xpath(locator, null);
+    }
+
+    // 🔧 new UiSelector().className("...").description("...") and friends
+    private static CompiledLocator uiSelector(By locator, CompiledLocator.Pattern pattern) {
+        if (!isSafeForUiSelector(pattern.getValue())) {
+            // Newlines, quotes and backslashes don't survive the UiSelector parser - keep XPath
+            return xpath(locator, pattern);
+        }
+        return new CompiledLocator(locator, AppiumBy.androidUIAutomator(selector(pattern)), "uiautomator", pattern);
+    }
+
+    private static String selector(CompiledLocator.Pattern pattern) {
+        StringBuilder selector = new StringBuilder("new UiSelector()");
+        if (pattern.getClassName() != null) {
+            selector.append(".className(\"").append(pattern.getClassName()).append("\")");
+        }
+        if (pattern.getAttribute() == null) {
+            return selector.toString();
+        }
+        String method;
+        switch (pattern.getAttribute()) {
+            case "content-desc":
+                method = pattern.isContains() ? "descriptionContains" : "description";
+                break;
+            case "text":
+                method = pattern.isContains() ? "textContains" : "text";
+                break;
+            default:
+                method = "resourceId";
+                break;
+        }
+        return selector.append('.').append(method).append("(\"").append(pattern.getValue()).append("\")").toString();
+    }
+
+    /**
+     * 👆 Clickable - A locator that only matches displayed, enabled elements (cached)
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Lets the server check "ready" while it looks the element up, so a
+     *   wait needs one findElements per poll instead of findElements +
+     *   isDisplayed + isEnabled
+     * - Simple shapes become a UiSelector with .enabled(true) (UiAutomator
+     *   only sees elements that are on screen)
+     * - Any other XPath gets an [@enabled and @displayed] filter
+     * - Returns null for locators that are not XPath: they keep the strategy
+     *   they were written with, and the caller checks "ready" itself
+     */
+    public static By clickable(By locator) {
+        return CLICKABLE.computeIfAbsent(String.valueOf(locator), key -> Optional.ofNullable(translateClickable(locator)))
+            .orElse(null);
+    }
+
+    private static By translateClickable(By locator) {
+        String text = String.valueOf(locator);
+        if (!text.startsWith("By.xpath: ")) {
+            return null;
+        }
+        CompiledLocator.Pattern pattern = compile(locator).getPattern();
+        if (pattern != null && (pattern.getValue() == null || isSafeForUiSelector(pattern.getValue()))) {
+            return AppiumBy.androidUIAutomator(selector(pattern) + ".enabled(true)");
+        }
+        String xpath = text.substring("By.xpath: ".length()).trim();
+        return By.xpath("(" + xpath + ")[@enabled=\"true\" and @displayed=\"true\"]");
+    }
+
+    private static CompiledLocator xpath(By locator, CompiledLocator.Pattern pattern) {
+        return new CompiledLocator(locator, locator, "xpath", pattern);
+    }
+
+    private static boolean isSafeForUiSelector(String value) {
+        return value.indexOf('"') < 0 && value.indexOf('\\') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+    }
+
+    private static String classOrNull(String className) {
+        return "*".equals(className) ? null : className;
+    }
+
+    private static String unquote(String quoted) {
+        return quoted.substring(1, quoted.length() - 1);
+    }
+
+    private static String strategyOf(String text) {
+        int colon = text.indexOf(": ");
+        String prefix = colon < 0 ? text : text.substring(0, colon);
+        int dot = prefix.lastIndexOf('.');
+        return dot < 0 ? prefix : prefix.substring(dot + 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔎 Locator Engine - Every findElements call goes through here
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Sends Appium the compiled locator (see LocatorCompiler) instead of the
+ *   slow XPath the page declared
+ * - Times every lookup, per locator, and prints a summary at the end of the run
+ * - Records every lookup as an Appium round trip of the running test (StepTimer)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't call this directly: WaitEngine, BasePage and LocatorBatch do
+ * - The summary shows which strategy each locator ended up with and what it costs
+ */
+public class LocatorEngine {
+
+    private static LocatorEngine shared;
+
+    private final boolean compile;
+    private final Map<String, LocatorTimingStats> stats = new ConcurrentHashMap<>();
+
+    public LocatorEngine(boolean compile) {
+        this.compile = compile;
+    }
+
+    /**
+     * 🌍 Shared - The engine every page uses (built from config once)
+     */
+    public static synchronized LocatorEngine shared() {
+        if (shared == null) {
+            shared = new LocatorEngine(FrameworkConfig.compileLocators());
+            LocatorEngine engine = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> TestLogger.logInfo(engine.summary()), "locator-engine-summary"));
+        }
+        return shared;
+    }
+
+    // ⚙️ The locator Appium will actually receive
+    public By resolve(By locator) {
+        return compile ? LocatorCompiler.compile(locator).getTarget() : locator;
+    }
+
+    /**
+     * 🔎 Find Elements - One timed lookup with the compiled locator
+     */
+    public List<WebElement> findElements(SearchContext context, By locator) {
+        CompiledLocator compiled = LocatorCompiler.compile(locator);
+        By target = compile ? compiled.getTarget() : locator;
+        String strategy = compile ? compiled.getStrategy() : "as declared";
+        long start = System.nanoTime();
+        List<WebElement> found = null;
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "findElements", target)) {
+            found = context.findElements(target);
+            return found;
+        } finally {
+            stats(locator.toString(), strategy).record(System.nanoTime() - start, found != null && !found.isEmpty());
+        }
+    }
+
+    // 📊 Timing for one locator (null if it was never looked up)
+    public LocatorTimingStats stats(String key) {
+        return stats.get(key);
+    }
+
+    private LocatorTimingStats stats(String key, String strategy) {
+        return stats.computeIfAbsent(key, k -> new LocatorTimingStats(k, strategy));
+    }
+
+    /**
+     * 📋 Summary - One line per locator, slowest total first
+     */
+    public String summary() {
+        List<LocatorTimingStats> all = new ArrayList<>(stats.values());
+        all.sort((a, b) -> b.getTotalTime().compareTo(a.getTotalTime()));
+        StringBuilder text = new StringBuilder("🔎 Locator summary (" + all.size() + " locators)");
+        for (LocatorTimingStats entry : all) {
+            text.append("\n  ").append(entry);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.mobile.automation.ui;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📋 Locator Set - The elements one screen is made of
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Gives a screen a name and lists the locators a page uses on it
+ * - The first locator is the screen's "anchor": when it is there, the screen is there
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Declare one per screen in your page class, e.g.
+ *   LocatorSet.of("Email", EMAIL_FIELD, SIGN_IN_BUTTON)
+ * - BasePage.awaitScreen(set) then finds all of them in one go
+ */
+public class LocatorSet {
+
+    private final String name;
+    private final List<By> locators;
+
+    private LocatorSet(String name, List<By> locators) {
+        this.name = name;
+        this.locators = locators;
+    }
+
+    public static LocatorSet of(String name, By anchor, By... others) {
+        By[] all = new By[others.length + 1];
+        all[0] = anchor;
+        System.arraycopy(others, 0, all, 1, others.length);
+        return new LocatorSet(name, Collections.unmodifiableList(Arrays.asList(all)));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public By getAnchor() {
+        return locators.get(0);
+    }
+
+    public List<By> getLocators() {
+        return locators;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + locators;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mobile.automation.ui;
+
+import java.time.Duration;
+
+/**
+ * 📊 Locator Timing Stats - What single lookups of one locator cost
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Counts findElements calls and how many found something
+ * - Adds up the round-trip time and remembers the slowest call
+ * - Remembers which strategy the locator was compiled to
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - LocatorEngine.summary() prints one line of these per locator
+ * - A locator still on "xpath" with a high average is worth rewriting
+ */
+public class LocatorTimingStats {
+
+    private final String key;
+    private final String strategy;
+    private int calls;
+    private int found;
+    private long totalNanos;
+    private long maxNanos;
+
+    LocatorTimingStats(String key, String strategy) {
+        this.key = key;
+        this.strategy = strategy;
+    }
+
+    synchronized void record(long elapsedNanos, boolean wasFound) {
+        calls++;
+        if (wasFound) {
+            found++;
+        }
+        totalNanos += elapsedNanos;
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public synchronized int getCalls() {
+        return calls;
+    }
+
+    public synchronized int getFound() {
+        return found;
+    }
+
+    public synchronized Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public synchronized Duration getAverageTime() {
+        return calls == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / calls);
+    }
+
+    public synchronized Duration getMaxTime() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s [%s]: %d calls, %d found, avg %dms, max %dms",
+            key, strategy, calls, found, calls == 0 ? 0 : totalNanos / calls / 1_000_000, maxNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,126 @@
+package com.mobile.automation.ui;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 📊 Locator Wait Stats - What the waits for one locator actually cost
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Counts waits, finds, timeouts and early "screen settled" failures
+ * - Adds up the time spent waiting, and remembers the slowest wait
+ * - Keeps the last appearance times to learn a tighter timeout
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - WaitEngine.summary() prints one line of these per locator
+ * - A locator with a big total is where the suite loses time
+ */
+public class LocatorWaitStats {
+
+    private static final int MAX_SAMPLES = 20;
+
+    private final String key;
+    private final Deque<Long> appearanceNanos = new ArrayDeque<>();
+    private int waits;
+    private int found;
+    private int timeouts;
+    private int settled;
+    private long totalNanos;
+    private long maxNanos;
+
+    LocatorWaitStats(String key) {
+        this.key = key;
+    }
+
+    synchronized void recordFound(long elapsedNanos) {
+        record(elapsedNanos);
+        found++;
+        appearanceNanos.addLast(elapsedNanos);
+        if (appearanceNanos.size() > MAX_SAMPLES) {
+            appearanceNanos.removeFirst();
+        }
+    }
+
+    synchronized void recordMissing(long elapsedNanos, boolean screenSettled, boolean learnedTimeoutUsed) {
+        record(elapsedNanos);
+        if (screenSettled) {
+            settled++;
+        } else {
+            timeouts++;
+        }
+        if (learnedTimeoutUsed && !screenSettled) {
+            // 📉 LEARNED TOO TIGHT: Forget the history so the next wait uses the full timeout
+            appearanceNanos.clear();
+        }
+    }
+
+    private void record(long elapsedNanos) {
+        waits++;
+        totalNanos += elapsedNanos;
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+    }
+
+    /**
+     * 📈 Learned Timeout - A tighter timeout based on how fast this locator usually appears
+     *
+     * @return null until enough waits have been seen
+     */
+    synchronized Duration learnedTimeout(WaitSettings settings) {
+        if (appearanceNanos.size() < WaitSettings.MIN_SAMPLES) {
+            return null;
+        }
+        long learned = slowestAppearanceNanos() * WaitSettings.LEARN_FACTOR;
+        learned = Math.max(learned, settings.getMinTimeout().toNanos());
+        learned = Math.min(learned, settings.getDefaultTimeout().toNanos());
+        return Duration.ofNanos(learned);
+    }
+
+    // 📚 Has this locator been found often enough to know when it shows up?
+    synchronized boolean hasHistory() {
+        return appearanceNanos.size() >= WaitSettings.MIN_SAMPLES;
+    }
+
+    // 🐢 Slowest recent appearance (0 when nothing was found yet)
+    synchronized long slowestAppearanceNanos() {
+        long slowest = 0;
+        for (long sample : appearanceNanos) {
+            slowest = Math.max(slowest, sample);
+        }
+        return slowest;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public synchronized int getWaits() {
+        return waits;
+    }
+
+    public synchronized int getFound() {
+        return found;
+    }
+
+    public synchronized int getTimeouts() {
+        return timeouts;
+    }
+
+    public synchronized int getSettled() {
+        return settled;
+    }
+
+    public synchronized Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public synchronized Duration getMaxTime() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s: %d waits, %d found, %d timeouts, %d settled, total %dms, max %dms",
+            key, waits, found, timeouts, settled, totalNanos / 1_000_000, maxNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,234 @@
+package com.mobile.automation.ui;
+
+import org.openqa.selenium.By;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📸 Page Snapshot - The whole screen, fetched once and searched locally
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Parses one getPageSource() result into an in-memory XML document
+ * - Evaluates locators (XPath, id, accessibility id, class name) on that
+ *   document without talking to the Appium server again
+ * - Returns plain SnapshotElement objects holding the element's attributes
+ * - Simple XPath shapes (see LocatorCompiler) are answered from a
+ *   HierarchyIndex built on first use, without running XPath at all
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - A snapshot is a photo: it does not change when the app does
+ * - Use it for read-only checks on a screen that is not changing
+ * - Get one through BasePage.snapshot(), which knows when to take a new photo
+ */
+public class PageSnapshot {
+
+    private final Document document;
+    private final long capturedAtNanos;
+    private HierarchyIndex index;
+
+    private PageSnapshot(Document document, long capturedAtNanos) {
+        this.document = document;
+        this.capturedAtNanos = capturedAtNanos;
+    }
+
+    /**
+     * 🧩 Parse - Build a snapshot from page-source XML
+     */
+    public static PageSnapshot parse(String pageSource) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setExpandEntityReferences(false);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            Document document = builder.parse(new InputSource(new StringReader(pageSource)));
+            return new PageSnapshot(document, System.nanoTime());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Page source is not valid XML: " + e.getMessage(), e);
+        }
+    }
+
+    // ⏳ How long ago this snapshot was taken
+    public long getAgeMillis() {
+        return (System.nanoTime() - capturedAtNanos) / 1_000_000;
+    }
+
+    // ✅ True if at least one element matches
+    public boolean isPresent(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+
+    // 🔎 First match, or null if nothing matches
+    public SnapshotElement find(By locator) {
+        List<SnapshotElement> all = findAll(locator);
+        return all.isEmpty() ? null : all.get(0);
+    }
+
+    /**
+     * 🔎 Find All - Every element matching the locator, in screen order
+     *
+     * @throws IllegalArgumentException for locators that can't be evaluated
+     *         locally (e.g. UiAutomator selectors); use the driver for those
+     */
+    public List<SnapshotElement> findAll(By locator) {
+        CompiledLocator.Pattern pattern = LocatorCompiler.compile(locator).getPattern();
+        if (pattern != null) {
+            // 🗂️ INDEX LOOKUP: Same result as the XPath, without walking the tree again
+            List<SnapshotElement> elements = new ArrayList<>();
+            for (Element element : index().find(pattern)) {
+                elements.add(new SnapshotElement(element));
+            }
+            return elements;
+        }
+        String expression = toXPath(locator);
+        try {
+            XPath xpath = XPathFactory.newInstance().newXPath();
+            NodeList nodes = (NodeList) xpath.evaluate(expression, document, XPathConstants.NODESET);
+            List<SnapshotElement> elements = new ArrayList<>();
+            for (int i = 0; i < nodes.getLength(); i++) {
+                Node node = nodes.item(i);
+                if (node instanceof Element) {
+                    elements.add(new SnapshotElement((Element) node));
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Can't evaluate " + locator + " on a snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized HierarchyIndex index() {
+        if (index == null) {
+            index = new HierarchyIndex(document);
+        }
+        return index;
+    }
+
+    // ✅ True if the locator can be evaluated on a snapshot
+    public static boolean supports(By locator) {
+        try {
+            toXPath(locator);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 🔁 To XPath - Turn a locator into an XPath over the page source
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - By.xpath is used as it is
+     * - id / accessibility id / class name become the matching attribute or tag
+     */
+    static String toXPath(By locator) {
+        String text = String.valueOf(locator);
+        int colon = text.indexOf(": ");
+        if (colon < 0) {
+            throw new IllegalArgumentException("Unsupported locator for snapshots: " + text);
+        }
+        String strategy = text.substring(0, colon);
+        String value = text.substring(colon + 2);
+        switch (strategy) {
+            case "By.xpath":
+                return value;
+            case "By.id":
+            case "AppiumBy.id":
+                return "//*[@resource-id=" + literal(value) + " or substring-after(@resource-id, ':id/')=" + literal(value) + "]";
+            case "AppiumBy.accessibilityId":
+                return "//*[@content-desc=" + literal(value) + "]";
+            case "By.className":
+            case "AppiumBy.className":
+                return "//*[@class=" + literal(value) + " or local-name()=" + literal(value) + "]";
+            default:
+                throw new IllegalArgumentException("Unsupported locator for snapshots: " + text);
+        }
+    }
+
+    // 🔤 Quote a value for XPath 1.0 (which has no escape characters)
+    public static String literal(String value) {
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        StringBuilder concat = new StringBuilder("concat(");
+        String[] parts = value.split("\"", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                concat.append(", '\"', ");
+            }
+            concat.append('"').append(parts[i]).append('"');
+        }
+        return concat.append(')').toString();
+    }
+
+    /**
+     * 🧱 Snapshot Element - One element of the snapshot (read-only)
+     */
+    public static class SnapshotElement {
+
+        private final Map<String, String> attributes;
+        private final String tagName;
+
+        SnapshotElement(Element element) {
+            this.tagName = element.getTagName();
+            Map<String, String> values = new LinkedHashMap<>();
+            NamedNodeMap nodeAttributes = element.getAttributes();
+            for (int i = 0; i < nodeAttributes.getLength(); i++) {
+                Node attribute = nodeAttributes.item(i);
+                values.put(attribute.getNodeName(), attribute.getNodeValue());
+            }
+            this.attributes = Collections.unmodifiableMap(values);
+        }
+
+        public String getTagName() {
+            return tagName;
+        }
+
+        // 🏷️ Attribute value (null if the element doesn't have it)
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        public String getText() {
+            String text = attributes.get("text");
+            return text == null ? "" : text;
+        }
+
+        public String getContentDesc() {
+            return attributes.get("content-desc");
+        }
+
+        public boolean isDisplayed() {
+            return !"false".equals(attributes.get("displayed"));
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return tagName + attributes;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * 🖼️ Screen Probe - A cheap "fingerprint" of what is on screen right now
+ *
+ * 📚 WHAT THIS INTERFACE DOES:
+ * - Returns a value that changes whenever the screen changes
+ * - The WaitEngine uses it to notice that a screen has settled, so it can stop
+ *   waiting for an element that is clearly not coming
+ */
+public interface ScreenProbe {
+
+    String fingerprint();
+
+    // 📱 Page-source based probe (null when the context is not a driver)
+    static ScreenProbe of(SearchContext context) {
+        if (!(context instanceof WebDriver)) {
+            return null;
+        }
+        WebDriver driver = (WebDriver) context;
+        return () -> {
+            try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "getPageSource (settle probe)")) {
+                String source = driver.getPageSource();
+                return source == null ? "" : source.length() + ":" + source.hashCode();
+            }
+        };
+    }
+}
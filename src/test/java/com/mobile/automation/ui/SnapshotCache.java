@@ -0,0 +1,82 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.FrameworkConfig;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🗃️ Snapshot Cache - Keeps one PageSnapshot per driver until the screen may have changed
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - get(driver): returns the cached snapshot, or fetches getPageSource() once
+ * - invalidate(driver): forgets the snapshot (called on click, typing, scrolling)
+ * - Snapshots also expire after -Dsnapshot.maxAgeMillis, in case the app
+ *   changes the screen by itself (animations, pop-ups)
+ * - Counts captures and hits, so you can see how many round trips were saved
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't use this directly: BasePage.snapshot() and verifyPresent() do
+ */
+public final class SnapshotCache {
+
+    // 🗃️ One snapshot per driver; drivers that are gone drop out automatically
+    private static final Map<WebDriver, PageSnapshot> SNAPSHOTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicInteger CAPTURES = new AtomicInteger();
+    private static final AtomicInteger HITS = new AtomicInteger();
+
+    private SnapshotCache() {
+        // Only static helpers - no instances needed
+    }
+
+    /**
+     * 📸 Get - The current snapshot for this driver (one getPageSource() at most)
+     */
+    public static PageSnapshot get(WebDriver driver) {
+        return get(driver, FrameworkConfig.snapshotMaxAge());
+    }
+
+    public static PageSnapshot get(WebDriver driver, Duration maxAge) {
+        PageSnapshot snapshot = SNAPSHOTS.get(driver);
+        if (snapshot != null && snapshot.getAgeMillis() <= maxAge.toMillis()) {
+            HITS.incrementAndGet();
+            return snapshot;
+        }
+        long start = System.nanoTime();
+        String source;
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.APPIUM, "getPageSource")) {
+            source = driver.getPageSource();
+        }
+        snapshot = PageSnapshot.parse(source);
+        CAPTURES.incrementAndGet();
+        SNAPSHOTS.put(driver, snapshot);
+        TestLogger.logDebug(String.format("📸 SNAPSHOT taken in %dms", (System.nanoTime() - start) / 1_000_000));
+        return snapshot;
+    }
+
+    // 🧹 The screen may have changed - take a new snapshot next time
+    public static void invalidate(WebDriver driver) {
+        if (driver != null) {
+            SNAPSHOTS.remove(driver);
+        }
+    }
+
+    // 📊 How many times getPageSource() was called
+    public static int captures() {
+        return CAPTURES.get();
+    }
+
+    // 📊 How many lookups were answered from a cached snapshot
+    public static int hits() {
+        return HITS.get();
+    }
+}
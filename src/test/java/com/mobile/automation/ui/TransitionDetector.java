@@ -0,0 +1,157 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * 🎞️ Transition Detector - Notices "the screen changed" and "the screen is idle"
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Polls a ScreenProbe (a hash of the UI hierarchy) instead of waiting for
+ *   one particular element
+ * - waitForChange(before): returns as soon as the fingerprint differs from
+ *   the one taken before an action
+ * - waitForIdle(stableFor): returns once the fingerprint has not changed for
+ *   stableFor (animations and loading screens are over)
+ * - The timeout message says which it was: the screen never changed (stuck)
+ *   or it kept changing (still busy)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Page objects use it through BasePage.waitForScreenChange() and waitForIdle()
+ * - Polls back off like the WaitEngine's, but never so far that a short
+ *   stableFor would be missed
+ */
+public class TransitionDetector {
+
+    private final ScreenProbe probe;
+    private final WaitSettings settings;
+
+    public TransitionDetector(ScreenProbe probe, WaitSettings settings) {
+        this.probe = probe;
+        this.settings = settings;
+    }
+
+    // 📱 Detector for a driver's screen, polling like the shared WaitEngine
+    public static TransitionDetector of(WebDriver driver) {
+        return new TransitionDetector(ScreenProbe.of(driver), WaitEngine.shared().getSettings());
+    }
+
+    // 🖼️ The screen's fingerprint right now (take it before the action you want to see land)
+    public String fingerprint() {
+        return probe.fingerprint();
+    }
+
+    /**
+     * ➡️ Wait For Change - Wait until the screen is no longer the "before" screen
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the new fingerprint as soon as it differs from "before"
+     * - Throws TimeoutException if the screen never changed within the timeout
+     *
+     * @param before: fingerprint() taken before the action
+     * @param timeout: Upper limit, or null for the default timeout
+     */
+    public String waitForChange(String before, Duration timeout) {
+        Duration limit = timeout != null ? timeout : settings.getDefaultTimeout();
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.WAIT, "screen change")) {
+            long start = System.nanoTime();
+            long deadline = start + limit.toNanos();
+            long delayMillis = settings.getInitialPoll().toMillis();
+            int probes = 0;
+            while (true) {
+                probes++;
+                String current = read();
+                long now = System.nanoTime();
+                if (current != null && !current.equals(before)) {
+                    TestLogger.logDebug(String.format("🎞️ SCREEN changed after %dms (%d probes)",
+                        (now - start) / 1_000_000, probes));
+                    return current;
+                }
+                if (now >= deadline) {
+                    throw timeout(String.format("Screen did not change within %dms (%d probes) - the app looks stuck",
+                        limit.toMillis(), probes));
+                }
+                sleep(Math.min(delayMillis, (deadline - now + 999_999) / 1_000_000));
+                delayMillis = Math.min(delayMillis * 2, settings.getMaxPoll().toMillis());
+            }
+        }
+    }
+
+    /**
+     * 💤 Wait For Idle - Wait until the screen has stopped changing
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the fingerprint once it stayed the same for stableFor
+     * - Throws TimeoutException if the screen was still changing at the timeout
+     *
+     * @param stableFor: How long the screen must not change
+     * @param timeout: Upper limit, or null for the default timeout
+     */
+    public String waitForIdle(Duration stableFor, Duration timeout) {
+        Duration limit = timeout != null ? timeout : settings.getDefaultTimeout();
+        // ⏱️ At least three probes per stableFor, so a short quiet spell is not overslept
+        long maxDelayMillis = Math.max(1, Math.min(settings.getMaxPoll().toMillis(), stableFor.toMillis() / 3));
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.WAIT, "screen idle")) {
+            long start = System.nanoTime();
+            long deadline = start + limit.toNanos();
+            long delayMillis = Math.min(settings.getInitialPoll().toMillis(), maxDelayMillis);
+            int probes = 0;
+            int changes = 0;
+            String last = null;
+            long stableSince = start;
+            while (true) {
+                probes++;
+                String current = read();
+                long now = System.nanoTime();
+                if (current == null || !current.equals(last)) {
+                    if (last != null) {
+                        changes++;
+                    }
+                    last = current;
+                    stableSince = now;
+                } else if (now - stableSince >= stableFor.toNanos()) {
+                    TestLogger.logDebug(String.format("🎞️ SCREEN idle after %dms (%d probes, %d changes)",
+                        (now - start) / 1_000_000, probes, changes));
+                    return current;
+                }
+                if (now >= deadline) {
+                    throw timeout(String.format("Screen was not idle for %dms within %dms (%d changes in %d probes) - the app is still busy",
+                        stableFor.toMillis(), limit.toMillis(), changes, probes));
+                }
+                long untilStable = stableSince + stableFor.toNanos() - now;
+                long untilDeadline = deadline - now;
+                sleep(Math.min(delayMillis, (Math.min(untilStable, untilDeadline) + 999_999) / 1_000_000));
+                delayMillis = Math.min(delayMillis * 2, maxDelayMillis);
+            }
+        }
+    }
+
+    private String read() {
+        try {
+            return probe.fingerprint();
+        } catch (RuntimeException e) {
+            // Can't read the screen mid-transition - treat it as unknown, still changing
+            return null;
+        }
+    }
+
+    private TimeoutException timeout(String message) {
+        TestLogger.logDebug("🎞️ SCREEN " + message);
+        return new TimeoutException(message);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(1, millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while watching the screen", e);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.device.HealthMonitor;
+import com.mobile.automation.utils.StepTimer;
+import com.mobile.automation.utils.TestLogger;
+import com.mobile.automation.utils.TestTimeline;
+import com.mobile.automation.utils.TimingCategory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ⏱️ Wait Engine - Waits for elements without wasting time
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Works with an implicit wait of zero, so every check answers immediately
+ * - Checks quickly at first (50ms) and backs off (up to 500ms)
+ * - Learns how fast each locator usually appears and shortens its timeout
+ * - Optionally (-Dwait.failFastOnSettled=true) gives up early on a locator it
+ *   has seen appear before, once the screen has stopped changing well past
+ *   its usual appearance time (it is not coming)
+ * - Records the time every wait really spent, per locator (see summary()),
+ *   and as a WAIT step of the running test (see StepTimer)
+ * - Looks elements up through the LocatorEngine, so XPath locators are
+ *   sent to Appium in their compiled, faster form
+ * - Stops at once when the health heartbeat reports a crashed app
+ *   (AppCrashedException, see HealthMonitor)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Page objects use it through BasePage.find() and the waitFor... methods
+ * - One shared engine is used by all pages, so the learning carries over
+ *   from test to test
+ * - Tune it with -Dwait.* (see FrameworkConfig)
+ */
+public class WaitEngine {
+
+    private static WaitEngine shared;
+
+    private final WaitSettings settings;
+    private final LocatorEngine locators;
+    private final Map<String, LocatorWaitStats> stats = new ConcurrentHashMap<>();
+
+    public WaitEngine(WaitSettings settings) {
+        this(settings, LocatorEngine.shared());
+    }
+
+    public WaitEngine(WaitSettings settings, LocatorEngine locators) {
+        this.settings = settings;
+        this.locators = locators;
+    }
+
+    /**
+     * 🌍 Shared - The engine every page uses (built from config once)
+     */
+    public static synchronized WaitEngine shared() {
+        if (shared == null) {
+            shared = new WaitEngine(WaitSettings.fromConfig());
+            WaitEngine engine = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> TestLogger.logInfo(engine.summary()), "wait-engine-summary"));
+        }
+        return shared;
+    }
+
+    public WaitSettings getSettings() {
+        return settings;
+    }
+
+    // 🔎 Wait until at least one element matches, return the first
+    public WebElement waitForPresent(SearchContext context, By locator) {
+        return waitForPresent(context, locator, null);
+    }
+
+    public WebElement waitForPresent(SearchContext context, By locator, Duration timeout) {
+        return until(locator.toString(), timeout,
+            () -> first(findAlive(context, locator), false, false),
+            ScreenProbe.of(context));
+    }
+
+    // 👀 Wait until a matching element is displayed
+    public WebElement waitForVisible(SearchContext context, By locator) {
+        return until(locator.toString(), null,
+            () -> first(findAlive(context, locator), true, false),
+            ScreenProbe.of(context));
+    }
+
+    /**
+     * 👀 Wait For Visible (within) - Wait the whole "within" for a displayed element
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Never shortens "within" with a learned timeout and never gives up
+     *   early on a settled screen
+     * - For checks where a wrong "not there" is expensive, e.g. deciding a
+     *   saved checkpoint is broken
+     */
+    public WebElement waitForVisible(SearchContext context, By locator, Duration within) {
+        return until(locator.toString(), within, () -> first(findAlive(context, locator), true, false), null, false);
+    }
+
+    // 👆 Wait until a matching element is displayed and enabled
+    public WebElement waitForClickable(SearchContext context, By locator) {
+        return until(locator.toString(), null,
+            () -> first(findAlive(context, locator), true, true),
+            ScreenProbe.of(context));
+    }
+
+    /**
+     * ⚡ Is Present Now - Is the element on screen right now?
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - One findElements call, no waiting (the implicit wait is 0)
+     * - Returns false instead of throwing when nothing matches
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - Use it for optional UI (pop-ups, banners) once the screen has loaded;
+     *   a missing element costs one round trip instead of a full timeout
+     */
+    public boolean isPresentNow(SearchContext context, By locator) {
+        long start = System.nanoTime();
+        boolean present;
+        try {
+            present = !locators.findElements(context, locator).isEmpty();
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            present = false;
+        }
+        TestLogger.logDebug(String.format("⏱️ PRESENT-NOW %s: %s in %dms",
+            locator, present, (System.nanoTime() - start) / 1_000_000));
+        return present;
+    }
+
+    /**
+     * 🫥 Wait For Absent - Wait until nothing matches the locator
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns true as soon as the element is gone (immediately if it never was there)
+     * - Returns false if it is still there after "within"
+     * - Never shortens "within" with a learned timeout
+     */
+    public boolean waitForAbsent(SearchContext context, By locator, Duration within) {
+        try {
+            until("absent " + locator, within, () -> locators.findElements(context, locator).isEmpty(), null, false);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 🔁 Until - Check a condition until it returns something
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Calls condition until it returns a value other than null or false
+     * - Stops at the timeout (the learned one, if shorter), or earlier when
+     *   fail-fast is on, the locator has a history and the probe shows the
+     *   screen has settled
+     * - Throws TimeoutException when the condition never became true
+     *
+     * @param key: Name the time is recorded under (usually the locator)
+     * @param timeout: Upper limit, or null for the default timeout
+     * @param condition: The check, e.g. "find the element"
+     * @param probe: Screen fingerprint for fail-fast, or null to always wait the full timeout
+     */
+    public <T> T until(String key, Duration timeout, Supplier<T> condition, ScreenProbe probe) {
+        return until(key, timeout, condition, probe, settings.isLearnTimeouts());
+    }
+
+    private <T> T until(String key, Duration timeout, Supplier<T> condition, ScreenProbe probe, boolean learn) {
+        try (TestTimeline.Span step = StepTimer.step(TimingCategory.WAIT, key)) {
+            return poll(key, timeout, condition, probe, learn);
+        }
+    }
+
+    private <T> T poll(String key, Duration timeout, Supplier<T> condition, ScreenProbe probe, boolean learn) {
+        LocatorWaitStats keyStats = stats(key);
+        Duration limit = timeout != null ? timeout : settings.getDefaultTimeout();
+        Duration learned = learn ? keyStats.learnedTimeout(settings) : null;
+        boolean usingLearned = learned != null && learned.compareTo(limit) < 0;
+        if (usingLearned) {
+            limit = learned;
+        }
+
+        // 🛑 FAIL-FAST: Only for a locator with a history (a still screen may just be a
+        // network call), never before the settle window, nor before it usually shows up
+        long failFastAfterNanos = Math.max(settings.getSettleWindow().toNanos(), keyStats.slowestAppearanceNanos());
+        boolean failFast = settings.isFailFastOnSettled() && probe != null && keyStats.hasHistory();
+
+        long start = System.nanoTime();
+        long deadline = start + limit.toNanos();
+        long delayMillis = settings.getInitialPoll().toMillis();
+        int polls = 0;
+        String lastFingerprint = null;
+        long stableSince = start;
+        long lastProbe = start - settings.getSettleWindow().toNanos();
+
+        while (true) {
+            polls++;
+            T value = evaluate(condition);
+            long now = System.nanoTime();
+            if (value != null && !Boolean.FALSE.equals(value)) {
+                keyStats.recordFound(now - start);
+                TestLogger.logDebug(String.format("⏱️ WAIT %s found in %dms (%d polls, timeout %dms)",
+                    key, (now - start) / 1_000_000, polls, limit.toMillis()));
+                return value;
+            }
+
+            // 🖼️ SETTLED SCREEN: Fingerprint the screen a few times per settle window
+            if (failFast && now - lastProbe >= settings.getSettleWindow().toNanos() / 3) {
+                lastProbe = now;
+                String fingerprint = fingerprint(probe);
+                if (fingerprint == null || !fingerprint.equals(lastFingerprint)) {
+                    lastFingerprint = fingerprint;
+                    stableSince = now;
+                } else if (now - stableSince >= settings.getSettleWindow().toNanos()
+                        && now - start >= failFastAfterNanos) {
+                    keyStats.recordMissing(now - start, true, usingLearned);
+                    throw missing(key, "the screen settled without it", now - start, polls);
+                }
+            }
+
+            long remainingNanos = deadline - now;
+            if (remainingNanos <= 0) {
+                keyStats.recordMissing(now - start, false, usingLearned);
+                throw missing(key, "timed out after " + limit.toMillis() + "ms", now - start, polls);
+            }
+            if (!sleep(Math.min(delayMillis, (remainingNanos + 999_999) / 1_000_000))) {
+                keyStats.recordMissing(System.nanoTime() - start, false, false);
+                throw missing(key, "interrupted", System.nanoTime() - start, polls);
+            }
+            delayMillis = Math.min(delayMillis * 2, settings.getMaxPoll().toMillis());
+        }
+    }
+
+    // 📊 Stats for one locator (created on first use)
+    public LocatorWaitStats stats(String key) {
+        return stats.computeIfAbsent(key, LocatorWaitStats::new);
+    }
+
+    /**
+     * 📋 Summary - One line per locator, slowest total first
+     */
+    public String summary() {
+        List<LocatorWaitStats> all = new ArrayList<>(stats.values());
+        all.sort((a, b) -> b.getTotalTime().compareTo(a.getTotalTime()));
+        StringBuilder text = new StringBuilder("⏱️ Wait summary (" + all.size() + " locators)");
+        for (LocatorWaitStats entry : all) {
+            text.append("\n  ").append(entry);
+        }
+        return text.toString();
+    }
+
+    private <T> T evaluate(Supplier<T> condition) {
+        try {
+            return condition.get();
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            // Element went away between finding and checking it - try again
+            return null;
+        }
+    }
+
+    private String fingerprint(ScreenProbe probe) {
+        try {
+            return probe.fingerprint();
+        } catch (RuntimeException e) {
+            // Can't read the screen right now - treat it as still changing
+            return null;
+        }
+    }
+
+    // 💥 No lookup once the heartbeat knows the app crashed - it is not coming
+    private List<WebElement> findAlive(SearchContext context, By locator) {
+        HealthMonitor.failIfCrashed(context);
+        return locators.findElements(context, locator);
+    }
+
+    private static WebElement first(List<WebElement> elements, boolean displayed, boolean enabled) {
+        for (WebElement element : elements) {
+            if ((!displayed || element.isDisplayed()) && (!enabled || element.isEnabled())) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    private TimeoutException missing(String key, String reason, long elapsedNanos, int polls) {
+        String message = String.format("Waited %dms for %s: %s (%d polls)", elapsedNanos / 1_000_000, key, reason, polls);
+        TestLogger.logDebug("⏱️ WAIT " + message);
+        return new TimeoutException(message);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
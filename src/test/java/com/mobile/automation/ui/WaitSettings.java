@@ -0,0 +1,85 @@
+package com.mobile.automation.ui;
+
+import com.mobile.automation.utils.FrameworkConfig;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Wait Settings - How long and how often the WaitEngine checks
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - defaultTimeout: the longest a wait may take (the old 20 seconds)
+ * - minTimeout: a learned timeout is never shorter than this
+ * - initialPoll / maxPoll: first check interval and the cap it backs off to
+ * - learnTimeouts: shorten waits for locators that always appear quickly
+ * - failFastOnSettled / settleWindow: give up early once the screen has not
+ *   changed for settleWindow and a locator with a known appearance time is
+ *   still missing (off by default)
+ */
+public class WaitSettings {
+
+    // 📈 Learned timeout = slowest seen appearance x this factor
+    static final int LEARN_FACTOR = 3;
+    static final int MIN_SAMPLES = 3;
+
+    private final Duration defaultTimeout;
+    private final Duration minTimeout;
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final boolean learnTimeouts;
+    private final boolean failFastOnSettled;
+    private final Duration settleWindow;
+
+    public WaitSettings(Duration defaultTimeout, Duration minTimeout, Duration initialPoll, Duration maxPoll,
+                        boolean learnTimeouts, boolean failFastOnSettled, Duration settleWindow) {
+        this.defaultTimeout = defaultTimeout;
+        this.minTimeout = minTimeout;
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.learnTimeouts = learnTimeouts;
+        this.failFastOnSettled = failFastOnSettled;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * 🔧 From Config - Read wait settings from FrameworkConfig (-Dwait.*)
+     */
+    public static WaitSettings fromConfig() {
+        return new WaitSettings(
+            FrameworkConfig.waitTimeout(),
+            FrameworkConfig.waitMinTimeout(),
+            FrameworkConfig.waitInitialPoll(),
+            FrameworkConfig.waitMaxPoll(),
+            FrameworkConfig.waitLearnTimeouts(),
+            FrameworkConfig.waitFailFastOnSettled(),
+            FrameworkConfig.waitSettleWindow());
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public Duration getMinTimeout() {
+        return minTimeout;
+    }
+
+    public Duration getInitialPoll() {
+        return initialPoll;
+    }
+
+    public Duration getMaxPoll() {
+        return maxPoll;
+    }
+
+    public boolean isLearnTimeouts() {
+        return learnTimeouts;
+    }
+
+    public boolean isFailFastOnSettled() {
+        return failFastOnSettled;
+    }
+
+    public Duration getSettleWindow() {
+        return settleWindow;
+    }
+}
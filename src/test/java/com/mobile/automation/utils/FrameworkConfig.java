@@ -0,0 +1,294 @@
+package com.mobile.automation.utils;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Framework Config - One place for all framework settings
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Reads framework settings from Java system properties
+ * - Falls back to the values we always used (emulator-5554, port 4723, ...)
+ * - Lets you change settings from the command line without editing code
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You normally don't need to change anything here
+ * - To override a setting, pass it to Maven with -D
+ * - Example: mvn test -Dsession.pool.size=2 -Dappium.url=http://127.0.0.1:4725/wd/hub
+ */
+public final class FrameworkConfig {
+
+    private FrameworkConfig() {
+        // Only static helpers - no instances needed
+    }
+
+    // 🌐 APPIUM SERVER: Where the Appium server is listening
+    public static String appiumUrl() {
+        return getString("appium.url", "http://127.0.0.1:4723/wd/hub");
+    }
+
+    // 📱 DEVICE: Which emulator/device to use and its Android version
+    public static String deviceName() {
+        return getString("device.name", "emulator-5554");
+    }
+
+    public static String platformVersion() {
+        return getString("platform.version", "16");
+    }
+
+    // 📱 APP: Which app package/activity we are testing
+    public static String appPackage() {
+        return getString("app.package", "com.raising.prodigy");
+    }
+
+    public static String appActivity() {
+        return getString("app.activity", "com.raising.prodigy.MainActivity");
+    }
+
+    // 🎙️ RECORDING: Record all Appium traffic of the run to this file ("" = don't record, see RecordingProxy)
+    public static String appiumRecordTo() {
+        return getString("appium.recordTo", "");
+    }
+
+    // 📟 ADB: Path to the adb binary (must be on PATH unless overridden)
+    public static String adbPath() {
+        return getString("adb.path", "adb");
+    }
+
+    // 📟 ADB: Keep one "adb shell" open per device instead of one process per command
+    public static boolean adbPersistentShell() {
+        return getBoolean("adb.persistentShell", true);
+    }
+
+    // 📜 LOGCAT: Stream each device's logcat in the background to spot crashes and ANRs (see LogcatManager)
+    public static boolean logcatWatchEnabled() {
+        return getBoolean("logcat.watch", true);
+    }
+
+    // 📜 LOGCAT: How many recent crash/ANR log lines are kept per device
+    public static int logcatBufferLines() {
+        return getInt("logcat.bufferLines", 500);
+    }
+
+    // 🔄 APP RESET: How long each reset phase may take before we give up waiting
+    public static Duration resetPhaseTimeout() {
+        return getSeconds("reset.phaseTimeoutSeconds", 10);
+    }
+
+    // 💾 CHECKPOINTS: Restore a saved logged-in state instead of replaying the login flow
+    public static boolean checkpointsEnabled() {
+        return getBoolean("checkpoint.enabled", true);
+    }
+
+    public static String checkpointDir() {
+        return getString("checkpoint.dir", "/data/local/tmp/automation-checkpoints");
+    }
+
+    // 💾 A cold start on restored data may sit on the splash screen for a while
+    public static Duration checkpointRestoreTimeout() {
+        return getSeconds("checkpoint.restoreTimeoutSeconds", 30);
+    }
+
+    // ♻️ SESSION POOL: Reuse Appium sessions instead of creating one per test
+    public static boolean sessionPoolEnabled() {
+        return getBoolean("session.pool.enabled", true);
+    }
+
+    public static int sessionPoolSize() {
+        return getInt("session.pool.size", 1);
+    }
+
+    public static Duration sessionPoolIdleTimeout() {
+        return getSeconds("session.pool.idleTimeoutSeconds", 300);
+    }
+
+    public static Duration sessionPoolMaxAge() {
+        return getSeconds("session.pool.maxAgeSeconds", 1800);
+    }
+
+    public static Duration sessionPoolCheckoutTimeout() {
+        return getSeconds("session.pool.checkoutTimeoutSeconds", 120);
+    }
+
+    // 🔓 A reused session skips autoGrantPermissions, so grant the app's permissions again
+    public static boolean sessionPoolRegrantPermissions() {
+        return getBoolean("session.pool.regrantPermissions", true);
+    }
+
+    // ⏱️ WAITS: Timeouts and polling of the WaitEngine (implicit wait is always 0)
+    public static Duration waitTimeout() {
+        return getSeconds("wait.timeoutSeconds", 20);
+    }
+
+    public static Duration waitMinTimeout() {
+        return getMillis("wait.minTimeoutMillis", 2000);
+    }
+
+    public static Duration waitInitialPoll() {
+        return getMillis("wait.initialPollMillis", 50);
+    }
+
+    public static Duration waitMaxPoll() {
+        return getMillis("wait.maxPollMillis", 500);
+    }
+
+    public static boolean waitLearnTimeouts() {
+        return getBoolean("wait.learnTimeouts", true);
+    }
+
+    public static boolean waitFailFastOnSettled() {
+        return getBoolean("wait.failFastOnSettled", false);
+    }
+
+    public static Duration waitSettleWindow() {
+        return getMillis("wait.settleMillis", 1500);
+    }
+
+    // 📸 SNAPSHOTS: A cached page source is re-fetched after this long, even without actions
+    public static Duration snapshotMaxAge() {
+        return getMillis("snapshot.maxAgeMillis", 2000);
+    }
+
+    // 🧷 ELEMENTS: Reuse an element already found on the current screen instead of finding it again
+    public static boolean elementCacheEnabled() {
+        return getBoolean("elements.cache", true);
+    }
+
+    // ⚙️ LOCATORS: Rewrite simple XPath locators into accessibility id / UiSelector lookups
+    public static boolean compileLocators() {
+        return getBoolean("locators.compile", true);
+    }
+
+    // 👆 ACTIONS: Let Appium check "displayed and enabled" inside the lookup (one round trip per poll)
+    public static boolean serverSideReadyChecks() {
+        return getBoolean("actions.serverReadyChecks", true);
+    }
+
+    // ⌨️ ACTIONS: Tap a text field before typing so it has focus (Flutter fields need it)
+    public static boolean focusTapBeforeTyping() {
+        return getBoolean("actions.focusTapBeforeTyping", true);
+    }
+
+    // 🩺 HEALTH: A background heartbeat per session checks the app is still running (see HealthMonitor)
+    public static boolean healthHeartbeatEnabled() {
+        return getBoolean("health.heartbeat", true);
+    }
+
+    public static Duration healthInterval() {
+        return getMillis("health.intervalMillis", 2000);
+    }
+
+    // 🩺 HEALTH: How long a heartbeat result is trusted before it is checked again
+    public static Duration healthTtl() {
+        return getMillis("health.ttlMillis", 5000);
+    }
+
+    // 📊 REPORT: Where results are streamed to, and how many may wait for the writer
+    public static String reportDir() {
+        return getString("report.dir", ".");
+    }
+
+    public static int reportQueueCapacity() {
+        return getInt("report.queueCapacity", 10_000);
+    }
+
+    // 📊 REPORT: "csv", "jsonl" or "csv,jsonl"
+    public static String reportFormats() {
+        return getString("report.format", "csv");
+    }
+
+    // 📊 REPORT: Start a new file when one grows past this (0 = never)
+    public static int reportMaxFileMb() {
+        return getInt("report.maxFileMb", 100);
+    }
+
+    // 💾 REPORT: Force results to disk after this many results or this much time
+    public static int reportFsyncEvery() {
+        return getInt("report.fsyncEvery", 1000);
+    }
+
+    public static Duration reportFsyncInterval() {
+        return getMillis("report.fsyncMillis", 1000);
+    }
+
+    // ⏱️ TIMING: Record per-step timings and a critical-path breakdown for every test
+    public static boolean stepTimingEnabled() {
+        return getBoolean("timing.enabled", true);
+    }
+
+    // 📡 METRICS: Measure every Appium command (latency histograms, request/response sizes)
+    public static boolean commandMetricsEnabled() {
+        return getBoolean("metrics.commands", true);
+    }
+
+    // 📤 METRICS: Prometheus text file written at the end of the run ("" = don't write one)
+    public static String metricsPrometheusFile() {
+        return getString("metrics.prometheusFile", "");
+    }
+
+    // 🚄 TRANSPORT: HTTP client for Appium commands - "selenium" (default) or "jdk" (tuned, see TransportSettings)
+    public static String transportClient() {
+        return getString("transport.client", "selenium");
+    }
+
+    public static boolean transportHttp2() {
+        return getBoolean("transport.http2", false);
+    }
+
+    public static Duration transportConnectTimeout() {
+        return getMillis("transport.connectTimeoutMillis", 5_000);
+    }
+
+    // 🚄 TRANSPORT: Creating a session can take a while, so the read timeout is generous
+    public static Duration transportReadTimeout() {
+        return getSeconds("transport.readTimeoutSeconds", 180);
+    }
+
+    public static Duration transportKeepAlive() {
+        return getSeconds("transport.keepAliveSeconds", 300);
+    }
+
+    public static boolean transportCompressRequests() {
+        return getBoolean("transport.compress", false);
+    }
+
+    public static int transportCompressMinBytes() {
+        return getInt("transport.compressMinBytes", 1024);
+    }
+
+    // 🔧 HELPERS: Read a system property and convert it to the right type
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static Duration getSeconds(String key, long defaultSeconds) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(getString(key, String.valueOf(defaultSeconds))));
+        } catch (NumberFormatException e) {
+            return Duration.ofSeconds(defaultSeconds);
+        }
+    }
+
+    public static Duration getMillis(String key, long defaultMillis) {
+        try {
+            return Duration.ofMillis(Long.parseLong(getString(key, String.valueOf(defaultMillis))));
+        } catch (NumberFormatException e) {
+            return Duration.ofMillis(defaultMillis);
+        }
+    }
+}
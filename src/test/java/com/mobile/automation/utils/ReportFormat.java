@@ -0,0 +1,163 @@
+package com.mobile.automation.utils;
+
+/**
+ * 🧾 Report Format - How one test result is written as a line of text
+ *
+ * 📚 WHAT THIS ENUM DOES:
+ * - CSV: the Excel-friendly report, every cell quoted, quotes doubled
+ * - JSONL: one JSON object per line, easy to load into scripts and dashboards
+ * - Each format has a header (written at the top of every file), a row per
+ *   result and a summary (written at the end of the last file)
+ */
+public enum ReportFormat {
+
+    CSV("csv") {
+        @Override
+        String header() {
+            return "Test Name,Status,Expected Result,Actual Result,Error Message,Timestamp,Duration (ms),Thread,"
+                + "Appium (ms),ADB (ms),Wait (ms),Sleep (ms),Other (ms),Critical Path,Crash\n";
+        }
+
+        @Override
+        String row(TestResult result, String timestamp) {
+            StringBuilder text = new StringBuilder(192)
+                .append(csv(result.getTestName())).append(',')
+                .append(csv(result.getStatus())).append(',')
+                .append(csv(result.getExpected())).append(',')
+                .append(csv(result.getActual())).append(',')
+                .append(csv(result.getErrorMessage())).append(',')
+                .append(csv(timestamp)).append(',')
+                .append(csv(String.valueOf(result.getDuration().toMillis()))).append(',')
+                .append(csv(result.getThread()));
+            TimingBreakdown timing = result.getTiming();
+            for (TimingCategory category : TimingCategory.values()) {
+                text.append(',').append(csv(timing == null ? null : String.valueOf(timing.get(category).toMillis())));
+            }
+            return text.append(',').append(csv(timing == null ? null : timing.criticalPathText()))
+                .append(',').append(csv(result.getCrash())).append('\n').toString();
+        }
+
+        @Override
+        String summary(int total, int passed) {
+            StringBuilder text = new StringBuilder("\n")
+                .append("\"SUMMARY\",\"\",\"\",\"\",\"\",\"\"\n")
+                .append("\"Total Tests\",\"").append(total).append("\",\"\",\"\",\"\",\"\"\n")
+                .append("\"Passed\",\"").append(passed).append("\",\"\",\"\",\"\",\"\"\n")
+                .append("\"Failed\",\"").append(total - passed).append("\",\"\",\"\",\"\",\"\"\n");
+            if (total > 0) {
+                double successRate = (passed * 100.0) / total;
+                text.append("\"Success Rate\",\"").append(successRate).append("%\",\"\",\"\",\"\",\"\"\n");
+            }
+            return text.toString();
+        }
+    },
+
+    JSONL("jsonl") {
+        @Override
+        String header() {
+            return "";
+        }
+
+        @Override
+        String row(TestResult result, String timestamp) {
+            StringBuilder text = new StringBuilder(256)
+                .append("{\"testName\":").append(json(result.getTestName()))
+                .append(",\"status\":").append(json(result.getStatus()))
+                .append(",\"expected\":").append(json(result.getExpected()))
+                .append(",\"actual\":").append(json(result.getActual()))
+                .append(",\"errorMessage\":").append(json(result.getErrorMessage()))
+                .append(",\"timestamp\":").append(json(timestamp))
+                .append(",\"startedAt\":").append(result.getStartedAtMillis())
+                .append(",\"finishedAt\":").append(result.getFinishedAtMillis())
+                .append(",\"durationMillis\":").append(result.getDuration().toMillis())
+                .append(",\"thread\":").append(json(result.getThread()))
+                .append(",\"timing\":");
+            TimingBreakdown timing = result.getTiming();
+            if (timing == null) {
+                text.append("null");
+            } else {
+                text.append("{\"totalMillis\":").append(timing.getTotal().toMillis());
+                for (TimingCategory category : TimingCategory.values()) {
+                    text.append(",\"").append(category.getLabel()).append("Millis\":").append(timing.get(category).toMillis());
+                }
+                text.append(",\"criticalPath\":[");
+                for (int i = 0; i < timing.getCriticalPath().size(); i++) {
+                    text.append(i == 0 ? "" : ",").append(json(timing.getCriticalPath().get(i)));
+                }
+                text.append("]}");
+            }
+            return text.append(",\"crash\":").append(json(result.getCrash())).append("}\n").toString();
+        }
+
+        @Override
+        String summary(int total, int passed) {
+            return "{\"summary\":{\"total\":" + total + ",\"passed\":" + passed + ",\"failed\":" + (total - passed) + "}}\n";
+        }
+    };
+
+    private final String extension;
+
+    ReportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    abstract String header();
+
+    abstract String row(TestResult result, String timestamp);
+
+    abstract String summary(int total, int passed);
+
+    // 🔤 CSV cell: always quoted, quotes doubled, null as empty
+    static String csv(String value) {
+        return value == null ? "\"\"" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    // 🔤 JSON string: quotes, backslashes and control characters escaped, null as null
+    static String json(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder text = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    text.append("\\\"");
+                    break;
+                case '\\':
+                    text.append("\\\\");
+                    break;
+                case '\n':
+                    text.append("\\n");
+                    break;
+                case '\r':
+                    text.append("\\r");
+                    break;
+                case '\t':
+                    text.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        text.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        text.append(c);
+                    }
+            }
+        }
+        return text.append('"').toString();
+    }
+
+    // 📋 "csv,jsonl" -> [CSV, JSONL]
+    public static ReportFormat[] parse(String formats) {
+        String[] names = formats.split(",");
+        ReportFormat[] parsed = new ReportFormat[names.length];
+        for (int i = 0; i < names.length; i++) {
+            parsed[i] = valueOf(names[i].trim().toUpperCase());
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,196 @@
+package com.mobile.automation.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * ✍️ Report Writer - Appends results to a report file through one buffered channel
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Encodes rows into a 64KB buffer and writes the buffer to a FileChannel
+ *   in big chunks (flush() hands everything to the operating system)
+ * - fsyncs to disk every N results or every T milliseconds, whichever comes
+ *   first, so even a power cut loses at most that much
+ * - Rolls to a new file (name.2.csv, name.3.csv, ...) when a file would grow
+ *   past the size limit; every file gets its own header
+ * - Formats the timestamp once per second instead of once per row
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Used from one thread only (ResultStore's writer thread)
+ * - Tune with -Dreport.format, -Dreport.maxFileMb, -Dreport.fsyncEvery,
+ *   -Dreport.fsyncMillis (see FrameworkConfig)
+ */
+public class ReportWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path baseFile;
+    private final ReportFormat format;
+    private final long maxFileBytes;
+    private final int fsyncEvery;
+    private final long fsyncIntervalNanos;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final List<Path> files = new ArrayList<>();
+    private FileChannel channel;
+    private long fileBytes;
+    private long headerBytes;
+    private int unsynced;
+    private long lastSync = System.nanoTime();
+    private int fsyncs;
+
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    /**
+     * @param baseFile: First report file; rolled files get .2, .3, ... before the extension
+     * @param maxFileBytes: Roll when a file would grow past this (0 = never roll)
+     * @param fsyncEvery: fsync after this many results (0 = only on close)
+     * @param fsyncInterval: fsync when this much time passed since the last one (zero = never by time)
+     */
+    public ReportWriter(Path baseFile, ReportFormat format, long maxFileBytes, int fsyncEvery, Duration fsyncInterval)
+            throws IOException {
+        this.baseFile = baseFile;
+        this.format = format;
+        this.maxFileBytes = maxFileBytes;
+        this.fsyncEvery = fsyncEvery;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        openNext();
+    }
+
+    // 📁 Every file written so far, in order (the last one is still open)
+    public List<Path> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
+
+    public Path getCurrentFile() {
+        return files.get(files.size() - 1);
+    }
+
+    // 💾 How many times the data was forced to disk
+    public int getFsyncs() {
+        return fsyncs;
+    }
+
+    /**
+     * ➕ Append - Add one result (buffered; call flush() to hand it to the OS)
+     */
+    public void append(TestResult result) throws IOException {
+        byte[] row = format.row(result, timestamp(result.getFinishedAtMillis())).getBytes(StandardCharsets.UTF_8);
+        if (maxFileBytes > 0 && fileBytes + row.length > maxFileBytes && fileBytes > headerBytes) {
+            roll();
+        }
+        put(row);
+        unsynced++;
+    }
+
+    /**
+     * 🚿 Flush - Write the buffer to the file, and fsync if it is time to
+     */
+    public void flush() throws IOException {
+        drain();
+        long now = System.nanoTime();
+        boolean countDue = fsyncEvery > 0 && unsynced >= fsyncEvery;
+        boolean timeDue = fsyncIntervalNanos > 0 && unsynced > 0 && now - lastSync >= fsyncIntervalNanos;
+        if (countDue || timeDue) {
+            sync();
+        }
+    }
+
+    /**
+     * 🏁 Finish - Write the summary at the end of the last file, then close it
+     */
+    public void finish(int total, int passed) throws IOException {
+        put(format.summary(total, passed).getBytes(StandardCharsets.UTF_8));
+        close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        drain();
+        sync();
+        channel.close();
+        channel = null;
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            drain();
+        }
+        if (bytes.length > buffer.capacity()) {
+            // Huge row (e.g. a long stack trace) - write it straight through
+            ByteBuffer direct = ByteBuffer.wrap(bytes);
+            while (direct.hasRemaining()) {
+                channel.write(direct);
+            }
+        } else {
+            buffer.put(bytes);
+        }
+        fileBytes += bytes.length;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void sync() throws IOException {
+        channel.force(false);
+        fsyncs++;
+        unsynced = 0;
+        lastSync = System.nanoTime();
+    }
+
+    private void roll() throws IOException {
+        close();
+        openNext();
+    }
+
+    private void openNext() throws IOException {
+        Path file = files.isEmpty() ? baseFile : numbered(files.size() + 1);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        files.add(file);
+        fileBytes = 0;
+        put(format.header().getBytes(StandardCharsets.UTF_8));
+        headerBytes = fileBytes;
+    }
+
+    // 📁 TestReport_x.csv -> TestReport_x.2.csv
+    private Path numbered(int number) {
+        String name = baseFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String numberedName = dot < 0 ? name + "." + number : name.substring(0, dot) + "." + number + name.substring(dot);
+        return baseFile.resolveSibling(numberedName);
+    }
+
+    // 🕒 Same text as before (Date.toString with safe characters), formatted once per second
+    private String timestamp(long millis) {
+        long second = Math.floorDiv(millis, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = new Date(millis).toString().replace(" ", "_").replace(":", "-");
+        }
+        return cachedTimestamp;
+    }
+}
@@ -0,0 +1,216 @@
+package com.mobile.automation.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 🗄️ Result Store - Streams test results to report files as they arrive
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - add(result) can be called from any number of test threads at once
+ * - Results wait in a bounded queue; one background thread appends them to
+ *   every ReportWriter (CSV, JSON Lines) in batches, so memory stays flat no
+ *   matter how many tests run, and a crashed JVM keeps everything written so far
+ * - When the queue is full, add() waits for the writer (it never drops results)
+ * - Pass/fail counts are kept as counters, not by keeping the results
+ * - close() writes everything still queued plus the summary, then closes the file
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't use this directly: TestReport.addTestResult() and
+ *   TestReport.generateReport() do
+ */
+public class ResultStore implements AutoCloseable {
+
+    private static final int MAX_BATCH = 512;
+
+    // 🛑 Marks the end of the queue for the writer thread
+    private static final TestResult END = new TestResult(null, null, null, null, null, 0, 0, null);
+
+    private final List<ReportWriter> writers;
+    private final BlockingQueue<TestResult> queue;
+    private final Thread writer;
+
+    // 🔒 add() holds the shared side, close() the exclusive side: nothing slips in after END
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final Object progress = new Object();
+    private long written;
+    private IOException failure;
+
+    // 📄 One CSV file, no rolling, fsync at least once a second
+    public ResultStore(Path file, int queueCapacity) throws IOException {
+        this(Collections.singletonList(new ReportWriter(file, ReportFormat.CSV, 0, 1000, Duration.ofSeconds(1))),
+            queueCapacity);
+    }
+
+    public ResultStore(List<ReportWriter> writers, int queueCapacity) {
+        this.writers = new ArrayList<>(writers);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "result-store-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 📁 The file the first writer is writing to now
+    public Path getFile() {
+        return writers.get(0).getCurrentFile();
+    }
+
+    // 📁 Every file of every writer (read after close() for the complete list)
+    public List<Path> getFiles() {
+        List<Path> files = new ArrayList<>();
+        for (ReportWriter reportWriter : writers) {
+            files.addAll(reportWriter.getFiles());
+        }
+        return files;
+    }
+
+    /**
+     * ➕ Add - Queue one result for writing (waits if the queue is full)
+     *
+     * @throws IllegalStateException if the store was already closed
+     */
+    public void add(TestResult result) {
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Result store " + getFile() + " is closed");
+            }
+            total.incrementAndGet();
+            if (result.isPassed()) {
+                passed.incrementAndGet();
+            }
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing " + result, e);
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getPassed() {
+        return passed.get();
+    }
+
+    public int getFailed() {
+        return total.get() - passed.get();
+    }
+
+    // 📝 How many results are already in the file
+    public long getWritten() {
+        synchronized (progress) {
+            return written;
+        }
+    }
+
+    /**
+     * 🏁 Close - Write what is left and the summary, then close the file
+     */
+    @Override
+    public void close() throws IOException {
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing " + getFile(), e);
+        } finally {
+            closing.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing " + getFile(), e);
+        }
+        synchronized (progress) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<TestResult> batch = new ArrayList<>(MAX_BATCH);
+        boolean ended = false;
+        try {
+            while (!ended) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                int rows = 0;
+                for (TestResult result : batch) {
+                    if (result == END) {
+                        ended = true;
+                        break;
+                    }
+                    for (ReportWriter reportWriter : writers) {
+                        reportWriter.append(result);
+                    }
+                    rows++;
+                }
+                // 🚿 One flush per batch: a crashed JVM loses nothing that was taken off the queue
+                for (ReportWriter reportWriter : writers) {
+                    reportWriter.flush();
+                }
+                synchronized (progress) {
+                    written += rows;
+                }
+                batch.clear();
+            }
+            for (ReportWriter reportWriter : writers) {
+                reportWriter.finish(total.get(), passed.get());
+            }
+        } catch (IOException e) {
+            synchronized (progress) {
+                failure = e;
+            }
+            closeQuietly();
+            // Keep draining so producers never block on a dead writer
+            drainForever(ended);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeQuietly();
+        }
+    }
+
+    private void closeQuietly() {
+        for (ReportWriter reportWriter : writers) {
+            try {
+                reportWriter.close();
+            } catch (IOException e) {
+                // Already reporting the first failure
+            }
+        }
+    }
+
+    private void drainForever(boolean ended) {
+        try {
+            while (!ended) {
+                ended = queue.take() == END;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mobile.automation.utils;
+
+import java.time.Duration;
+
+/**
+ * ⏱️ Step Timer - Times the steps of the test running on this thread
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - startTest(): starts a TestTimeline for the current thread (BaseTest does this)
+ * - step(category, name): times one step; the framework wraps Appium calls,
+ *   adb commands, waits, reset phases and flow steps with it
+ * - takeBreakdown(): where the time went since the test (or the previous
+ *   result) started; TestReport attaches it to every result
+ * - Does nothing (and costs almost nothing) when no test timeline is running
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Wrap slow code of your own like this:
+ *   try (TestTimeline.Span step = StepTimer.step(TimingCategory.OTHER, "seed data")) { ... }
+ * - Turn it off with -Dtiming.enabled=false
+ */
+public final class StepTimer {
+
+    private static final ThreadLocal<TestTimeline> CURRENT = new ThreadLocal<>();
+
+    private StepTimer() {
+        // Only static helpers - no instances needed
+    }
+
+    // ▶️ Start timing this thread's test (keeps the running timeline if there is one)
+    public static void startTest() {
+        if (CURRENT.get() == null && FrameworkConfig.stepTimingEnabled()) {
+            CURRENT.set(new TestTimeline());
+        }
+    }
+
+    // 🕰️ The timeline of this thread (null when not timing)
+    public static TestTimeline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * ⏱️ Step - Time one step of the current test
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns a span to close when the step is done (use try-with-resources)
+     */
+    public static TestTimeline.Span step(TimingCategory category, String name) {
+        TestTimeline timeline = CURRENT.get();
+        return timeline == null ? TestTimeline.NONE : timeline.begin(category, name);
+    }
+
+    // ⏱️ Same, but "prefix detail" is only built when a timeline is running
+    public static TestTimeline.Span step(TimingCategory category, String prefix, Object detail) {
+        TestTimeline timeline = CURRENT.get();
+        return timeline == null ? TestTimeline.NONE : timeline.begin(category, prefix + " " + detail);
+    }
+
+    /**
+     * 😴 Sleep - A fixed pause, recorded as SLEEP so it shows up in the report
+     *
+     * 🎯 FOR NEW TESTERS:
+     * - Prefer a WaitEngine wait; use this only when nothing on screen can be waited for
+     */
+    public static void sleep(String reason, Duration duration) {
+        try (TestTimeline.Span step = step(TimingCategory.SLEEP, reason)) {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 📊 Take Breakdown - Where the time went since the last breakdown
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Returns the breakdown of the running timeline (null if none is running)
+     * - Starts a fresh timeline, so the next result of the same class is timed
+     *   from here (tests sharing a @BeforeClass setup each get their own part)
+     */
+    public static TimingBreakdown takeBreakdown() {
+        TestTimeline timeline = CURRENT.get();
+        if (timeline == null) {
+            return null;
+        }
+        CURRENT.set(new TestTimeline());
+        return timeline.breakdown();
+    }
+
+    // 🧹 Stop timing this thread (BaseTest.cleanupTest() does this)
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -1,8 +1,14 @@
 package com.mobile.automation.utils;
 
-import java.io.FileWriter;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * 📊 Dynamic Test Report Generator
@@ -12,34 +18,54 @@ import java.util.Date;
  * - Generates Excel-compatible CSV reports
  * - Shows pass/fail statistics and success rates
  * - Creates professional reports for sharing with teams
+ * - Writes each result to the file as soon as it is added (see ResultStore),
+ *   so there is no limit on the number of tests and parallel tests are safe
+ * - Can also write JSON Lines (-Dreport.format=csv,jsonl)
+ * - Every row carries the test's timing breakdown (Appium, adb, wait, sleep,
+ *   other) and critical path, when the test was timed (see StepTimer)
+ * - A row also carries the logcat excerpt when the app crashed or hung
+ *   during the test (see attachCrash())
  * 
  * 🎯 FOR NEW TESTERS:
  * - This class creates reports that show test results
  * - It's like a "report card" for your tests
  * - You can share these reports with your team
- * - The reports show which tests passed/failed and why
- * - Uses simple arrays and loops (no complex concepts)
+ * - The reports show which tests passed/failed, why, and how long they took
  */
 public class TestReport {
 
-    // 📊 STORAGE ARRAYS: Store test results in simple arrays
-    // These arrays can handle up to 20 tests (you can increase if needed)
-    private static String[] testNames = new String[20];      // Names of tests
-    private static String[] testStatuses = new String[20];  // PASSED or FAILED
-    private static String[] testExpecteds = new String[20]; // What we expected
-    private static String[] testActuals = new String[20];   // What actually happened
-    private static String[] testErrors = new String[20];    // Error messages (if any)
+    // 🗄️ STORE: The report file currently being written (created by the first result)
+    private static ResultStore store;
+
+    // 💥 CRASH: Logcat excerpt of a crash seen by this thread's test, waiting for its result row
+    private static final ThreadLocal<String> CRASH = new ThreadLocal<>();
 
-    // 📊 COUNTER: Keep track of how many tests we've recorded
-    private static int testCount = 0;
+    /**
+     * 💥 Attach Crash - Put a crash excerpt on this thread's next result row
+     * 
+     * 📚 WHAT THIS METHOD DOES:
+     * - Called when a wait stops because the app crashed (see HealthMonitor)
+     * - The next addTestResult() on this thread writes it into the Crash column
+     */
+    public static void attachCrash(String excerpt) {
+        CRASH.set(excerpt);
+    }
+    
+    // 💥 The attached crash excerpt of this thread (null if none), removed so it lands on one row only
+    public static String takeCrash() {
+        String crash = CRASH.get();
+        CRASH.remove();
+        return crash;
+    }
 
     /**
      * ➕ Add Test Result - Simple method
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Records the result of a test case
-     * - Stores all the information in arrays
-     * - Increments the test counter
+     * - Records the result of a test case, with its start/end time and thread
+     * - Attaches where the test's time went (see StepTimer) and logs it
+     * - Hands it to the ResultStore, which writes it to the report file
+     * - Safe to call from many test threads at the same time
      * - Prints confirmation message
      * 
      * 🎯 FOR NEW TESTERS:
@@ -55,28 +81,50 @@ public class TestReport {
      * @param errorMessage: Error message if the test failed (null if passed)
      */
     public static void addTestResult(String testName, String status, String expected, String actual, String errorMessage) {
-        // 📝 STORE IN ARRAYS: Save all the test information
-        testNames[testCount] = testName;
-        testStatuses[testCount] = status;
-        testExpecteds[testCount] = expected;
-        testActuals[testCount] = actual;
-        testErrors[testCount] = errorMessage;
-
-        // 📊 INCREMENT COUNTER: Move to next position in arrays
-        testCount++;
-
+        // ⏱️ TIMING: TestNG knows when the running test method started
+        long finishedAt = System.currentTimeMillis();
+        ITestResult current = Reporter.getCurrentTestResult();
+        long startedAt = current != null && current.getStartMillis() > 0 ? current.getStartMillis() : finishedAt;
+        
+        // 📊 BREAKDOWN: Where the time went since the test (or its previous result) started
+        TimingBreakdown timing = StepTimer.takeBreakdown();
+        if (timing != null) {
+            TestLogger.logInfo("⏱️ TIMING " + testName + ": " + timing);
+        }
+        
+        // 💥 CRASH: The logcat excerpt, if the app crashed during this test
+        String crash = takeCrash();
+        
+        addTestResult(new TestResult(testName, status, expected, actual, errorMessage,
+            startedAt, finishedAt, Thread.currentThread().getName(), timing, crash));
+    }
+    
+    // ➕ Add a result that already carries its own timings
+    public static void addTestResult(TestResult result) {
+        while (true) {
+            try {
+                currentStore().add(result);
+                break;
+            } catch (IllegalStateException e) {
+                // 🔁 The report was just generated - the result goes into the next one
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+            }
+        }
+        
         // 📝 CONFIRMATION: Print that we recorded the result
-        System.out.println("📊 Test Result Added: " + testName + " - " + status);
+        System.out.println("📊 Test Result Added: " + result.getTestName() + " - " + result.getStatus());
     }
 
     /**
      * 📄 Generate Excel Report (CSV format)
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Creates a CSV file with all test results
+     * - Finishes the CSV file the results were streamed into
      * - CSV files can be opened directly in Excel
-     * - Includes headers, test data, and summary statistics
-     * - Shows pass/fail counts and success rate
+     * - Adds summary statistics: pass/fail counts and success rate
+     * - Results added afterwards go into a new report file
      * 
      * 🎯 FOR NEW TESTERS:
      * - This method creates the final report file
@@ -86,63 +134,21 @@ public class TestReport {
      * - Perfect for sharing with your team or manager
      */
     public static void generateReport() {
+        ResultStore finished;
+        synchronized (TestReport.class) {
+            finished = store;
+            store = null;
+        }
         try {
-            // 📁 CREATE FILE: Generate filename with current date
-            String fileName = "TestReport_" + getCurrentDate() + ".csv";
-            FileWriter writer = new FileWriter(fileName);
-
-            // 📋 WRITE HEADERS: Create column headers for the report
-            writer.write("Test Name,Status,Expected Result,Actual Result,Error Message,Timestamp\n");
-
-            // 📊 COUNT VARIABLES: Track how many tests passed/failed
-            int passed = 0;
-            int failed = 0;
-
-            // 📝 WRITE TEST DATA: Loop through all recorded tests
-            for (int i = 0; i < testCount; i++) {
-                // Write each test result as a row in the CSV
-                writer.write("\"" + testNames[i] + "\",");           // Test name
-                writer.write("\"" + testStatuses[i] + "\",");        // Status (PASSED/FAILED)
-                writer.write("\"" + testExpecteds[i] + "\",");       // Expected result
-                writer.write("\"" + testActuals[i] + "\",");         // Actual result
-                
-                // Handle error message (might be null)
-                if (testErrors[i] != null && !testErrors[i].isEmpty()) {
-                    writer.write("\"" + testErrors[i] + "\",");      // Error message
-                } else {
-                    writer.write("\"\",");                          // Empty if no error
-                }
-                
-                writer.write("\"" + getCurrentDate() + "\"\n");      // Timestamp
-
-                // 📊 COUNT RESULTS: Track pass/fail counts
-                if (testStatuses[i].equals("PASSED")) {
-                    passed++;
-                } else {
-                    failed++;
-                }
+            if (finished == null) {
+                // 📁 No results yet - still produce a report with an empty summary
+                finished = newStore();
             }
-
-            // 📊 WRITE SUMMARY: Add summary statistics at the end
-            writer.write("\n");  // Empty line for separation
-            writer.write("\"SUMMARY\",\"\",\"\",\"\",\"\",\"\"\n");
-            writer.write("\"Total Tests\",\"" + testCount + "\",\"\",\"\",\"\",\"\"\n");
-            writer.write("\"Passed\",\"" + passed + "\",\"\",\"\",\"\",\"\"\n");
-            writer.write("\"Failed\",\"" + failed + "\",\"\",\"\",\"\",\"\"\n");
+            finished.close();
             
-            // 📊 CALCULATE SUCCESS RATE: Show percentage of tests that passed
-            if (testCount > 0) {
-                double successRate = (passed * 100.0) / testCount;
-                writer.write("\"Success Rate\",\"" + successRate + "%\",\"\",\"\",\"\",\"\"\n");
-            }
-
-            // 📁 CLOSE FILE: Finish writing and close the file
-            writer.close();
-
             // 📝 SUCCESS MESSAGE: Tell user the report was created
-            System.out.println("📊 Excel Report generated: " + fileName);
+            System.out.println("📊 Excel Report generated: " + finished.getFiles() + " (" + finished.getTotal() + " results)");
             System.out.println("📋 Double-click the CSV file to open in Excel!");
-
         } catch (IOException e) {
             // ❌ ERROR HANDLING: If file creation fails
             System.out.println("❌ Error generating Excel report: " + e.getMessage());
@@ -171,30 +177,52 @@ public class TestReport {
      * 🧹 Clear Results - Reset everything
      * 
      * 📚 WHAT THIS METHOD DOES:
-     * - Clears all stored test results
-     * - Resets the test counter to 0
-     * - Prepares for a new set of tests
+     * - Closes the current report file without waiting for generateReport()
+     * - The next result starts a new report file
      * 
      * 🎯 FOR NEW TESTERS:
      * - Use this if you want to start fresh
-     * - It clears all previous test results
      * - You might use this between different test suites
      * - Example: TestReport.clearResults();
      */
     public static void clearResults() {
-        // 📊 RESET COUNTER: Start counting from 0 again
-        testCount = 0;
-        
-        // 🧹 CLEAR ARRAYS: Set all array elements to null using simple loop
-        for (int i = 0; i < 20; i++) {
-            testNames[i] = null;
-            testStatuses[i] = null;
-            testExpecteds[i] = null;
-            testActuals[i] = null;
-            testErrors[i] = null;
+        ResultStore cleared;
+        synchronized (TestReport.class) {
+            cleared = store;
+            store = null;
+        }
+        if (cleared != null) {
+            try {
+                cleared.close();
+            } catch (IOException e) {
+                System.out.println("❌ Error closing report " + cleared.getFile() + ": " + e.getMessage());
+            }
         }
         
         // 📝 CONFIRMATION: Tell user that results were cleared
         System.out.println("🧹 Test results cleared!");
     }
-}
\ No newline at end of file
+    
+    private static synchronized ResultStore currentStore() {
+        if (store == null) {
+            try {
+                store = newStore();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't create the test report file", e);
+            }
+        }
+        return store;
+    }
+    
+    private static ResultStore newStore() throws IOException {
+        // 📁 CREATE FILES: Generate filename with current date (plus milliseconds, so reports never collide)
+        String baseName = "TestReport_" + getCurrentDate() + "_" + (System.currentTimeMillis() % 1000);
+        List<ReportWriter> writers = new ArrayList<>();
+        for (ReportFormat format : ReportFormat.parse(FrameworkConfig.reportFormats())) {
+            writers.add(new ReportWriter(Paths.get(FrameworkConfig.reportDir(), baseName + "." + format.getExtension()),
+                format, FrameworkConfig.reportMaxFileMb() * 1024L * 1024L, FrameworkConfig.reportFsyncEvery(),
+                FrameworkConfig.reportFsyncInterval()));
+        }
+        return new ResultStore(writers, FrameworkConfig.reportQueueCapacity());
+    }
+}
@@ -0,0 +1,108 @@
+package com.mobile.automation.utils;
+
+import java.time.Duration;
+
+/**
+ * 🧾 Test Result - One row of the test report
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Holds what TestReport.addTestResult() was given (name, status, expected,
+ *   actual, error message)
+ * - Adds when the test started and finished and which thread ran it,
+ *   so slow tests and parallel workers show up in the report
+ * - Optionally carries the TimingBreakdown of the test (where its time went)
+ * - Optionally carries the logcat excerpt of an app crash or ANR during the test
+ */
+public class TestResult {
+
+    private final String testName;
+    private final String status;
+    private final String expected;
+    private final String actual;
+    private final String errorMessage;
+    private final long startedAtMillis;
+    private final long finishedAtMillis;
+    private final String thread;
+    private final TimingBreakdown timing;
+    private final String crash;
+
+    public TestResult(String testName, String status, String expected, String actual, String errorMessage,
+                      long startedAtMillis, long finishedAtMillis, String thread) {
+        this(testName, status, expected, actual, errorMessage, startedAtMillis, finishedAtMillis, thread, null);
+    }
+
+    public TestResult(String testName, String status, String expected, String actual, String errorMessage,
+                      long startedAtMillis, long finishedAtMillis, String thread, TimingBreakdown timing) {
+        this(testName, status, expected, actual, errorMessage, startedAtMillis, finishedAtMillis, thread, timing, null);
+    }
+
+    public TestResult(String testName, String status, String expected, String actual, String errorMessage,
+                      long startedAtMillis, long finishedAtMillis, String thread, TimingBreakdown timing, String crash) {
+        this.testName = testName;
+        this.status = status;
+        this.expected = expected;
+        this.actual = actual;
+        this.errorMessage = errorMessage;
+        this.startedAtMillis = startedAtMillis;
+        this.finishedAtMillis = finishedAtMillis;
+        this.thread = thread;
+        this.timing = timing;
+        this.crash = crash;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getExpected() {
+        return expected;
+    }
+
+    public String getActual() {
+        return actual;
+    }
+
+    // ❌ Null when the test passed
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    public Duration getDuration() {
+        return Duration.ofMillis(Math.max(0, finishedAtMillis - startedAtMillis));
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    // ⏱️ Null when the test was not timed (see StepTimer)
+    public TimingBreakdown getTiming() {
+        return timing;
+    }
+
+    // 💥 Null unless the app crashed or hung during the test (see LogcatWatcher)
+    public String getCrash() {
+        return crash;
+    }
+
+    public boolean isPassed() {
+        return "PASSED".equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return testName + " - " + status + " (" + getDuration().toMillis() + "ms)";
+    }
+}
@@ -0,0 +1,152 @@
+package com.mobile.automation.utils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 🕰️ Test Timeline - Every timed step of one test, with start and end times
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - begin(category, name) opens a step; closing it records its end time
+ * - Steps nest: a flow step contains waits, a wait contains Appium calls.
+ *   Each step's own time is its duration minus the steps inside it, so
+ *   nothing is counted twice
+ * - breakdown() adds the own time up per TimingCategory and finds the
+ *   critical path (the slowest step, then the slowest step inside it, ...)
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - You don't use this directly: StepTimer keeps one timeline per test thread
+ * - A timeline belongs to one thread; it is not meant to be shared
+ */
+public class TestTimeline {
+
+    // 🧮 Keep at most this many steps in the tree; later ones are still counted
+    private static final int MAX_KEPT_STEPS = 10_000;
+
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Map<TimingCategory, Long> ownNanos = new EnumMap<>(TimingCategory.class);
+    private final List<Span> roots = new ArrayList<>();
+    private Span open;
+    private int kept;
+
+    public TestTimeline() {
+        this(System::nanoTime);
+    }
+
+    // ⏱️ With a custom clock (self-tests use a fake one)
+    public TestTimeline(LongSupplier clock) {
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    /**
+     * ▶️ Begin - Open a step; close it (try-with-resources) when it is done
+     */
+    public Span begin(TimingCategory category, String name) {
+        Span span = new Span(this, category, name, open, clock.getAsLong());
+        open = span;
+        return span;
+    }
+
+    private void end(Span span) {
+        span.endNanos = clock.getAsLong();
+        long duration = span.endNanos - span.startNanos;
+        ownNanos.merge(span.category, Math.max(0, duration - span.childNanos), Long::sum);
+        if (span.parent != null) {
+            span.parent.childNanos += duration;
+        }
+        // Steps closed out of order (should not happen) just pop back to their parent
+        open = span.parent;
+
+        if (kept < MAX_KEPT_STEPS) {
+            kept++;
+            (span.parent == null ? roots : span.parent.children).add(span);
+        }
+    }
+
+    /**
+     * 📊 Breakdown - Own time per category and the critical path, up to now
+     *
+     * 📚 WHAT THIS METHOD DOES:
+     * - Time not covered by any step counts as OTHER
+     * - Steps still open are not counted yet
+     */
+    public TimingBreakdown breakdown() {
+        long total = clock.getAsLong() - startNanos;
+        Map<TimingCategory, Long> totals = new EnumMap<>(ownNanos);
+        long covered = 0;
+        for (Span root : roots) {
+            covered += root.endNanos - root.startNanos;
+        }
+        totals.merge(TimingCategory.OTHER, Math.max(0, total - covered), Long::sum);
+
+        // 🧭 CRITICAL PATH: Follow the slowest step down to the call that held it up
+        List<String> path = new ArrayList<>();
+        List<Span> level = roots;
+        while (!level.isEmpty() && path.size() < 6) {
+            Span slowest = level.get(0);
+            for (Span span : level) {
+                if (span.getDurationNanos() > slowest.getDurationNanos()) {
+                    slowest = span;
+                }
+            }
+            path.add(slowest.toString());
+            level = slowest.children;
+        }
+        return new TimingBreakdown(total, totals, path);
+    }
+
+    /**
+     * ⏱️ Span - One timed step (close it to record the end time)
+     */
+    public static final class Span implements AutoCloseable {
+
+        private final TestTimeline timeline;
+        private final TimingCategory category;
+        private final String name;
+        private final Span parent;
+        private final long startNanos;
+        private final List<Span> children = new ArrayList<>();
+        private long endNanos = -1;
+        private long childNanos;
+
+        private Span(TestTimeline timeline, TimingCategory category, String name, Span parent, long startNanos) {
+            this.timeline = timeline;
+            this.category = category;
+            this.name = name;
+            this.parent = parent;
+            this.startNanos = startNanos;
+        }
+
+        public TimingCategory getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationNanos() {
+            return endNanos < 0 ? 0 : endNanos - startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (timeline != null && endNanos < 0) {
+                timeline.end(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return category.getLabel() + " " + name + " " + getDurationNanos() / 1_000_000 + "ms";
+        }
+    }
+
+    // 🚫 A span that records nothing (used when no timeline is running)
+    static final Span NONE = new Span(null, TimingCategory.OTHER, "", null, 0);
+}
@@ -0,0 +1,69 @@
+package com.mobile.automation.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📊 Timing Breakdown - Where one test's time went
+ *
+ * 📚 WHAT THIS CLASS DOES:
+ * - Total test time, split into Appium round trips, adb, waits, sleeps and other
+ *   (the parts add up to the total)
+ * - The critical path: the slowest step, the slowest step inside that, and so on,
+ *   e.g. "other flow 6/6 sign in 20100ms > wait clickable ACTIVITY_STREAK 20050ms"
+ *
+ * 🎯 FOR NEW TESTERS:
+ * - Shown in the log and in the test report next to every result
+ * - Look at the biggest category first: that is what to optimize next
+ */
+public class TimingBreakdown {
+
+    private final long totalNanos;
+    private final Map<TimingCategory, Long> nanos;
+    private final List<String> criticalPath;
+
+    TimingBreakdown(long totalNanos, Map<TimingCategory, Long> nanos, List<String> criticalPath) {
+        this.totalNanos = totalNanos;
+        this.nanos = Collections.unmodifiableMap(new EnumMap<>(nanos));
+        this.criticalPath = Collections.unmodifiableList(criticalPath);
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    // ⏱️ Time spent on one category (0 if nothing was recorded)
+    public Duration get(TimingCategory category) {
+        return Duration.ofNanos(nanos.getOrDefault(category, 0L));
+    }
+
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    // 🧭 "step > step inside it > ..."
+    public String criticalPathText() {
+        return String.join(" > ", criticalPath);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("total ").append(totalNanos / 1_000_000).append("ms:");
+        for (TimingCategory category : TimingCategory.values()) {
+            long millis = get(category).toMillis();
+            text.append(' ').append(category.getLabel()).append(' ').append(millis).append("ms");
+            if (totalNanos > 0) {
+                text.append(" (").append(Math.round(nanos.getOrDefault(category, 0L) * 100.0 / totalNanos)).append("%)");
+            }
+            text.append(',');
+        }
+        text.setLength(text.length() - 1);
+        if (!criticalPath.isEmpty()) {
+            text.append("; critical path: ").append(criticalPathText());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.mobile.automation.utils;
+
+/**
+ * 🏷️ Timing Category - What a timed step spent its time on
+ *
+ * 📚 WHAT THIS ENUM DOES:
+ * - APPIUM: a round trip to the Appium server (find, click, page source, session)
+ * - ADB: a command sent to the device through adb
+ * - WAIT: waiting for the app inside a WaitEngine or reset poll loop
+ * - SLEEP: a fixed pause (should stay at 0 - every fixed sleep is a bug)
+ * - OTHER: everything else (test code, flow bookkeeping, untimed calls)
+ */
+public enum TimingCategory {
+
+    APPIUM("appium"),
+    ADB("adb"),
+    WAIT("wait"),
+    SLEEP("sleep"),
+    OTHER("other");
+
+    private final String label;
+
+    TimingCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# 🧪 Fake adb - Pretends to be "adb -s <serial> shell [command]" for local tests
+#
+# - With a command: runs it once and exits (like a one-shot "adb shell am ...")
+# - Without a command: reads commands from stdin until EOF (like an interactive adb shell)
+# - FAKE_ADB_STARTUP_MS simulates process start-up + adb server handshake (default 40ms)
+# - Understands the device commands the framework sends: am, pm, pidof, dumpsys, run-as, logcat
+
+startup_ms="${FAKE_ADB_STARTUP_MS:-40}"
+sleep "$(awk "BEGIN { print ${startup_ms} / 1000 }")"
+
+# Skip "-s <serial>" and "shell"
+while [ $# -gt 0 ]; do
+    case "$1" in
+        -s) shift 2 ;;
+        shell) shift; break ;;
+        *) shift ;;
+    esac
+done
+
+am() { return 0; }
+pm() {
+    case "$1" in
+        clear) echo "Success" ;;
+        *) return 0 ;;
+    esac
+}
+pidof() { return 1; }
+dumpsys() {
+    echo "    runtime permissions:"
+    echo "      android.permission.POST_NOTIFICATIONS: granted=false, flags=[ ]"
+}
+run-as() { echo "shared_prefs:"; }
+logcat() { return 0; }
+
+export -f am pm pidof dumpsys run-as logcat
+
+if [ $# -gt 0 ]; then
+    exec bash -c "$*"
+fi
+
+# Interactive: a real shell reading stdin, so multi-line commands work like on a device
+exec bash -s